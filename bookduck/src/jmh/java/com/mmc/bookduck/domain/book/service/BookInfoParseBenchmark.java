@@ -0,0 +1,65 @@
+package com.mmc.bookduck.domain.book.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mmc.bookduck.domain.book.dto.common.BookUnitParseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 구글 도서 검색 응답(20권) 파싱 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookInfoParseBenchmark {
+    private static final ObjectMapper SHARED_OBJECT_MAPPER = new ObjectMapper();
+
+    private BookInfoService bookInfoService;
+    private String searchResponse;
+    private String detailResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 파싱 메소드는 의존성을 사용하지 않음
+        bookInfoService = new BookInfoService(null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null);
+        searchResponse = readResource("/google-books/volumes-search.json");
+        detailResponse = readResource("/google-books/volume-detail.json");
+    }
+
+    // 검색 목록 파싱 (요청마다 ObjectMapper 생성)
+    @Benchmark
+    public List<BookUnitParseDto> parseBookInfo() {
+        return bookInfoService.parseBookInfo(searchResponse);
+    }
+
+    @Benchmark
+    public int parseTotalBooks() {
+        return bookInfoService.parseTotalBooks(searchResponse);
+    }
+
+    // 비교용: ObjectMapper를 재사용할 때의 트리 파싱 비용
+    @Benchmark
+    public JsonNode readTreeWithSharedObjectMapper() throws IOException {
+        return SHARED_OBJECT_MAPPER.readTree(searchResponse);
+    }
+
+    // 상세 응답 트리 파싱 (상세 파싱은 장르 매칭에 DB가 필요해 트리 생성까지만 측정)
+    @Benchmark
+    public JsonNode readDetailTree() throws IOException {
+        return new ObjectMapper().readTree(detailResponse).get("volumeInfo");
+    }
+
+    private String readResource(String path) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mmc.bookduck.domain.book.service;
+
+import com.mmc.bookduck.domain.book.entity.GenreName;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 구글 카테고리 → 장르 매핑 비용 측정 (매핑 순서상 앞/뒤/없는 카테고리)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenreMatchBenchmark {
+    private static final List<List<String>> CATEGORIES = List.of(
+            List.of("Fiction / Literary"),
+            List.of("Business & Economics / Personal Finance / General"),
+            List.of("Computers / Software Development & Engineering / General"),
+            List.of("Literary Collections / Essays", "Literary Collections / General"),
+            List.of("Juvenile Fiction / Classics"),
+            List.of("Self-Help / Personal Growth / Success"),
+            List.of("Antiques & Collectibles / General"),
+            List.of("Social Science / Anthropology / Cultural & Social")
+    );
+
+    private GenreService genreService;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // categoryToGenreName은 저장소를 사용하지 않음
+        genreService = new GenreService(null);
+    }
+
+    @Benchmark
+    public GenreName categoryToGenreName() {
+        return genreService.categoryToGenreName(CATEGORIES.get(index++ % CATEGORIES.size()));
+    }
+
+    // 매핑되는 키가 없어 전체 맵을 순회하는 경우
+    @Benchmark
+    public GenreName categoryToGenreNameNoMatch() {
+        return genreService.categoryToGenreName(CATEGORIES.get(6));
+    }
+}
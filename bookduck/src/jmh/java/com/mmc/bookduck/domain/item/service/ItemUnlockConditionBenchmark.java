@@ -0,0 +1,48 @@
+package com.mmc.bookduck.domain.item.service;
+
+import com.mmc.bookduck.domain.book.entity.GenreName;
+import com.mmc.bookduck.global.initializer.ItemData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 전체 아이템의 언락 조건 파싱 + 판정 비용 측정 (아이템 목록 조회 1회분)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemUnlockConditionBenchmark {
+    private List<String> unlockConditions;
+    private Map<GenreName, Integer> recordCountByGenre;
+
+    @Setup
+    public void setUp() {
+        // InitDB와 같은 형식의 조건 문자열
+        unlockConditions = Arrays.stream(ItemData.values())
+                .map(itemData -> itemData.getUnlockCondition().getGenres() + "%" + itemData.getRequiredCount())
+                .toList();
+        recordCountByGenre = new EnumMap<>(GenreName.class);
+        recordCountByGenre.put(GenreName.FICTION, 4);
+        recordCountByGenre.put(GenreName.LITERARY, 2);
+        recordCountByGenre.put(GenreName.SCIENCE, 6);
+        recordCountByGenre.put(GenreName.COMPUTER, 1);
+        recordCountByGenre.put(GenreName.OTHERS, 3);
+    }
+
+    @Benchmark
+    public int checkAllItems() {
+        int unlockableCount = 0;
+        for (String unlockCondition : unlockConditions) {
+            if (ItemUnlockService.isUnlockConditionMet(unlockCondition, recordCountByGenre)) {
+                unlockableCount++;
+            }
+        }
+        return unlockableCount;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mmc.bookduck.domain.user.service;
+
+import com.mmc.bookduck.domain.user.dto.response.UserGrowthInfoResponseDto;
+import com.mmc.bookduck.domain.user.entity.UserGrowth;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 레벨 계산 비용 측정 (누적 경험치가 클수록 반복 횟수 증가)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserLevelBenchmark {
+    // 대략 Lv.5, Lv.30, Lv.140
+    @Param({"100", "5000", "100000"})
+    private int cumulativeExp;
+
+    private UserGrowth userGrowth;
+
+    @Setup
+    public void setUp() {
+        userGrowth = UserGrowth.builder().build();
+        userGrowth.gainExp(cumulativeExp);
+    }
+
+    // getUserLevelInfo의 레벨 계산
+    @Benchmark
+    public UserGrowthInfoResponseDto calculateLevelInfo() {
+        return UserGrowthService.calculateLevelInfo(userGrowth);
+    }
+
+    // 경험치 획득 시 checkLevelUp (Lv.1에서 목표 경험치까지 한 번에 증가)
+    @Benchmark
+    public boolean gainExpFromLevelOne() {
+        UserGrowth growth = UserGrowth.builder().build();
+        return growth.gainExp(cumulativeExp);
+    }
+}
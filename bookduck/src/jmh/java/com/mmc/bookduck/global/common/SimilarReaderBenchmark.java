@@ -0,0 +1,160 @@
+package com.mmc.bookduck.global.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 10만 명 합성 서재로 MinHash/LSH 비슷한 독자 계산 측정 (전수 비교 대비)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimilarReaderBenchmark {
+    private static final int USER_COUNT = 100_000;
+    private static final int BOOK_COUNT = 200_000;
+    // 취향 그룹: 같은 그룹 유저는 그룹 도서 목록에서 주로 고름
+    private static final int TASTE_GROUP_COUNT = 2_000;
+    private static final int TASTE_GROUP_BOOKS = 60;
+    private static final int BUCKET_LIMIT = 200;
+    private static final int TOP_N = 20;
+
+    private long[] userIds;
+    private long[][] libraries;
+    private int[][] signatures;
+    private MinHashLsh.Index index;
+    private int queryPosition;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long[][] tasteGroups = new long[TASTE_GROUP_COUNT][TASTE_GROUP_BOOKS];
+        for (long[] group : tasteGroups) {
+            for (int i = 0; i < TASTE_GROUP_BOOKS; i++) {
+                group[i] = 1 + random.nextInt(BOOK_COUNT);
+            }
+        }
+
+        userIds = new long[USER_COUNT];
+        libraries = new long[USER_COUNT][];
+        signatures = new int[USER_COUNT][];
+        for (int user = 0; user < USER_COUNT; user++) {
+            userIds[user] = user + 1;
+            long[] group = tasteGroups[random.nextInt(TASTE_GROUP_COUNT)];
+            int size = 5 + random.nextInt(60);
+            long[] library = new long[size];
+            for (int i = 0; i < size; i++) {
+                // 70%는 취향 그룹 도서, 30%는 인기 편중(멱분포) 전체 도서
+                library[i] = random.nextDouble() < 0.7
+                        ? group[random.nextInt(TASTE_GROUP_BOOKS)]
+                        : 1 + (long) (Math.pow(random.nextDouble(), 3) * BOOK_COUNT);
+            }
+            libraries[user] = Arrays.stream(library).distinct().sorted().toArray();
+            signatures[user] = MinHashLsh.signature(libraries[user]);
+        }
+        index = MinHashLsh.buildIndex(userIds, signatures);
+    }
+
+    @Setup(Level.Invocation)
+    public void nextQuery() {
+        queryPosition = (queryPosition + 7919) % USER_COUNT;
+    }
+
+    // 전체 유저 서명 계산 (전체 갱신 배치의 서명 단계)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int[][] computeAllSignatures() {
+        int[][] result = new int[USER_COUNT][];
+        for (int user = 0; user < USER_COUNT; user++) {
+            result[user] = MinHashLsh.signature(libraries[user]);
+        }
+        return result;
+    }
+
+    // 전체 유저 LSH 인덱스 생성
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MinHashLsh.Index buildIndex() {
+        return MinHashLsh.buildIndex(userIds, signatures);
+    }
+
+    // 유저 한 명의 비슷한 독자 후보 조회 + 추정 유사도 계산
+    @Benchmark
+    public double lshQueryPerUser() {
+        int[] signature = signatures[queryPosition];
+        double best = 0;
+        for (int candidate : index.findCandidates(signature, BUCKET_LIMIT)) {
+            if (candidate != queryPosition) {
+                best = Math.max(best, MinHashLsh.estimateSimilarity(signature, index.getSignature(candidate)));
+            }
+        }
+        return best;
+    }
+
+    // 비교 기준: 유저 한 명을 전체 유저와 정확한 자카드 유사도로 비교 (전체는 이 값 x 10만)
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public double bruteForcePerUser() {
+        long[] library = libraries[queryPosition];
+        double best = 0;
+        for (int other = 0; other < USER_COUNT; other++) {
+            if (other != queryPosition) {
+                best = Math.max(best, jaccard(library, libraries[other]));
+            }
+        }
+        return best;
+    }
+
+    // 전체 갱신 배치의 추천 단계 전체 (10만 명 각각 후보 조회 후 TOP_N)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long lshTopNForAllUsers() {
+        long total = 0;
+        double[] scores = new double[TOP_N];
+        for (int user = 0; user < USER_COUNT; user++) {
+            Arrays.fill(scores, 0);
+            int[] signature = signatures[user];
+            for (int candidate : index.findCandidates(signature, BUCKET_LIMIT)) {
+                if (candidate == user) {
+                    continue;
+                }
+                double similarity = MinHashLsh.estimateSimilarity(signature, index.getSignature(candidate));
+                if (similarity > scores[TOP_N - 1]) {
+                    int i = TOP_N - 1;
+                    while (i > 0 && scores[i - 1] < similarity) {
+                        scores[i] = scores[i - 1];
+                        i--;
+                    }
+                    scores[i] = similarity;
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+
+    // 정렬된 두 배열의 자카드 유사도
+    private static double jaccard(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (a.length + b.length - intersection);
+    }
+}
@@ -0,0 +1,46 @@
+package com.mmc.bookduck.global.komoran;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 리뷰 한 건의 형태소 분석 + 명사/형용사 추출 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class KomoranBenchmark {
+    private KomoranService komoranService;
+    private List<String> reviews;
+    private String allReviews;
+    private int index;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 모델 로딩은 측정에서 제외
+        komoranService = new KomoranService();
+        try (InputStream inputStream = getClass().getResourceAsStream("/komoran/review-texts.txt")) {
+            reviews = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.isBlank())
+                    .toList();
+        }
+        allReviews = String.join(" ", reviews);
+    }
+
+    @Benchmark
+    public List<String> extractFromReview() {
+        return komoranService.extractNounsAndAdjectives(reviews.get(index++ % reviews.size()));
+    }
+
+    // 키워드 집계처럼 여러 리뷰를 한 번에 분석하는 경우
+    @Benchmark
+    public List<String> extractFromAllReviews() {
+        return komoranService.extractNounsAndAdjectives(allReviews);
+    }
+}
@@ -0,0 +1,96 @@
+package com.mmc.bookduck.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter 요청당 오버헤드 측정 (기존 이중 파싱 vs 단일 파싱 + 검증 캐시)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+    private static final String ACCESS_SECRET = "Ym9va2R1Y2stYmVuY2htYXJrLWFjY2Vzcy1zZWNyZXQta2V5LTIwMjQ=";
+    private static final String REFRESH_SECRET = "Ym9va2R1Y2stYmVuY2htYXJrLXJlZnJlc2gtc2VjcmV0LWtleS0yMDI0";
+    // 검증 캐시 크기보다 많은 토큰을 순회하여 캐시 미스 상황 재현
+    private static final int DISTINCT_TOKEN_COUNT = 50_000;
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+    private Key accessKey;
+    private String accessToken;
+    private String[] distinctTokens;
+    private int tokenIndex;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(ACCESS_SECRET, REFRESH_SECRET, null);
+        jwtFilter = new JwtFilter(jwtUtil, new CookieUtil());
+        accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_SECRET));
+        accessToken = generateAccessToken("bench@bookduck.com");
+        distinctTokens = new String[DISTINCT_TOKEN_COUNT];
+        for (int i = 0; i < DISTINCT_TOKEN_COUNT; i++) {
+            distinctTokens[i] = generateAccessToken("bench" + i + "@bookduck.com");
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 변경 전: 요청마다 parserBuilder를 새로 만들어 같은 토큰을 두 번 검증
+    @Benchmark
+    public Authentication legacyDoubleParse() {
+        Jwts.parserBuilder().setSigningKey(accessKey).build().parseClaimsJws(accessToken);
+        Claims claims = Jwts.parserBuilder().setSigningKey(accessKey).build().parseClaimsJws(accessToken).getBody();
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(claims.get("role").toString()));
+        org.springframework.security.core.userdetails.User principal =
+                new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    // 변경 후: 같은 토큰 반복 요청 (검증 캐시 적중)
+    @Benchmark
+    public Authentication singleParseCached() {
+        return jwtUtil.getAuthentication(jwtUtil.parseAccessToken(accessToken));
+    }
+
+    // 변경 후: 매번 다른 토큰 (검증 캐시 미스, 파서 재사용만 적용)
+    @Benchmark
+    public Authentication singleParseDistinctTokens() {
+        String token = distinctTokens[tokenIndex++ % DISTINCT_TOKEN_COUNT];
+        return jwtUtil.getAuthentication(jwtUtil.parseAccessToken(token));
+    }
+
+    // 필터 전체 경로 (요청 객체 생성 포함)
+    @Benchmark
+    public Object filterPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private String generateAccessToken(String email) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtUtil.generateAccessToken(authentication);
+    }
+}
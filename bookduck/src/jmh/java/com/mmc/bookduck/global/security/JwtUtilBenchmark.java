@@ -0,0 +1,76 @@
+package com.mmc.bookduck.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 발급과 검증 비용 측정 (리프레시 토큰 발급은 Redis 저장이 포함되어 제외)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+    private static final String ACCESS_SECRET = "Ym9va2R1Y2stYmVuY2htYXJrLWFjY2Vzcy1zZWNyZXQta2V5LTIwMjQ=";
+    private static final String REFRESH_SECRET = "Ym9va2R1Y2stYmVuY2htYXJrLXJlZnJlc2gtc2VjcmV0LWtleS0yMDI0";
+    // 검증 캐시 크기보다 많은 토큰을 순회하여 서명 검증 비용 측정
+    private static final int DISTINCT_TOKEN_COUNT = 50_000;
+
+    private JwtUtil jwtUtil;
+    private Authentication authentication;
+    private String accessToken;
+    private String refreshToken;
+    private String[] distinctTokens;
+    private int tokenIndex;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(ACCESS_SECRET, REFRESH_SECRET, null);
+        authentication = new UsernamePasswordAuthenticationToken(
+                "bench@bookduck.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = jwtUtil.generateAccessToken(authentication, 1L);
+        refreshToken = Jwts.builder()
+                .setSubject("bench@bookduck.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(14)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(REFRESH_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+        distinctTokens = new String[DISTINCT_TOKEN_COUNT];
+        for (int i = 0; i < DISTINCT_TOKEN_COUNT; i++) {
+            distinctTokens[i] = jwtUtil.generateAccessToken(authentication, (long) i);
+        }
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(authentication, 1L);
+    }
+
+    // 검증 캐시 적중
+    @Benchmark
+    public Claims parseAccessTokenCached() {
+        return jwtUtil.parseAccessToken(accessToken);
+    }
+
+    // 검증 캐시 미스 (서명 검증)
+    @Benchmark
+    public Claims parseAccessTokenDistinct() {
+        return jwtUtil.parseAccessToken(distinctTokens[tokenIndex++ % DISTINCT_TOKEN_COUNT]);
+    }
+
+    @Benchmark
+    public void validateRefreshToken() {
+        jwtUtil.validateRefreshToken(refreshToken);
+    }
+}
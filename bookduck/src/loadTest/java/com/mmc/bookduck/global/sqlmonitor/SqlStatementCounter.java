@@ -0,0 +1,50 @@
+package com.mmc.bookduck.global.sqlmonitor;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 테스트에서 호출 하나가 실행한 SQL 수를 센다.
+ * 애플리케이션 DataSource는 SqlMonitoringDataSourcePostProcessor로 감싸져 있으므로 같은 집계를 그대로 사용한다.
+ * 호출한 스레드에서 실행된 쿼리만 집계된다.
+ */
+public final class SqlStatementCounter {
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlRequestStats count(Runnable action) {
+        if (SqlRequestContext.current() != null) {
+            throw new IllegalStateException("SQL statements are already being counted on this thread");
+        }
+        SqlRequestContext.begin();
+        SqlRequestStats stats;
+        try {
+            action.run();
+        } finally {
+            stats = SqlRequestContext.end();
+        }
+        return stats;
+    }
+
+    // 실행한 SQL이 maxStatements개를 넘으면 실패
+    public static SqlRequestStats assertAtMost(int maxStatements, Runnable action) {
+        SqlRequestStats stats = count(action);
+        if (stats.getStatementCount() > maxStatements) {
+            fail(String.format("Expected at most %d statements but %d were executed:%n%s",
+                    maxStatements, stats.getStatementCount(), describe(stats)));
+        }
+        return stats;
+    }
+
+    // 쿼리 형태별 실행 횟수 (많은 순)
+    public static String describe(SqlRequestStats stats) {
+        return stats.getShapeCounts().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .map(entry -> String.format("  %4dx %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
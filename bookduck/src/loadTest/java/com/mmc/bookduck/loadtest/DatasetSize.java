@@ -0,0 +1,34 @@
+package com.mmc.bookduck.loadtest;
+
+// 생성할 데이터 규모 (scale 1.0 = 사용자 10만, 서재 100만, 발췌+리뷰 200만)
+public record DatasetSize(
+        int users,
+        int books,
+        int userBooks,
+        int excerpts,
+        int reviews,
+        int oneLines,
+        int friendships,
+        int folders,
+        int maxFolderBooks,
+        int alarms
+) {
+    public static DatasetSize ofScale(double scale) {
+        return new DatasetSize(
+                scaled(100_000, scale),
+                scaled(50_000, scale),
+                scaled(1_000_000, scale),
+                scaled(1_000_000, scale),
+                scaled(1_000_000, scale),
+                scaled(300_000, scale),
+                scaled(500_000, scale),
+                scaled(60_000, scale),
+                20,
+                scaled(1_000_000, scale)
+        );
+    }
+
+    private static int scaled(int base, double scale) {
+        return Math.max(10, (int) Math.round(base * scale));
+    }
+}
@@ -0,0 +1,42 @@
+package com.mmc.bookduck.loadtest;
+
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+// 테스트 JVM당 하나만 띄우는 임베디드 Redis (JVM 종료 시 정리)
+public final class EmbeddedRedis {
+    private static int port;
+
+    private EmbeddedRedis() {
+    }
+
+    public static synchronized int port() {
+        if (port == 0) {
+            try {
+                int freePort = freePort();
+                RedisServer server = new RedisServer(freePort);
+                server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        server.stop();
+                    } catch (IOException ignored) {
+                        // 종료 중이므로 무시
+                    }
+                }));
+                port = freePort;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start embedded Redis", e);
+            }
+        }
+        return port;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
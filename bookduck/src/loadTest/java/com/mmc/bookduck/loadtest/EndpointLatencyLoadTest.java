@@ -0,0 +1,241 @@
+package com.mmc.bookduck.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.storage.Storage;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.mmc.bookduck.global.security.JwtUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 합성 데이터 위에서 주요 조회 API를 동시에 호출하고 엔드포인트별 p50/p95/p99가 예산 안인지 확인한다.
+ * 실행: ./gradlew loadTest [-PloadtestScale=1.0]
+ * 조정: -Dloadtest.requests, -Dloadtest.concurrency, -Dloadtest.warmup, -Dloadtest.google-latency-ms
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointLatencyLoadTest {
+    private static final long SEED = 20241101L;
+    private static final double SCALE = Double.parseDouble(System.getProperty("loadtest.scale", "0.1"));
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 500);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 50);
+    private static final long GOOGLE_LATENCY_MILLIS = Long.getLong("loadtest.google-latency-ms", 80L);
+
+    private static GoogleBooksStubServer googleBooksStub;
+
+    @MockBean
+    private Storage storage;
+    @MockBean
+    private FirebaseApp firebaseApp;
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final Map<Long, String> accessTokens = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpClient httpClient;
+    private GeneratedDataset dataset;
+    private SkewedSampler activeUserSampler;
+    private SkewedSampler popularBookSampler;
+
+    @DynamicPropertySource
+    static void externalServices(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort = EmbeddedRedis.port();
+        googleBooksStub = new GoogleBooksStubServer(GOOGLE_LATENCY_MILLIS);
+        registry.add("spring.data.redis.host", () -> "127.0.0.1");
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("google.books.api.base-url", googleBooksStub::baseUrl);
+    }
+
+    @BeforeAll
+    void seed() {
+        DatasetSize size = DatasetSize.ofScale(SCALE);
+        long startedAt = System.nanoTime();
+        dataset = new SyntheticDataGenerator(jdbcTemplate, size, SEED).generate();
+        System.out.printf("[loadtest] seeded %s in %ds%n", size, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt));
+
+        googleBooksStub.useCatalog(dataset.firstBookInfoId(), size.books());
+        activeUserSampler = new SkewedSampler(size.users(), 0.9);
+        popularBookSampler = new SkewedSampler(size.books(), 1.0);
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @AfterAll
+    void stopExternalServices() {
+        googleBooksStub.close();
+    }
+
+    @Test
+    void endpointsStayWithinLatencyBudgets() throws Exception {
+        LatencyBudgets budgets = new LatencyBudgets();
+        List<LatencyStats.Summary> summaries = new ArrayList<>();
+        for (Map.Entry<String, Function<Random, Target>> scenario : scenarios().entrySet()) {
+            summaries.add(run(scenario.getKey(), scenario.getValue()));
+        }
+
+        List<String> violations = new ArrayList<>();
+        System.out.printf("%n%-20s %7s %6s %9s %9s %9s %9s   %s%n",
+                "endpoint", "count", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "budget");
+        for (LatencyStats.Summary summary : summaries) {
+            System.out.printf("%-20s %7d %6d %9.1f %9.1f %9.1f %9.1f   %s%n",
+                    summary.endpoint(), summary.count(), summary.errors(), summary.p50(), summary.p95(),
+                    summary.p99(), summary.max(), budgets.describe(summary.endpoint()));
+            violations.addAll(budgets.violations(summary));
+        }
+        writeReport(summaries);
+
+        assertTrue(violations.isEmpty(), "Latency budget exceeded:\n" + String.join("\n", violations));
+    }
+
+    // 엔드포인트 이름 → 요청 대상 생성 (활동량 많은 사용자, 인기 도서에 요청이 몰리도록)
+    private Map<String, Function<Random, Target>> scenarios() {
+        Map<String, Function<Random, Target>> scenarios = new LinkedHashMap<>();
+        scenarios.put("library", random -> new Target("/books/library?sort=latest&size=30", activeUser(random)));
+        scenarios.put("library-title", random -> new Target("/books/library?sort=title&size=30", activeUser(random)));
+        scenarios.put("userbook-detail", random -> {
+            int index = random.nextInt(dataset.userBookOwnerIds().length);
+            return new Target("/books/" + dataset.userBookId(index), dataset.userBookOwnerId(index));
+        });
+        scenarios.put("bookinfo-detail", random -> new Target("/bookinfo/" + popularBook(random), activeUser(random)));
+        scenarios.put("bookinfo-onelines", random -> new Target("/bookinfo/" + popularBook(random) + "/onelineratings", activeUser(random)));
+        // 검색은 사용자별 처리율 제한이 있어 사용자를 고르게 분산
+        scenarios.put("book-search", random -> new Target("/bookinfo/search?keyword="
+                + URLEncoder.encode("소설", StandardCharsets.UTF_8) + "&page=0&size=20", anyUser(random)));
+        scenarios.put("user-info", random -> new Target("/users/" + activeUser(random), activeUser(random)));
+        scenarios.put("user-statistics", random -> {
+            long userId = activeUser(random);
+            return new Target("/users/" + userId + "/statistics", userId);
+        });
+        scenarios.put("user-archives", random -> new Target("/users/" + activeUser(random) + "/archives?type=ALL&page=0&size=20", activeUser(random)));
+        scenarios.put("folder-list", random -> new Target("/folders/list", activeUser(random)));
+        scenarios.put("folder-books", random -> {
+            int index = random.nextInt(dataset.folderOwnerIds().length);
+            return new Target("/folders/" + dataset.folderId(index) + "/books", dataset.folderOwnerId(index));
+        });
+        scenarios.put("friends", random -> new Target("/friends", activeUser(random)));
+        scenarios.put("alarms", random -> new Target("/alarms/common?page=0&size=20", activeUser(random)));
+        scenarios.put("badges", random -> new Target("/badges", activeUser(random)));
+        scenarios.put("feed", random -> new Target("/feeds?size=20", activeUser(random)));
+        scenarios.put("sync", random -> new Target("/sync?limit=500", activeUser(random)));
+        return scenarios;
+    }
+
+    private LatencyStats.Summary run(String endpoint, Function<Random, Target> targets) throws InterruptedException {
+        LatencyStats warmupStats = new LatencyStats(endpoint, WARMUP);
+        drive(targets, WARMUP, warmupStats);
+        LatencyStats stats = new LatencyStats(endpoint, REQUESTS);
+        drive(targets, REQUESTS, stats);
+        return stats.summarize();
+    }
+
+    private void drive(Function<Random, Target> targets, int requestCount, LatencyStats stats) throws InterruptedException {
+        try (ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY)) {
+            for (int i = 0; i < requestCount; i++) {
+                workers.submit(() -> {
+                    Target target = targets.apply(ThreadLocalRandom.current());
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + target.path()))
+                            .header("Authorization", "Bearer " + accessToken(target.userId()))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                    long startedAt = System.nanoTime();
+                    boolean success;
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        success = response.statusCode() < 400;
+                    } catch (IOException e) {
+                        success = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    stats.record(System.nanoTime() - startedAt, success);
+                });
+            }
+            workers.shutdown();
+            workers.awaitTermination(10, TimeUnit.MINUTES);
+        }
+    }
+
+    private long activeUser(Random random) {
+        return dataset.userId(activeUserSampler.next(random));
+    }
+
+    private long anyUser(Random random) {
+        return dataset.userId(random.nextInt(dataset.size().users()));
+    }
+
+    private long popularBook(Random random) {
+        return dataset.bookInfoId(popularBookSampler.next(random));
+    }
+
+    private String accessToken(long userId) {
+        return accessTokens.computeIfAbsent(userId, id -> jwtUtil.generateAccessToken(
+                new UsernamePasswordAuthenticationToken("loadtest" + id + "@bookduck.com", null,
+                        List.of(new SimpleGrantedAuthority("ROLE_USER"))), id));
+    }
+
+    private void writeReport(List<LatencyStats.Summary> summaries) throws IOException {
+        File reportDir = new File(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        if (!reportDir.exists() && !reportDir.mkdirs()) {
+            throw new IOException("Cannot create " + reportDir);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scale", SCALE);
+        report.put("dataset", dataset.size());
+        report.put("requestsPerEndpoint", REQUESTS);
+        report.put("concurrency", CONCURRENCY);
+        report.put("endpoints", summaries);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(reportDir, "latency.json"), report);
+    }
+
+    private record Target(String path, long userId) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.mmc.bookduck.loadtest;
+
+// 생성된 데이터의 id 범위와 소유자 정보 (요청 대상 선택용)
+public record GeneratedDataset(
+        DatasetSize size,
+        long firstUserId,
+        long firstBookInfoId,
+        long firstUserBookId,
+        long firstFolderId,
+        long[] userBookOwnerIds,
+        long[] folderOwnerIds
+) {
+    public long userId(int index) {
+        return firstUserId + index;
+    }
+
+    public long bookInfoId(int index) {
+        return firstBookInfoId + index;
+    }
+
+    public long userBookId(int index) {
+        return firstUserBookId + index;
+    }
+
+    public long userBookOwnerId(int index) {
+        return userBookOwnerIds[index];
+    }
+
+    public long folderId(int index) {
+        return firstFolderId + index;
+    }
+
+    public long folderOwnerId(int index) {
+        return folderOwnerIds[index];
+    }
+}
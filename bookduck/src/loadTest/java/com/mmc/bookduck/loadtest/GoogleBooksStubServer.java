@@ -0,0 +1,131 @@
+package com.mmc.bookduck.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Google Books API를 대신하는 로컬 HTTP 서버.
+ * 검색은 합성 데이터의 providerId로 결과를 만들고, 외부 API 지연을 흉내 내도록 고정 지연을 둔다.
+ */
+public class GoogleBooksStubServer implements AutoCloseable {
+    private static final String VOLUMES_PATH = "/books/v1/volumes";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final long latencyMillis;
+    private volatile long firstBookInfoId = 1;
+    private volatile long bookCount = 1;
+
+    // 컨텍스트 시작 전에 주소가 필요하므로 먼저 띄우고, 데이터 생성 후 useCatalog로 도서 범위를 지정
+    public GoogleBooksStubServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(VOLUMES_PATH, this::handle);
+        server.start();
+    }
+
+    public void useCatalog(long firstBookInfoId, long bookCount) {
+        this.firstBookInfoId = firstBookInfoId;
+        this.bookCount = bookCount;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/books/v1";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sleep();
+            String path = exchange.getRequestURI().getPath();
+            ObjectNode body = path.length() > VOLUMES_PATH.length() + 1
+                    ? volume(path.substring(VOLUMES_PATH.length() + 1))
+                    : searchResult(exchange.getRequestURI().getRawQuery());
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        }
+    }
+
+    private ObjectNode searchResult(String query) {
+        int maxResults = intParam(query, "maxResults", 20);
+        int startIndex = intParam(query, "startIndex", 0);
+        long firstBookInfoId = this.firstBookInfoId;
+        long bookCount = this.bookCount;
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("kind", "books#volumes");
+        root.put("totalItems", bookCount);
+        ArrayNode items = root.putArray("items");
+        // 키워드와 관계없이 인기 도서 쪽(앞 번호)을 돌려줘 서재에 있는 책과 겹치게 함
+        for (int i = 0; i < maxResults; i++) {
+            long bookInfoId = firstBookInfoId + (startIndex + i) % bookCount;
+            items.add(volume(SyntheticDataGenerator.providerId(bookInfoId)));
+        }
+        return root;
+    }
+
+    private ObjectNode volume(String providerId) {
+        ObjectNode volume = objectMapper.createObjectNode();
+        volume.put("kind", "books#volume");
+        volume.put("id", providerId);
+        ObjectNode info = volume.putObject("volumeInfo");
+        info.put("title", "합성 도서 " + providerId);
+        info.putArray("authors").add("부하 테스트");
+        info.put("publisher", "북덕");
+        info.put("publishedDate", "2020-01-01");
+        info.put("description", "부하 테스트용 도서 설명입니다.");
+        info.put("pageCount", 320);
+        info.putArray("categories").add("Fiction / Literary");
+        info.put("language", "ko");
+        ObjectNode imageLinks = info.putObject("imageLinks");
+        imageLinks.put("smallThumbnail", "http://books.google.com/books/content?id=" + providerId + "&zoom=5");
+        imageLinks.put("thumbnail", "http://books.google.com/books/content?id=" + providerId + "&zoom=1");
+        return volume;
+    }
+
+    private int intParam(String query, String name, int defaultValue) {
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                try {
+                    return Integer.parseInt(URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,58 @@
+package com.mmc.bookduck.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 엔드포인트별 지연 예산 (loadtest-budgets.properties).
+ * 형식: budget.<엔드포인트>.p50|p95|p99=<ms>, 지정하지 않은 백분위는 검사하지 않음.
+ * 시스템 프로퍼티 loadtest.budget.<엔드포인트>.<백분위>로 덮어쓸 수 있다.
+ */
+public class LatencyBudgets {
+    private static final String RESOURCE = "/loadtest-budgets.properties";
+
+    private final Properties properties = new Properties();
+    private final double maxErrorRate;
+
+    public LatencyBudgets() throws IOException {
+        try (InputStream inputStream = LatencyBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (inputStream != null) {
+                properties.load(inputStream);
+            }
+        }
+        maxErrorRate = Double.parseDouble(lookup("max-error-rate", "0.01"));
+    }
+
+    public List<String> violations(LatencyStats.Summary summary) {
+        List<String> violations = new ArrayList<>();
+        check(violations, summary, "p50", summary.p50());
+        check(violations, summary, "p95", summary.p95());
+        check(violations, summary, "p99", summary.p99());
+        if (summary.errorRate() > maxErrorRate) {
+            violations.add(String.format("%s error rate %.2f%% > %.2f%%",
+                    summary.endpoint(), summary.errorRate() * 100, maxErrorRate * 100));
+        }
+        return violations;
+    }
+
+    public String describe(String endpoint) {
+        return String.format("p50<=%s p95<=%s p99<=%s",
+                lookup("budget." + endpoint + ".p50", "-"),
+                lookup("budget." + endpoint + ".p95", "-"),
+                lookup("budget." + endpoint + ".p99", "-"));
+    }
+
+    private void check(List<String> violations, LatencyStats.Summary summary, String percentile, double actual) {
+        String budget = lookup("budget." + summary.endpoint() + "." + percentile, null);
+        if (budget != null && actual > Double.parseDouble(budget)) {
+            violations.add(String.format("%s %s %.1fms > budget %sms", summary.endpoint(), percentile, actual, budget));
+        }
+    }
+
+    private String lookup(String key, String defaultValue) {
+        return System.getProperty("loadtest." + key, properties.getProperty(key, defaultValue));
+    }
+}
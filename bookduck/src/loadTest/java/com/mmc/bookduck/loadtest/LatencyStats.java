@@ -0,0 +1,59 @@
+package com.mmc.bookduck.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 엔드포인트 하나의 응답 시간 기록 (정해진 요청 수만큼 미리 할당)
+public class LatencyStats {
+    private final String endpoint;
+    private final AtomicLongArray latencies;
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    public LatencyStats(String endpoint, int capacity) {
+        this.endpoint = endpoint;
+        this.latencies = new AtomicLongArray(capacity);
+    }
+
+    public void record(long nanos, boolean success) {
+        int index = recorded.getAndIncrement();
+        if (index < latencies.length()) {
+            latencies.set(index, nanos);
+        }
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    public Summary summarize() {
+        int count = Math.min(recorded.get(), latencies.length());
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        return new Summary(endpoint, count, errors.get(),
+                toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.95)),
+                toMillis(percentile(sorted, 0.99)), toMillis(count > 0 ? sorted[count - 1] : 0));
+    }
+
+    // nearest-rank 방식
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Summary(String endpoint, int count, int errors, double p50, double p95, double p99, double max) {
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.mmc.bookduck.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// 0..size-1 인덱스를 멱법칙(Zipf) 분포로 뽑음. 앞 인덱스일수록 자주 뽑힘
+final class SkewedSampler {
+    private final double[] cumulative;
+
+    SkewedSampler(int size, double exponent) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int position = index >= 0 ? index : -index - 1;
+        return Math.min(position, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,214 @@
+package com.mmc.bookduck.loadtest;
+
+import com.google.cloud.storage.Storage;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.mmc.bookduck.domain.archive.entity.ArchiveType;
+import com.mmc.bookduck.domain.archive.service.ArchiveService;
+import com.mmc.bookduck.domain.badge.service.BadgeUnlockService;
+import com.mmc.bookduck.domain.book.service.BookInfoService;
+import com.mmc.bookduck.domain.folder.service.FolderService;
+import com.mmc.bookduck.domain.friend.service.FriendService;
+import com.mmc.bookduck.domain.homecard.service.UserReadingSpaceService;
+import com.mmc.bookduck.domain.item.service.ItemUnlockService;
+import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.domain.user.repository.UserNicknameIndex;
+import com.mmc.bookduck.domain.user.repository.UserRepository;
+import com.mmc.bookduck.domain.user.service.UserSearchService;
+import com.mmc.bookduck.global.security.AuthenticatedUser;
+import com.mmc.bookduck.global.sqlmonitor.SqlRequestStats;
+import com.mmc.bookduck.global.sqlmonitor.SqlStatementCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 서비스 메소드가 실행하는 SQL 수가 상한 이하이고, 데이터가 10배로 늘어도 늘지 않는지 확인한다.
+ * 같은 DB에 작은 데이터셋과 큰 데이터셋을 차례로 만들고, 각 데이터셋에서 활동량이 가장 많은 사용자로 호출한다.
+ * 첫 호출(캐시가 비어 있고 뱃지/아이템을 지급하는 경우)과 두 번째 호출(캐시 적중)에 각각 상한을 둔다.
+ * 데이터 크기 비교는 캐시 적중 여부에 따라 수가 달라지지 않는 두 번째 호출로 한다.
+ * 실행: ./gradlew statementCountTest
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementCountRegressionTest {
+    private static final double SMALL_SCALE = Double.parseDouble(System.getProperty("loadtest.statement-count.small-scale", "0.002"));
+    private static final double LARGE_SCALE = Double.parseDouble(System.getProperty("loadtest.statement-count.large-scale", "0.02"));
+
+    private static GoogleBooksStubServer googleBooksStub;
+
+    @MockBean
+    private Storage storage;
+    @MockBean
+    private FirebaseApp firebaseApp;
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserNicknameIndex userNicknameIndex;
+    @Autowired
+    private ArchiveService archiveService;
+    @Autowired
+    private FolderService folderService;
+    @Autowired
+    private FriendService friendService;
+    @Autowired
+    private UserSearchService userSearchService;
+    @Autowired
+    private BookInfoService bookInfoService;
+    @Autowired
+    private UserReadingSpaceService userReadingSpaceService;
+    @Autowired
+    private BadgeUnlockService badgeUnlockService;
+    @Autowired
+    private ItemUnlockService itemUnlockService;
+
+    private GeneratedDataset smallDataset;
+    private GeneratedDataset largeDataset;
+
+    @DynamicPropertySource
+    static void externalServices(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort = EmbeddedRedis.port();
+        googleBooksStub = new GoogleBooksStubServer(0);
+        registry.add("spring.data.redis.host", () -> "127.0.0.1");
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("google.books.api.base-url", googleBooksStub::baseUrl);
+    }
+
+    @BeforeAll
+    void seed() {
+        smallDataset = new SyntheticDataGenerator(jdbcTemplate, DatasetSize.ofScale(SMALL_SCALE), 1L).generate();
+        largeDataset = new SyntheticDataGenerator(jdbcTemplate, DatasetSize.ofScale(LARGE_SCALE), 2L).generate();
+        // 닉네임 검색 인덱스는 시작 시점에 만들어지므로 생성한 사용자를 반영
+        userNicknameIndex.rebuild();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterAll
+    void stopExternalServices() {
+        googleBooksStub.close();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    void statementCountDoesNotGrowWithData(Scenario scenario) {
+        SqlRequestStats small = measure(scenario, smallDataset).warm();
+        SqlRequestStats large = measure(scenario, largeDataset).warm();
+
+        assertTrue(large.getStatementCount() <= small.getStatementCount(), String.format(
+                "%s issued %d statements on the small dataset but %d on the large one:%n%s",
+                scenario.name(), small.getStatementCount(), large.getStatementCount(), SqlStatementCounter.describe(large)));
+    }
+
+    // 이름, 두 번째 호출 SQL 수 상한, 첫 호출 SQL 수 상한(캐시 채우기, 지급 포함), 호출할 사용자, 호출
+    private List<Scenario> scenarios() {
+        return List.of(
+                new Scenario("ArchiveService.getUserArchive", 5, 8, this::heaviestUser,
+                        (dataset, userId) -> archiveService.getUserArchive(userId, ArchiveType.ALL, PageRequest.of(0, 20))),
+                new Scenario("FolderService.getFolderBookList", 5, 8, dataset -> dataset.folderOwnerId(folderOfHeaviestOwner(dataset)),
+                        (dataset, userId) -> folderService.getFolderBookList(dataset.folderId(folderOfHeaviestOwner(dataset)))),
+                new Scenario("FolderService.getAllFolderList", 3, 6, dataset -> dataset.folderOwnerId(folderOfHeaviestOwner(dataset)),
+                        (dataset, userId) -> folderService.getAllFolderList()),
+                new Scenario("FriendService.getFriendList", 6, 10, this::heaviestUser,
+                        (dataset, userId) -> friendService.getFriendList()),
+                new Scenario("UserSearchService.searchUsers", 4, 8, this::heaviestUser,
+                        (dataset, userId) -> userSearchService.searchUsers("덕", PageRequest.of(0, 20))),
+                new Scenario("BookInfoService.getOneLineList", 6, 10, this::heaviestUser,
+                        (dataset, userId) -> bookInfoService.getOneLineList(dataset.bookInfoId(0), "likes", PageRequest.of(0, 20))),
+                new Scenario("UserReadingSpaceService.getUserReadingSpace", 5, 10, this::heaviestUser,
+                        (dataset, userId) -> userReadingSpaceService.getUserReadingSpace(userId)),
+                new Scenario("BookInfoService.searchBookList", 6, 10, this::heaviestUser,
+                        (dataset, userId) -> bookInfoService.searchBookList("소설", 0L, 20L)),
+                // 첫 호출은 지급한 뱃지/아이템마다 알림을 저장하므로 상한이 큼 (알림 id가 IDENTITY라 배치되지 않음)
+                new Scenario("BadgeUnlockService.checkAndUnlockBadges", 10, 40, this::heaviestUser,
+                        (dataset, userId) -> inTransaction(userId, badgeUnlockService::checkAndUnlockBadges)),
+                new Scenario("ItemUnlockService.createUserItemForUnlockableItems", 10, 40, this::heaviestUser,
+                        (dataset, userId) -> inTransaction(userId, itemUnlockService::createUserItemForUnlockableItems))
+        );
+    }
+
+    private Measurement measure(Scenario scenario, GeneratedDataset dataset) {
+        long userId = scenario.currentUser().applyAsLong(dataset);
+        authenticate(userId);
+        googleBooksStub.useCatalog(dataset.firstBookInfoId(), dataset.size().books());
+
+        // 첫 호출은 캐시를 채우고 획득 가능한 뱃지/아이템을 지급하므로 별도 상한으로 확인 (첫 방문의 N+1 검출)
+        SqlRequestStats cold = SqlStatementCounter.assertAtMost(scenario.maxColdStatements(),
+                () -> scenario.call().accept(dataset, userId));
+        SqlRequestStats warm = SqlStatementCounter.assertAtMost(scenario.maxStatements(),
+                () -> scenario.call().accept(dataset, userId));
+        return new Measurement(cold, warm);
+    }
+
+    // 엔티티를 받는 메소드는 실제 호출부처럼 트랜잭션 안에서 영속 상태의 사용자로 호출 (사용자 조회 1건 포함)
+    private void inTransaction(long userId, Consumer<User> call) {
+        transactionTemplate.executeWithoutResult(status ->
+                call.accept(userRepository.findById(userId).orElseThrow()));
+    }
+
+    private void authenticate(long userId) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        AuthenticatedUser principal = new AuthenticatedUser("loadtest" + userId + "@bookduck.com", userId, authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", authorities));
+    }
+
+    // 생성기는 앞 번호 사용자에게 활동을 몰아주므로 첫 사용자가 데이터가 가장 많음
+    private long heaviestUser(GeneratedDataset dataset) {
+        return dataset.userId(0);
+    }
+
+    private int folderOfHeaviestOwner(GeneratedDataset dataset) {
+        for (int i = 0; i < dataset.folderOwnerIds().length; i++) {
+            if (dataset.folderOwnerId(i) == heaviestUser(dataset)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    record Measurement(SqlRequestStats cold, SqlRequestStats warm) {
+    }
+
+    record Scenario(String name, int maxStatements, int maxColdStatements, ToLongFunction<GeneratedDataset> currentUser,
+                    BiConsumer<GeneratedDataset, Long> call) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.mmc.bookduck.loadtest;
+
+import com.mmc.bookduck.domain.alarm.entity.AlarmType;
+import com.mmc.bookduck.domain.book.entity.GenreName;
+import com.mmc.bookduck.domain.book.entity.ReadStatus;
+import com.mmc.bookduck.domain.common.Visibility;
+import com.mmc.bookduck.domain.user.entity.RecordFont;
+import com.mmc.bookduck.domain.user.entity.UserGrowth;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 운영 규모를 흉내 낸 합성 데이터를 JDBC 배치로 적재한다.
+ * 활동량(서재, 기록, 친구 수)과 도서 인기도는 멱법칙을 따르도록 치우치게 생성하고,
+ * 같은 seed면 항상 같은 데이터가 만들어진다.
+ */
+public class SyntheticDataGenerator {
+    private static final int BATCH_SIZE = 5_000;
+    private static final long ORDER_GAP = 1L << 16;
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final int PERIOD_MINUTES = 60 * 24 * 600;
+
+    private static final String[] TITLE_WORDS = {
+            "바다", "기억", "여름", "도시", "밤", "편지", "정원", "소년", "고양이", "시간", "우주", "겨울",
+            "서점", "비밀", "꿈", "역사", "돈", "마음", "습관", "코드", "여행", "부엌", "철학", "과학"
+    };
+    private static final String[] AUTHORS = {
+            "김민준", "이서연", "박지호", "최수아", "정도윤", "강하은", "조시우", "윤지유", "장서준", "임하윤",
+            "한강", "김영하", "손원평", "김호연", "유발 하라리", "칼 세이건", "로버트 C. 마틴", "헤르만 헤세"
+    };
+    private static final String[] SENTENCES = {
+            "처음에는 지루했지만 중반부터 몰입감이 대단했다.",
+            "문장이 아름다워서 몇 번이고 다시 읽었다.",
+            "결말이 예상과 달라서 여운이 길게 남는다.",
+            "지친 하루에 위로가 되는 이야기였다.",
+            "설명이 친절하고 비유가 재미있어서 술술 읽혔다.",
+            "구체적인 방법이 많아서 바로 실천해 볼 만하다.",
+            "등장인물들의 대화가 현실적이고 유머러스하다.",
+            "생각할 거리를 계속 던져 주는 책이다."
+    };
+    private static final String[] COLORS = {"#FFE1E1", "#E1F0FF", "#E8FFE1", "#FFF6D6", "#EDE1FF"};
+    private static final ReadStatus[] READ_STATUSES = ReadStatus.values();
+    private static final AlarmType[] ALARM_TYPES = {
+            AlarmType.FRIEND_REQUEST, AlarmType.FRIEND_APPROVED, AlarmType.ONELINELIKE_ADDED,
+            AlarmType.LEVEL_UP, AlarmType.BADGE_UNLOCKED, AlarmType.ITEM_UNLOCKED
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetSize size;
+    private final Random random;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, DatasetSize size, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.size = size;
+        this.random = new Random(seed);
+    }
+
+    public GeneratedDataset generate() {
+        Map<GenreName, Long> genreIds = insertGenres();
+        long firstUserId = nextId("user", "user_id");
+        long firstBookInfoId = nextId("book_info", "book_info_id");
+        long firstUserBookId = nextId("user_book", "user_book_id");
+        long firstFolderId = nextId("folder", "folder_id");
+
+        insertUsers(firstUserId);
+        insertBooks(firstBookInfoId, genreIds);
+        UserBookIndex userBooks = insertUserBooks(firstUserId, firstBookInfoId, firstUserBookId);
+        insertExcerptsAndReviews(userBooks);
+        insertOneLines(userBooks);
+        insertFriends(firstUserId);
+        long[] folderOwnerIds = insertFolders(firstFolderId, userBooks);
+        insertAlarms(firstUserId);
+        restartIdentities();
+
+        return new GeneratedDataset(size, firstUserId, firstBookInfoId, firstUserBookId, firstFolderId,
+                userBooks.ownerIds, folderOwnerIds);
+    }
+
+    private Map<GenreName, Long> insertGenres() {
+        for (GenreName genreName : GenreName.values()) {
+            jdbcTemplate.update("insert into genre (genre_name) select ? where not exists "
+                    + "(select 1 from genre where genre_name = ?)", genreName.name(), genreName.name());
+        }
+        return jdbcTemplate.query("select genre_id, genre_name from genre", (rs, rowNum) ->
+                        Map.entry(GenreName.valueOf(rs.getString("genre_name")), rs.getLong("genre_id")))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a));
+    }
+
+    private void insertUsers(long firstUserId) {
+        // 앞 번호 사용자일수록 경험치가 많음 (활동량 편중)
+        SkewedSampler expSampler = new SkewedSampler(2_000, 1.1);
+        BatchWriter users = new BatchWriter("insert into user (user_id, email, login_type, nickname, role, user_status, "
+                + "last_seen_announcement_id, is_official, created_time, modified_time) values (?, ?, ?, ?, ?, ?, 0, false, ?, ?)");
+        BatchWriter growths = new BatchWriter("insert into user_growth (user_growth_id, level, cumulative_exp, user_id) "
+                + "values (?, ?, ?, ?)");
+        BatchWriter settings = new BatchWriter("insert into user_setting (user_setting_id, is_push_alarm_enabled, "
+                + "is_friend_request_enabled, record_font, user_id) values (?, ?, ?, ?, ?)");
+        long firstGrowthId = nextId("user_growth", "user_growth_id");
+        long firstSettingId = nextId("user_setting", "user_setting_id");
+        for (int i = 0; i < size.users(); i++) {
+            long userId = firstUserId + i;
+            Timestamp createdTime = randomTime();
+            users.add(userId, "loadtest" + userId + "@bookduck.com", random.nextInt(2), "덕" + userId,
+                    "ROLE_USER", "ACTIVE", createdTime, createdTime);
+
+            long cumulativeExp = Math.max(0, 2_000 - expSampler.next(random)) * (i < size.users() / 10 ? 3L : 1L);
+            UserGrowth growth = UserGrowth.builder().build();
+            growth.gainExp((int) cumulativeExp);
+            growths.add(firstGrowthId + i, growth.getLevel(), cumulativeExp, userId);
+
+            settings.add(firstSettingId + i, random.nextInt(10) < 8, random.nextInt(10) < 9,
+                    RecordFont.values()[random.nextInt(RecordFont.values().length)].name(), userId);
+        }
+        users.flush();
+        growths.flush();
+        settings.flush();
+    }
+
+    private void insertBooks(long firstBookInfoId, Map<GenreName, Long> genreIds) {
+        GenreName[] genres = GenreName.values();
+        BatchWriter books = new BatchWriter("insert into book_info (book_info_id, provider_id, title, author, publisher, "
+                + "publish_date, description, category, page_count, language, img_path, genre_id) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, 'ko', ?, ?)");
+        for (int i = 0; i < size.books(); i++) {
+            long bookInfoId = firstBookInfoId + i;
+            GenreName genre = genres[random.nextInt(genres.length)];
+            String title = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + "의 " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]
+                    + " " + (i % 97 + 1);
+            books.add(bookInfoId, providerId(bookInfoId), title, AUTHORS[random.nextInt(AUTHORS.length)],
+                    "출판사" + (i % 300), String.valueOf(1990 + random.nextInt(35)), sentence(4),
+                    genre.name(), 120L + random.nextInt(600),
+                    "http://books.google.com/books/content?id=" + providerId(bookInfoId) + "&printsec=frontcover&img=1&zoom=1",
+                    genreIds.get(genre));
+        }
+        books.flush();
+    }
+
+    private UserBookIndex insertUserBooks(long firstUserId, long firstBookInfoId, long firstUserBookId) {
+        SkewedSampler userSampler = new SkewedSampler(size.users(), 0.9);
+        SkewedSampler bookSampler = new SkewedSampler(size.books(), 1.0);
+        BatchWriter userBooks = new BatchWriter("insert into user_book (user_book_id, read_status, rating, "
+                + "is_finished_exp_given, is_archive_exp_given, is_one_line_exp_given, user_id, book_info_id, "
+                + "created_time, modified_time) values (?, ?, ?, ?, false, false, ?, ?, ?, ?)");
+        Set<Long> pairs = new HashSet<>(size.userBooks() * 2);
+        long[] ownerIds = new long[size.userBooks()];
+        ReadStatus[] statuses = new ReadStatus[size.userBooks()];
+        int count = 0;
+        while (count < size.userBooks()) {
+            int user = userSampler.next(random);
+            int book = bookSampler.next(random);
+            if (!pairs.add((long) user * size.books() + book)) {
+                continue;
+            }
+            ReadStatus status = randomReadStatus();
+            // 평점은 절반만, 높은 점수 쪽으로 치우침
+            double rating = random.nextBoolean() ? 0.0 : Math.min(5.0, 2.5 + 0.5 * random.nextInt(6));
+            Timestamp createdTime = randomTime();
+            long userId = firstUserId + user;
+            userBooks.add(firstUserBookId + count, status.name(), rating, status == ReadStatus.FINISHED,
+                    userId, firstBookInfoId + book, createdTime, createdTime);
+            ownerIds[count] = userId;
+            statuses[count] = status;
+            count++;
+        }
+        userBooks.flush();
+        return new UserBookIndex(firstUserBookId, ownerIds, statuses);
+    }
+
+    private void insertExcerptsAndReviews(UserBookIndex userBooks) {
+        // 기록이 많은 서재 책에 몰리도록 치우침
+        SkewedSampler userBookSampler = new SkewedSampler(userBooks.size(), 0.6);
+        long firstExcerptId = nextId("excerpt", "excerpt_id");
+        long firstReviewId = nextId("review", "review_id");
+        long archiveId = nextId("archive", "archive_id");
+
+        BatchWriter excerpts = new BatchWriter("insert into excerpt (excerpt_id, excerpt_content, visibility, page_number, "
+                + "user_id, user_book_id, created_time, modified_time) values (?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter reviews = new BatchWriter("insert into review (review_id, review_title, review_content, visibility, "
+                + "color, is_system_generated, user_id, user_book_id, created_time, modified_time) "
+                + "values (?, ?, ?, ?, ?, false, ?, ?, ?, ?)");
+        BatchWriter archives = new BatchWriter("insert into archive (archive_id, excerpt_id, review_id) values (?, ?, ?)");
+
+        for (int i = 0; i < size.excerpts(); i++) {
+            int userBook = userBookSampler.next(random);
+            Timestamp createdTime = randomTime();
+            long excerptId = firstExcerptId + i;
+            excerpts.add(excerptId, sentence(2), randomVisibility().name(), 1L + random.nextInt(400),
+                    userBooks.ownerIds[userBook], userBooks.id(userBook), createdTime, createdTime);
+        }
+        excerpts.flush();
+        for (int i = 0; i < size.reviews(); i++) {
+            int userBook = userBookSampler.next(random);
+            Timestamp createdTime = randomTime();
+            long reviewId = firstReviewId + i;
+            reviews.add(reviewId, TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + "에 대하여", sentence(5),
+                    randomVisibility().name(), COLORS[random.nextInt(COLORS.length)],
+                    userBooks.ownerIds[userBook], userBooks.id(userBook), createdTime, createdTime);
+        }
+        reviews.flush();
+
+        // 발췌, 리뷰가 모두 저장된 뒤 각각 하나의 기록으로 묶음
+        for (int i = 0; i < size.excerpts(); i++) {
+            archives.add(archiveId++, firstExcerptId + i, null);
+        }
+        for (int i = 0; i < size.reviews(); i++) {
+            archives.add(archiveId++, null, firstReviewId + i);
+        }
+        archives.flush();
+    }
+
+    private void insertOneLines(UserBookIndex userBooks) {
+        SkewedSampler userBookSampler = new SkewedSampler(userBooks.size(), 0.5);
+        long oneLineId = nextId("one_line", "one_line_id");
+        BatchWriter oneLines = new BatchWriter("insert into one_line (one_line_id, one_line_content, user_id, user_book_id, "
+                + "created_time, modified_time) values (?, ?, ?, ?, ?, ?)");
+        Set<Integer> written = new HashSet<>(size.oneLines() * 2);
+        int attempts = 0;
+        while (written.size() < size.oneLines() && attempts++ < size.oneLines() * 5) {
+            int userBook = userBookSampler.next(random);
+            // 한줄평은 서재 책당 하나
+            if (userBooks.statuses[userBook] == ReadStatus.NOT_STARTED || !written.add(userBook)) {
+                continue;
+            }
+            Timestamp createdTime = randomTime();
+            oneLines.add(oneLineId++, SENTENCES[random.nextInt(SENTENCES.length)], userBooks.ownerIds[userBook],
+                    userBooks.id(userBook), createdTime, createdTime);
+        }
+        oneLines.flush();
+    }
+
+    private void insertFriends(long firstUserId) {
+        SkewedSampler userSampler = new SkewedSampler(size.users(), 0.8);
+        long friendId = nextId("friend", "friend_id");
+        BatchWriter friends = new BatchWriter("insert into friend (friend_id, user1_id, user2_id) values (?, ?, ?)");
+        Set<Long> pairs = new HashSet<>(size.friendships() * 2);
+        int attempts = 0;
+        while (pairs.size() < size.friendships() && attempts++ < size.friendships() * 5) {
+            int a = userSampler.next(random);
+            int b = random.nextInt(size.users());
+            if (a == b) {
+                continue;
+            }
+            int user1 = Math.min(a, b);
+            int user2 = Math.max(a, b);
+            if (pairs.add((long) user1 * size.users() + user2)) {
+                friends.add(friendId++, firstUserId + user1, firstUserId + user2);
+            }
+        }
+        friends.flush();
+    }
+
+    private long[] insertFolders(long firstFolderId, UserBookIndex userBooks) {
+        Map<Long, List<Integer>> userBooksByOwner = userBooks.groupByOwner();
+        List<Long> owners = new ArrayList<>(userBooksByOwner.keySet());
+        owners.sort(null);
+        SkewedSampler ownerSampler = new SkewedSampler(owners.size(), 0.8);
+        long folderBookId = nextSequenceValue();
+        BatchWriter folders = new BatchWriter("insert into folder (folder_id, folder_name, user_id) values (?, ?, ?)");
+        BatchWriter folderBooks = new BatchWriter("insert into folder_book (folder_book_id, book_order, folder_id, user_book_id) "
+                + "values (?, ?, ?, ?)");
+        long[] folderOwnerIds = new long[size.folders()];
+        for (int i = 0; i < size.folders(); i++) {
+            long ownerId = owners.get(ownerSampler.next(random));
+            long folderId = firstFolderId + i;
+            folders.add(folderId, TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " 폴더", ownerId);
+            folderOwnerIds[i] = ownerId;
+
+            List<Integer> candidates = userBooksByOwner.get(ownerId);
+            int bookCount = Math.min(candidates.size(), 1 + random.nextInt(size.maxFolderBooks()));
+            Set<Integer> chosen = new HashSet<>();
+            while (chosen.size() < bookCount) {
+                chosen.add(candidates.get(random.nextInt(candidates.size())));
+            }
+            long order = ORDER_GAP;
+            for (int userBook : chosen) {
+                folderBooks.add(folderBookId++, order, folderId, userBooks.id(userBook));
+                order += ORDER_GAP;
+            }
+        }
+        folders.flush();
+        folderBooks.flush();
+        jdbcTemplate.execute("alter sequence folder_book_seq restart with " + folderBookId);
+        return folderOwnerIds;
+    }
+
+    private void insertAlarms(long firstUserId) {
+        SkewedSampler receiverSampler = new SkewedSampler(size.users(), 0.9);
+        long alarmId = nextId("alarm", "alarm_id");
+        BatchWriter alarms = new BatchWriter("insert into alarm (alarm_id, alarm_type, message, resource_id, is_read, "
+                + "sender_id, receiver_id, created_time) values (?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < size.alarms(); i++) {
+            AlarmType alarmType = ALARM_TYPES[random.nextInt(ALARM_TYPES.length)];
+            long receiverId = firstUserId + receiverSampler.next(random);
+            Long senderId = alarmType.name().startsWith("FRIEND") || alarmType == AlarmType.ONELINELIKE_ADDED
+                    ? firstUserId + random.nextInt(size.users())
+                    : null;
+            alarms.add(alarmId++, alarmType.name(), alarmType.name(), (long) random.nextInt(1_000_000),
+                    random.nextInt(10) < 7, senderId, receiverId, randomTime());
+        }
+        alarms.flush();
+    }
+
+    // 직접 지정한 id 다음부터 JPA가 발급하도록 조정
+    private void restartIdentities() {
+        String[][] identities = {
+                {"user", "user_id"}, {"user_growth", "user_growth_id"}, {"user_setting", "user_setting_id"},
+                {"book_info", "book_info_id"}, {"user_book", "user_book_id"}, {"excerpt", "excerpt_id"},
+                {"review", "review_id"}, {"archive", "archive_id"}, {"one_line", "one_line_id"},
+                {"friend", "friend_id"}, {"folder", "folder_id"}, {"alarm", "alarm_id"}
+        };
+        for (String[] identity : identities) {
+            jdbcTemplate.execute("alter table " + identity[0] + " alter column " + identity[1]
+                    + " restart with " + nextId(identity[0], identity[1]));
+        }
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+        return (maxId != null ? maxId : 0L) + 1;
+    }
+
+    private long nextSequenceValue() {
+        Long maxId = jdbcTemplate.queryForObject("select max(folder_book_id) from folder_book", Long.class);
+        return (maxId != null ? maxId : 0L) + 1;
+    }
+
+    private ReadStatus randomReadStatus() {
+        int value = random.nextInt(10);
+        if (value < 5) {
+            return ReadStatus.FINISHED;
+        }
+        return value < 8 ? ReadStatus.READING : READ_STATUSES[random.nextInt(READ_STATUSES.length)];
+    }
+
+    private Visibility randomVisibility() {
+        int value = random.nextInt(10);
+        return value < 6 ? Visibility.PUBLIC : value < 8 ? Visibility.FRIEND_ONLY : Visibility.PRIVATE;
+    }
+
+    private String sentence(int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        return builder.toString();
+    }
+
+    private Timestamp randomTime() {
+        return Timestamp.valueOf(START_TIME.plusMinutes(random.nextInt(PERIOD_MINUTES)));
+    }
+
+    public static String providerId(long bookInfoId) {
+        return "lt" + bookInfoId;
+    }
+
+    private final class BatchWriter {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private record UserBookIndex(long firstUserBookId, long[] ownerIds, ReadStatus[] statuses) {
+        int size() {
+            return ownerIds.length;
+        }
+
+        long id(int index) {
+            return firstUserBookId + index;
+        }
+
+        Map<Long, List<Integer>> groupByOwner() {
+            Map<Long, List<Integer>> grouped = new HashMap<>();
+            for (int i = 0; i < ownerIds.length; i++) {
+                grouped.computeIfAbsent(ownerIds[i], key -> new ArrayList<>()).add(i);
+            }
+            return grouped;
+        }
+    }
+}
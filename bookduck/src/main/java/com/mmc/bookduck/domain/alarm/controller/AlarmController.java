@@ -1,6 +1,7 @@
 package com.mmc.bookduck.domain.alarm.controller;
 
 import com.mmc.bookduck.domain.alarm.dto.request.AlarmReadRequestDto;
+import com.mmc.bookduck.domain.alarm.dto.request.AnnouncementCreateRequestDto;
 import com.mmc.bookduck.domain.alarm.service.AlarmService;
 import com.mmc.bookduck.domain.alarm.service.AnnouncementService;
 import com.mmc.bookduck.domain.alarm.service.EmitterService;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -55,4 +57,12 @@ public class AlarmController {
     public ResponseEntity<?> getRecentAnnouncements(@PageableDefault final Pageable pageable) {
         return ResponseEntity.ok(announcementService.getRecentAnnouncements(pageable));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "공지 등록", description = "공지를 등록하고 연결된 사용자에게 알립니다. (관리자 전용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/announcements")
+    public ResponseEntity<?> createAnnouncement(@RequestBody @Valid AnnouncementCreateRequestDto requestDto) {
+        announcementService.createAnnouncement(requestDto);
+        return ResponseEntity.ok().build();
+    }
+}
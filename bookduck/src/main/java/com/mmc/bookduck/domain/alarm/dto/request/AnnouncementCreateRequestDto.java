@@ -0,0 +1,16 @@
+package com.mmc.bookduck.domain.alarm.dto.request;
+
+import com.mmc.bookduck.domain.alarm.entity.Announcement;
+import jakarta.validation.constraints.NotBlank;
+
+public record AnnouncementCreateRequestDto(
+        @NotBlank String title,
+        String content
+) {
+    public Announcement toEntity() {
+        return Announcement.builder()
+                .title(title)
+                .content(content)
+                .build();
+    }
+}
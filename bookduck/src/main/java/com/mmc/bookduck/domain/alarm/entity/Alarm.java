@@ -63,4 +63,10 @@ public class Alarm extends CreatedTimeEntity {
     public void readAlarm() {
         this.isRead = true;
     }
+
+    // 병합된 알림의 메시지 갱신 후 안 읽음 처리
+    public void updateMessage(String message) {
+        this.message = message;
+        this.isRead = false;
+    }
 }
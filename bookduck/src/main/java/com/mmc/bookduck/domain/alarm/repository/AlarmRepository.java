@@ -10,11 +10,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
     Boolean existsByReceiverAndIsReadFalse(User user);
 
+    // 안 읽은 알림이 있는 수신자 id (SSE 일괄 전송용)
+    @Query("SELECT DISTINCT a.receiver.userId FROM Alarm a WHERE a.receiver.userId IN :userIds AND a.isRead = false")
+    List<Long> findReceiverIdsWithUnreadAlarm(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT a FROM Alarm a WHERE a.receiver = :user ORDER BY a.createdTime DESC")
     Page<Alarm> findByReceiverOrderByCreatedTimeDesc(@Param("user") User user, Pageable pageable);
 
@@ -4,7 +4,14 @@ import com.mmc.bookduck.domain.alarm.entity.Announcement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+// 쿼리 캐시는 서버별이라 다른 서버에서 등록한 공지가 반영되지 않으므로 사용하지 않음
+// (최근 공지 번호는 AnnouncementSequenceService에서 짧은 주기로 재조회)
 public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
     Page<Announcement> findByOrderByCreatedTimeDesc(Pageable pageable);
+
+    // 가장 최근 공지 번호 (공지가 없으면 0)
+    @Query("SELECT COALESCE(MAX(a.announcementId), 0) FROM Announcement a")
+    long findLatestAnnouncementId();
 }
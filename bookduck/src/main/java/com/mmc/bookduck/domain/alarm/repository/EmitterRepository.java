@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -23,4 +24,9 @@ public class EmitterRepository {
     public SseEmitter get(Long memberId) {
         return emitters.get(memberId);
     }
+
+    // 현재 연결된 모든 memberId
+    public List<Long> getAllMemberIds() {
+        return List.copyOf(emitters.keySet());
+    }
 }
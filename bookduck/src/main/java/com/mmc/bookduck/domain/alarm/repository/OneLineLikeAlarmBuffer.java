@@ -0,0 +1,83 @@
+package com.mmc.bookduck.domain.alarm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 한줄평 좋아요 알림을 한줄평 단위로 모아두는 인메모리 버퍼
+@Repository
+@RequiredArgsConstructor
+public class OneLineLikeAlarmBuffer {
+    // 아직 발송되지 않은 좋아요 (key: oneLineId)
+    private final Map<Long, PendingLike> pendingLikes = new ConcurrentHashMap<>();
+    // 병합 구간이 열려 있는 알림 (key: oneLineId)
+    private final Map<Long, LikeAlarmWindow> windows = new ConcurrentHashMap<>();
+
+    public void add(Long oneLineId, Long receiverId, Long senderId, String senderNickname,
+                    Long bookInfoId, String bookTitle) {
+        PendingLike pendingLike = new PendingLike(receiverId, senderId, senderNickname, bookInfoId, bookTitle, 1);
+        pendingLikes.merge(oneLineId, pendingLike, PendingLike::merge);
+    }
+
+    // 발송에 실패한 좋아요를 다시 넣음 (그 사이 쌓인 좋아요가 더 최근)
+    public void requeue(Long oneLineId, PendingLike pendingLike) {
+        pendingLikes.merge(oneLineId, pendingLike, (newer, requeued) -> requeued.merge(newer));
+    }
+
+    // 쌓인 좋아요를 모두 꺼내고 버퍼를 비움
+    public Map<Long, PendingLike> drain() {
+        Map<Long, PendingLike> drained = new HashMap<>();
+        for (Long oneLineId : pendingLikes.keySet()) {
+            PendingLike pendingLike = pendingLikes.remove(oneLineId);
+            if (pendingLike != null) {
+                drained.put(oneLineId, pendingLike);
+            }
+        }
+        return drained;
+    }
+
+    public LikeAlarmWindow getWindow(Long oneLineId) {
+        return windows.get(oneLineId);
+    }
+
+    public void saveWindow(Long oneLineId, LikeAlarmWindow window) {
+        windows.put(oneLineId, window);
+    }
+
+    public void deleteWindow(Long oneLineId) {
+        windows.remove(oneLineId);
+    }
+
+    // 병합 구간이 끝난 알림 정리
+    public void deleteWindowsOpenedBefore(LocalDateTime time) {
+        windows.values().removeIf(window -> window.openedTime().isBefore(time));
+    }
+
+    public record PendingLike(
+            Long receiverId,
+            Long lastSenderId,
+            String lastSenderNickname,
+            Long bookInfoId,
+            String bookTitle,
+            int likeCount
+    ) {
+        private PendingLike merge(PendingLike newer) {
+            return new PendingLike(receiverId, newer.lastSenderId, newer.lastSenderNickname,
+                    bookInfoId, bookTitle, likeCount + newer.likeCount);
+        }
+    }
+
+    public record LikeAlarmWindow(
+            Long alarmId,
+            LocalDateTime openedTime,
+            int likeCount
+    ) {
+        public LikeAlarmWindow addLikes(int count) {
+            return new LikeAlarmWindow(alarmId, openedTime, likeCount + count);
+        }
+    }
+}
@@ -4,23 +4,46 @@ import com.mmc.bookduck.domain.alarm.dto.ssedata.BadgeModalInfo;
 import com.mmc.bookduck.domain.alarm.entity.Alarm;
 import com.mmc.bookduck.domain.alarm.entity.AlarmType;
 import com.mmc.bookduck.domain.alarm.repository.AlarmRepository;
+import com.mmc.bookduck.domain.alarm.repository.OneLineLikeAlarmBuffer;
+import com.mmc.bookduck.domain.alarm.repository.OneLineLikeAlarmBuffer.LikeAlarmWindow;
+import com.mmc.bookduck.domain.alarm.repository.OneLineLikeAlarmBuffer.PendingLike;
 import com.mmc.bookduck.domain.badge.entity.BadgeType;
 import com.mmc.bookduck.domain.badge.entity.UserBadge;
 import com.mmc.bookduck.domain.book.entity.BookInfo;
+import com.mmc.bookduck.domain.oneline.entity.OneLine;
 import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.domain.user.entity.UserStatus;
+import com.mmc.bookduck.domain.user.repository.UserRepository;
+import com.mmc.bookduck.global.common.TransactionRunner;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.MessageFormat;
+import java.time.LocalDateTime;
 
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
+
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class AlarmByTypeService {
     private final AlarmRepository alarmRepository;
     private final AlarmService alarmService;
+    private final OneLineLikeAlarmBuffer oneLineLikeAlarmBuffer;
+    private final UserRepository userRepository;
+    private final TransactionRunner transactionRunner;
+
+    private static final String ONELINELIKE_AGGREGATED_PATTERN = "{0}님 외 {1}명이 {2}의 한줄평에 좋아요를 눌렀어요.";
+
+    // 같은 한줄평의 좋아요를 하나의 알림으로 병합하는 구간(분)
+    @Value("${alarm.oneline-like.window-minutes:10}")
+    private long oneLineLikeWindowMinutes;
 
     // 친구 요청 알림 생성
     public void createFriendRequestAlarm(User sender, User receiver) {
@@ -52,21 +75,73 @@ public class AlarmByTypeService {
         alarmService.createAlarm(alarm, receiver);
     }
 
-    // 한줄평 좋아요 알림 생성
-    public void createOneLineLikeAlarm(User sender, User receiver, BookInfo bookInfo) {
-        AlarmType alarmType = AlarmType.ONELINELIKE_ADDED;
-        String message = MessageFormat.format(alarmType.getMessagePattern(), bookInfo.getTitle());
+    // 한줄평 좋아요 알림 생성 (버퍼에 모아두었다가 주기적으로 발송). 롤백된 좋아요가 발송되지 않도록 커밋 후 버퍼에 추가
+    public void createOneLineLikeAlarm(User sender, User receiver, OneLine oneLine) {
+        BookInfo bookInfo = oneLine.getUserBook().getBookInfo();
+        Long oneLineId = oneLine.getOneLineId();
+        Long receiverId = receiver.getUserId();
+        Long senderId = sender.getUserId();
+        String senderNickname = sender.getNickname();
+        Long bookInfoId = bookInfo.getBookInfoId();
+        String bookTitle = bookInfo.getTitle();
+        afterCommit(() -> oneLineLikeAlarmBuffer.add(oneLineId, receiverId, senderId, senderNickname, bookInfoId, bookTitle));
+    }
+
+    // 버퍼에 쌓인 한줄평 좋아요 알림 발송 (한줄평마다 별도 트랜잭션, 실패한 것은 버퍼에 다시 넣어 다음 주기에 재시도)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushOneLineLikeAlarms() {
+        LocalDateTime now = LocalDateTime.now();
+        oneLineLikeAlarmBuffer.deleteWindowsOpenedBefore(now.minusMinutes(oneLineLikeWindowMinutes));
+        oneLineLikeAlarmBuffer.drain().forEach((oneLineId, pendingLike) -> {
+            try {
+                transactionRunner.execute(() -> {
+                    flushOneLineLikeAlarm(oneLineId, pendingLike, now);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                log.warn("한줄평 좋아요 알림 발송 실패 - oneLineId: {}", oneLineId, e);
+                oneLineLikeAlarmBuffer.requeue(oneLineId, pendingLike);
+            }
+        });
+    }
 
+    private void flushOneLineLikeAlarm(Long oneLineId, PendingLike pendingLike, LocalDateTime now) {
+        User receiver = userRepository.findById(pendingLike.receiverId()).orElse(null);
+        if (receiver == null || !receiver.getUserStatus().equals(UserStatus.ACTIVE)) {
+            return;
+        }
+        // 병합 구간 내에 이미 발송한 알림이 있으면 해당 알림만 갱신 (푸시 알림 없음)
+        LikeAlarmWindow window = oneLineLikeAlarmBuffer.getWindow(oneLineId);
+        Alarm windowAlarm = (window != null) ? alarmRepository.findById(window.alarmId()).orElse(null) : null;
+        if (windowAlarm != null) {
+            LikeAlarmWindow updatedWindow = window.addLikes(pendingLike.likeCount());
+            windowAlarm.updateMessage(buildOneLineLikeMessage(pendingLike, updatedWindow.likeCount()));
+            alarmService.updateAlarm(windowAlarm, receiver);
+            // 롤백 후 재시도할 때 좋아요가 두 번 세어지지 않도록 커밋 후 구간 갱신
+            afterCommit(() -> oneLineLikeAlarmBuffer.saveWindow(oneLineId, updatedWindow));
+            return;
+        }
+        // 새로운 병합 구간을 열고 알림 생성
         Alarm alarm = Alarm.builder()
-                .alarmType(alarmType)
-                .sender(sender)
+                .alarmType(AlarmType.ONELINELIKE_ADDED)
+                .sender(userRepository.findById(pendingLike.lastSenderId()).orElse(null))
                 .receiver(receiver)
-                .message(message)
+                .message(buildOneLineLikeMessage(pendingLike, pendingLike.likeCount()))
                 .resourceName("BookInfo")
-                .resourceId(bookInfo.getBookInfoId())
-                .resourceValue(bookInfo.getTitle())
+                .resourceId(pendingLike.bookInfoId())
+                .resourceValue(pendingLike.bookTitle())
                 .build();
         alarmService.createAlarm(alarm, receiver);
+        LikeAlarmWindow newWindow = new LikeAlarmWindow(alarm.getAlarmId(), now, pendingLike.likeCount());
+        afterCommit(() -> oneLineLikeAlarmBuffer.saveWindow(oneLineId, newWindow));
+    }
+
+    private String buildOneLineLikeMessage(PendingLike pendingLike, int likeCount) {
+        if (likeCount <= 1) {
+            return MessageFormat.format(AlarmType.ONELINELIKE_ADDED.getMessagePattern(), pendingLike.bookTitle());
+        }
+        return MessageFormat.format(ONELINELIKE_AGGREGATED_PATTERN,
+                pendingLike.lastSenderNickname(), likeCount - 1, pendingLike.bookTitle());
     }
 
     // 푸시 알림이 발생하지 않는 알림들
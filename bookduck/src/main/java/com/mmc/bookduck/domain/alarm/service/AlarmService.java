@@ -25,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.text.MessageFormat;
 import java.util.List;
 
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommitAsync;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -93,6 +95,12 @@ public class AlarmService {
         sendPushNotificationIfEnabled(receiver, alarm);
     }
 
+    // 병합된 Alarm 갱신 (푸시 알림 없이 SSE 알림만 전송)
+    public void updateAlarm(Alarm alarm, User receiver) {
+        alarmRepository.save(alarm);
+        emitterService.sendToClientDefaultAlarm(receiver);
+    }
+
     // Alarm 생성
     public void createLevelUpAlarm(Alarm alarm, User receiver, int level) {
         // 알림 저장
@@ -115,7 +123,9 @@ public class AlarmService {
         if (userSetting.isPushAlarmEnabled() && alarm.getAlarmType().isSendPush()) {
             String fcmToken = receiver.getFcmToken();
             if (fcmToken != null) {
-                fcmService.sendPushMessage(fcmToken, alarm.getMessage());
+                // 커밋된 알림만, 커넥션을 잡고 있지 않은 별도 스레드에서 전송
+                String message = alarm.getMessage();
+                afterCommitAsync(() -> fcmService.sendPushMessage(fcmToken, message));
             }
         }
     }
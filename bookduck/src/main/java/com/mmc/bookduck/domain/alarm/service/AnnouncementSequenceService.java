@@ -0,0 +1,60 @@
+package com.mmc.bookduck.domain.alarm.service;
+
+import com.mmc.bookduck.domain.alarm.repository.AnnouncementRepository;
+import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+// 가장 최근 공지 번호(announcementId)를 캐싱하여 공지 읽음 여부를 판단
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AnnouncementSequenceService {
+    private final AnnouncementRepository announcementRepository;
+    private final UserRepository userRepository;
+
+    // 다른 서버에서 등록된 공지를 반영하기 위한 재조회 주기
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private volatile long latestSequence = -1L;
+    private volatile long loadedAtMillis = 0L;
+
+    public long getLatestSequence() {
+        long now = System.currentTimeMillis();
+        if (latestSequence < 0 || now - loadedAtMillis > REFRESH_INTERVAL.toMillis()) {
+            latestSequence = announcementRepository.findLatestAnnouncementId();
+            loadedAtMillis = now;
+        }
+        return latestSequence;
+    }
+
+    // 새 공지 등록 시 캐시 갱신
+    public void updateLatestSequence(long sequence) {
+        if (sequence > latestSequence) {
+            latestSequence = sequence;
+        }
+    }
+
+    public boolean isAnnouncementChecked(User user) {
+        // 아직 채워지지 않은 기존 사용자는 이전 공지를 모두 읽은 것으로 처리
+        return user.getLastSeenAnnouncementId() == null || user.getLastSeenAnnouncementId() >= getLatestSequence();
+    }
+
+    // 컬럼 추가 전에 가입한 사용자는 배포 시점까지의 공지를 읽은 것으로 채움 (채운 뒤에는 대상이 없음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeLastSeenAnnouncementIds() {
+        int updated = userRepository.initializeLastSeenAnnouncementId(announcementRepository.findLatestAnnouncementId());
+        if (updated > 0) {
+            log.info("마지막으로 확인한 공지 번호 초기화 - {}명", updated);
+        }
+    }
+}
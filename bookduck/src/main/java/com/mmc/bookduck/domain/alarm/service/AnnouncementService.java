@@ -1,6 +1,7 @@
 package com.mmc.bookduck.domain.alarm.service;
 
 import com.mmc.bookduck.domain.alarm.dto.common.AnnouncementUnitDto;
+import com.mmc.bookduck.domain.alarm.dto.request.AnnouncementCreateRequestDto;
 import com.mmc.bookduck.domain.alarm.entity.Announcement;
 import com.mmc.bookduck.domain.alarm.repository.AnnouncementRepository;
 import com.mmc.bookduck.domain.user.entity.User;
@@ -12,6 +13,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommitAsync;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -19,17 +23,27 @@ public class AnnouncementService {
     private final AnnouncementRepository announcementRepository;
     private final UserService userService;
     private final EmitterService emitterService;
+    private final AnnouncementSequenceService announcementSequenceService;
 
     public PaginatedResponseDto<AnnouncementUnitDto> getRecentAnnouncements(Pageable pageable) {
         // user가 공지 읽음으로 표시
         User user = userService.getCurrentUser();
-        // 공지를 안 읽었던 경우만, 상태 업데이트 및 SSE 알림 전송
-        if (!user.getIsAnnouncementChecked()) {
-            user.setIsAnnouncementChecked(true);
+        // 공지를 안 읽었던 경우만, 마지막으로 본 공지 번호 갱신 및 SSE 알림 전송
+        long latestSequence = announcementSequenceService.getLatestSequence();
+        if (user.getLastSeenAnnouncementId() == null || user.getLastSeenAnnouncementId() < latestSequence) {
+            user.updateLastSeenAnnouncementId(latestSequence);
             emitterService.sendToClientDefaultAlarm(user);
         }
         Page<Announcement> announcementPage = announcementRepository.findByOrderByCreatedTimeDesc(pageable);
         Page<AnnouncementUnitDto> annoucementUnitDtos = announcementPage.map(AnnouncementUnitDto::new);
         return PaginatedResponseDto.from(annoucementUnitDtos);
     }
+
+    // 공지 등록 (유저별 상태 변경 없이 최근 공지 번호만 갱신). 롤백된 공지를 알리지 않도록 커밋 후 갱신, 전송
+    public void createAnnouncement(AnnouncementCreateRequestDto requestDto) {
+        Announcement announcement = announcementRepository.save(requestDto.toEntity());
+        long announcementId = announcement.getAnnouncementId();
+        afterCommit(() -> announcementSequenceService.updateLatestSequence(announcementId));
+        afterCommitAsync(emitterService::broadcastAnnouncementAlarm);
+    }
 }
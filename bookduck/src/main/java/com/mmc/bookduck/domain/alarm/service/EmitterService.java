@@ -14,7 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -23,8 +26,10 @@ public class EmitterService {
     private final EmitterRepository emitterRepository;
     private final AlarmRepository alarmRepository;
     private final UserService userService;
+    private final AnnouncementSequenceService announcementSequenceService;
 
     private static final Long DEFAULT_TIMEOUT = 5L * 60 * 1000;  // 5분
+    private static final int BROADCAST_BATCH_SIZE = 500;
 
     public SseEmitter subscribe() {
         User user = userService.getCurrentUser();
@@ -42,7 +47,7 @@ public class EmitterService {
     public void sendToClientDefaultAlarm(User user) {
         boolean isCommonAlarmChecked = !alarmRepository.existsByReceiverAndIsReadFalse(user);
         AlarmDefaultDataDto alarmDataDto = AlarmDefaultDataDto
-                .fromDefault(isCommonAlarmChecked, user.getIsAnnouncementChecked(), true);
+                .fromDefault(isCommonAlarmChecked, announcementSequenceService.isAnnouncementChecked(user), true);
         sendToClient(user.getUserId(), alarmDataDto, "new sse alarm exists");
     }
 
@@ -50,7 +55,7 @@ public class EmitterService {
     public void sendToClientItemUnlockedAlarm(User user) {
         boolean isCommonAlarmChecked = !alarmRepository.existsByReceiverAndIsReadFalse(user);
         AlarmDefaultDataDto alarmDataDto = AlarmDefaultDataDto
-                .fromDefault(isCommonAlarmChecked, user.getIsAnnouncementChecked(), false);
+                .fromDefault(isCommonAlarmChecked, announcementSequenceService.isAnnouncementChecked(user), false);
         sendToClient(user.getUserId(), alarmDataDto, "item unlocked alarm exists");
     }
 
@@ -58,7 +63,7 @@ public class EmitterService {
     public void sendToClientLevelUpAlarm(User user, int level) {
         boolean isCommonAlarmChecked = !alarmRepository.existsByReceiverAndIsReadFalse(user);
         AlarmDefaultDataDto alarmDataDto = AlarmDefaultDataDto
-                .fromLevelUp(isCommonAlarmChecked, user.getIsAnnouncementChecked(), level);
+                .fromLevelUp(isCommonAlarmChecked, announcementSequenceService.isAnnouncementChecked(user), level);
         sendToClient(user.getUserId(), alarmDataDto, "level up alarm exists");
     }
 
@@ -66,10 +71,24 @@ public class EmitterService {
     public void sendToClientBadgeUnlockedAlarm(User user, BadgeModalInfo badgeModalInfo) {
         boolean isCommonAlarmChecked = !alarmRepository.existsByReceiverAndIsReadFalse(user);
         AlarmDefaultDataDto alarmDataDto = AlarmDefaultDataDto
-                .fromBadgeUnlocked(isCommonAlarmChecked, user.getIsAnnouncementChecked(), badgeModalInfo);
+                .fromBadgeUnlocked(isCommonAlarmChecked, announcementSequenceService.isAnnouncementChecked(user), badgeModalInfo);
         sendToClient(user.getUserId(), alarmDataDto, "badge unlocked alarm exists");
     }
 
+    // 새 공지 알림을 연결된 모든 클라이언트에 배치 단위로 전송
+    public void broadcastAnnouncementAlarm() {
+        List<Long> memberIds = emitterRepository.getAllMemberIds();
+        for (int i = 0; i < memberIds.size(); i += BROADCAST_BATCH_SIZE) {
+            List<Long> batch = memberIds.subList(i, Math.min(i + BROADCAST_BATCH_SIZE, memberIds.size()));
+            Set<Long> unreadMemberIds = new HashSet<>(alarmRepository.findReceiverIdsWithUnreadAlarm(batch));
+            for (Long memberId : batch) {
+                AlarmDefaultDataDto alarmDataDto = AlarmDefaultDataDto
+                        .fromDefault(!unreadMemberIds.contains(memberId), false, true);
+                sendToClient(memberId, alarmDataDto, "new announcement exists");
+            }
+        }
+    }
+
     private SseEmitter registerEmitter(Long memberId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
         emitterRepository.save(memberId, emitter);
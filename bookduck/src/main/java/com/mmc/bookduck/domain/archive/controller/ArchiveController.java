@@ -8,6 +8,8 @@ import com.mmc.bookduck.domain.archive.entity.ArchiveType;
 import com.mmc.bookduck.domain.archive.service.ArchiveService;
 import com.mmc.bookduck.domain.archive.service.OcrService;
 import com.mmc.bookduck.global.common.PaginatedResponseDto;
+import com.mmc.bookduck.global.ratelimit.RateLimitType;
+import com.mmc.bookduck.global.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -29,6 +31,7 @@ public class ArchiveController {
     private final OcrService ocrService;
     private final ArchiveService archiveService;
 
+    @RateLimited(type = RateLimitType.OCR, capacity = 10, globalCapacity = 200)
     @PostMapping(value = "/excerpts/ocr", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "OCR을 통한 텍스트 추출", description = "이미지를 업로드하여 텍스트를 OCR로 추출합니다.")
     public ResponseEntity<?> uploadAndExtractText(@RequestParam("image") final MultipartFile image) throws IOException {
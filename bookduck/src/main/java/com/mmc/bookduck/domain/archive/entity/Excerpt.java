@@ -2,6 +2,8 @@ package com.mmc.bookduck.domain.archive.entity;
 
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.common.Visibility;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.entity.SyncTrackable;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
@@ -18,7 +20,7 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-public class Excerpt extends BaseTimeEntity {
+public class Excerpt extends BaseTimeEntity implements SyncTrackable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(updatable = false)
@@ -61,4 +63,18 @@ public class Excerpt extends BaseTimeEntity {
         this.visibility = visibility;
     }
 
+    @Override
+    public Long getSyncUserId() {
+        return user.getUserId();
+    }
+
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.EXCERPT;
+    }
+
+    @Override
+    public Long getSyncEntityId() {
+        return excerptId;
+    }
 }
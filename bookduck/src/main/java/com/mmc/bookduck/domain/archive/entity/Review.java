@@ -2,6 +2,8 @@ package com.mmc.bookduck.domain.archive.entity;
 
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.common.Visibility;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.entity.SyncTrackable;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
@@ -14,7 +16,7 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-public class Review extends BaseTimeEntity {
+public class Review extends BaseTimeEntity implements SyncTrackable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(updatable = false)
@@ -68,6 +70,18 @@ public class Review extends BaseTimeEntity {
 
     public void setIsSystemGenerated(boolean isSystemGenerated) {this.isSystemGenerated = isSystemGenerated;}
 
+    @Override
+    public Long getSyncUserId() {
+        return user.getUserId();
+    }
 
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.REVIEW;
+    }
 
+    @Override
+    public Long getSyncEntityId() {
+        return reviewId;
+    }
 }
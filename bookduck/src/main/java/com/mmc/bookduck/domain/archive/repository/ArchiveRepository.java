@@ -8,12 +8,23 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ArchiveRepository extends JpaRepository<Archive, Long> {
     Optional<Archive> findByExcerpt_ExcerptId(Long excerptId);
     Optional<Archive> findByReview_ReviewId(Long reviewId);
 
+    // 사용자의 발췌 기록을 도서 정보와 함께 조회 (기록 아카이브)
+    @Query("SELECT a FROM Archive a JOIN FETCH a.excerpt e JOIN FETCH e.userBook ub JOIN FETCH ub.bookInfo " +
+            "WHERE e.user.userId = :userId")
+    List<Archive> findExcerptArchivesByUserId(@Param("userId") Long userId);
+
+    // 사용자의 리뷰 기록을 도서 정보와 함께 조회 (기록 아카이브)
+    @Query("SELECT a FROM Archive a JOIN FETCH a.review r JOIN FETCH r.userBook ub JOIN FETCH ub.bookInfo " +
+            "WHERE r.user.userId = :userId")
+    List<Archive> findReviewArchivesByUserId(@Param("userId") Long userId);
+
     // 정확도순
     @Query(value = """
         SELECT * FROM (
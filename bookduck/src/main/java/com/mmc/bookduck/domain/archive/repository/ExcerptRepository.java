@@ -4,6 +4,7 @@ import com.mmc.bookduck.domain.archive.entity.Excerpt;
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.user.entity.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -44,6 +45,15 @@ public interface ExcerptRepository extends JpaRepository<Excerpt, Long> {
     @Query("SELECT e FROM Excerpt e WHERE e.user.userId = :userId")
     List<Excerpt> findByUserId(@Param("userId") Long userId);
 
+    // 사용자의 발췌 수를 장르별로 집계
+    @Query("SELECT g.genreName, COUNT(e) FROM Excerpt e " +
+            "JOIN e.userBook ub " +
+            "JOIN ub.bookInfo b " +
+            "JOIN b.genre g " +
+            "WHERE e.user.userId = :userId " +
+            "GROUP BY g.genreName")
+    List<Object[]> countByGenreOfUser(@Param("userId") Long userId);
+
     List<Excerpt> findTop30ByUserOrderByCreatedTimeDesc(User user);
 
     @Query("SELECT COUNT(e) FROM Excerpt e " +
@@ -52,4 +62,12 @@ public interface ExcerptRepository extends JpaRepository<Excerpt, Long> {
             "AND ((:isFirstHalf = true AND MONTH(e.createdTime) BETWEEN 1 AND 6) " +
             "OR (:isFirstHalf = false AND MONTH(e.createdTime) BETWEEN 7 AND 12))")
     long countByUserAndCreatedInYearAndHalf(@Param("user") User user, @Param("year") int year, @Param("isFirstHalf") boolean isFirstHalf);
-}
\ No newline at end of file
+
+    // 피드 조회용 (작성자, 책 정보 함께 조회)
+    @Query("SELECT e FROM Excerpt e " +
+            "JOIN FETCH e.user " +
+            "JOIN FETCH e.userBook ub " +
+            "JOIN FETCH ub.bookInfo " +
+            "WHERE e.excerptId IN :excerptIds")
+    List<Excerpt> findAllWithUserAndBookInfoByExcerptIdIn(@Param("excerptIds") Collection<Long> excerptIds);
+}
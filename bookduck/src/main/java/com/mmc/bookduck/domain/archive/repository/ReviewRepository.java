@@ -4,6 +4,7 @@ import com.mmc.bookduck.domain.archive.entity.Review;
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.user.entity.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -34,10 +35,27 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT e FROM Review e WHERE e.user.userId = :userId")
     List<Review> findByUserId(@Param("userId") Long userId);
 
+    // 사용자의 리뷰 수를 장르별로 집계
+    @Query("SELECT g.genreName, COUNT(r) FROM Review r " +
+            "JOIN r.userBook ub " +
+            "JOIN ub.bookInfo b " +
+            "JOIN b.genre g " +
+            "WHERE r.user.userId = :userId " +
+            "GROUP BY g.genreName")
+    List<Object[]> countByGenreOfUser(@Param("userId") Long userId);
+
     @Query("SELECT COUNT(r) FROM Review r " +
             "WHERE r.user = :user " +
             "AND YEAR(r.createdTime) = :year " +
             "AND ((:isFirstHalf = true AND MONTH(r.createdTime) BETWEEN 1 AND 6) " +
             "OR (:isFirstHalf = false AND MONTH(r.createdTime) BETWEEN 7 AND 12))")
     long countByUserAndCreatedInYearAndHalf(@Param("user") User user, @Param("year") int year, @Param("isFirstHalf") boolean isFirstHalf);
-}
\ No newline at end of file
+
+    // 피드 조회용 (작성자, 책 정보 함께 조회)
+    @Query("SELECT r FROM Review r " +
+            "JOIN FETCH r.user " +
+            "JOIN FETCH r.userBook ub " +
+            "JOIN FETCH ub.bookInfo " +
+            "WHERE r.reviewId IN :reviewIds")
+    List<Review> findAllWithUserAndBookInfoByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+}
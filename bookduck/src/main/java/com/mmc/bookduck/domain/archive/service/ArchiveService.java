@@ -15,21 +15,25 @@ import com.mmc.bookduck.domain.archive.repository.ArchiveRepository;
 import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
 import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
 import com.mmc.bookduck.domain.badge.service.BadgeUnlockService;
+import com.mmc.bookduck.domain.book.dto.common.PreparedBookDto;
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.book.service.UserBookService;
 import com.mmc.bookduck.domain.common.Visibility;
-import com.mmc.bookduck.domain.friend.entity.Friend;
-import com.mmc.bookduck.domain.friend.repository.FriendRepository;
+import com.mmc.bookduck.domain.feed.service.FeedFanOutService;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
 import com.mmc.bookduck.domain.item.service.ItemUnlockService;
 import com.mmc.bookduck.domain.user.service.UserGrowthService;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.cache.CacheEvictor;
 import com.mmc.bookduck.global.common.PaginatedResponseDto;
+import com.mmc.bookduck.global.common.TransactionRunner;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
@@ -53,15 +57,26 @@ public class ArchiveService {
     private final ArchiveRepository archiveRepository;
     private final ExcerptRepository excerptRepository;
     private final ReviewRepository reviewRepository;
-    private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
     private final UserGrowthService userGrowthService;
     private final BadgeUnlockService badgeUnlockService;
     private final ItemUnlockService itemUnlockService;
+    private final FeedFanOutService feedFanOutService;
+    private final CacheEvictor cacheEvictor;
+    private final TransactionRunner transactionRunner;
 
-    // 생성
+    // 생성 (구글 API 조회, 표지 업로드는 트랜잭션 전에 하고, 저장이 실패하면 업로드한 표지 삭제)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArchiveResponseDto createArchive(ArchiveCreateRequestDto requestDto) {
+        PreparedBookDto preparedBook = userBookService.prepareBookForArchive(requestDto);
+        return transactionRunner.execute(() -> createArchive(requestDto, preparedBook),
+                () -> userBookService.discardPreparedBook(preparedBook));
+    }
+
+    private ArchiveResponseDto createArchive(ArchiveCreateRequestDto requestDto, PreparedBookDto preparedBook) {
         // UserBook 결정(createExcerpt,Review의 findById때문에)
-        UserBook userBook = userBookService.getUserBookOrAdd(requestDto.getExcerpt(), requestDto.getReview(), requestDto, requestDto.getProviderId());
+        UserBook userBook = userBookService.getUserBookOrAdd(requestDto.getExcerpt(), requestDto.getReview(), requestDto,
+                requestDto.getProviderId(), preparedBook);
         // Excerpt 생성 시 결정된 UserBook 사용
         Excerpt excerpt = Optional.ofNullable(requestDto.getExcerpt())
                 .map(dto -> {
@@ -78,9 +93,13 @@ public class ArchiveService {
                 .orElse(null);
         Archive archive = requestDto.toEntity(excerpt, review);
         archiveRepository.save(archive);
+        feedFanOutService.publish(excerpt);
+        feedFanOutService.publish(review);
 
         checkExpAndBadgeForArchive(userBook);
         itemUnlockService.createUserItemForUnlockableItems(userBook.getUser());
+        // 기록 수 변경
+        cacheEvictor.evictUserProfile(userBook.getUser().getUserId());
         return createArchiveResponseDto(archive, excerpt, review, userBook);
     }
 
@@ -99,7 +118,7 @@ public class ArchiveService {
         Long currentUserId = userService.getCurrentUser().getUserId();
         Long creatorId = userBook.getUser().getUserId();
         boolean isCreator = creatorId.equals(currentUserId);
-        boolean isFriend = friendRepository.findFriendBetweenUsers(currentUserId, creatorId).isPresent();
+        boolean isFriend = friendGraphCache.isFriend(currentUserId, creatorId);
         Excerpt filteredExcerpt = isCreator || (isFriend && archive.getExcerpt().getVisibility() == Visibility.PUBLIC)
                 ? archive.getExcerpt()
                 : null;
@@ -171,8 +190,18 @@ public class ArchiveService {
                     }
                 })
                 .orElse(archive.getReview());
+        // 발췌나 리뷰가 새로 생겼으면 기록 수 변경
+        boolean isRecordAdded = (archive.getExcerpt() == null && updatedExcerpt != null)
+                || (archive.getReview() == null && updatedReview != null);
         archive.updateArchive(updatedExcerpt, updatedReview);
         archiveRepository.save(archive);
+        if (isRecordAdded) {
+            cacheEvictor.evictUserProfile(userBook.getUser().getUserId());
+            cacheEvictor.evictUserBadges(userBook.getUser().getUserId());
+        }
+        // 새로 추가되었거나 공개로 바뀐 글 발행 (이미 발행된 글은 덮어씀)
+        feedFanOutService.publish(updatedExcerpt);
+        feedFanOutService.publish(updatedReview);
         return createArchiveResponseDto(archive, updatedExcerpt, updatedReview, userBook);
     }
 
@@ -203,6 +232,9 @@ public class ArchiveService {
             // 변경된 내용 저장 (Archive가 삭제되지 않은 경우에만)
             archiveRepository.save(archive);
         }
+        // 기록 수 변경
+        cacheEvictor.evictUserProfile(userBook.getUser().getUserId());
+        cacheEvictor.evictUserBadges(userBook.getUser().getUserId());
     }
 
     // 기록 아카이브 조회
@@ -212,20 +244,20 @@ public class ArchiveService {
         Long currentUserId = userService.getCurrentUser().getUserId();
         // currentUserId가 userId와 다르면 친구인지 확인
         if (!userId.equals(currentUserId)) {
-            Optional<Friend> friend = friendRepository.findFriendBetweenUsers(currentUserId, userId);
-            if (!friend.isPresent()) {
+            if (!friendGraphCache.isFriend(currentUserId, userId)) {
                 throw new CustomException(ErrorCode.FRIENDSHIP_REQUIRED);
             }
         }
         List<UserArchiveResponseDto.ArchiveWithType> archiveList = new ArrayList<>();
         // 발췌 조회
         if (archiveType == EXCERPT || archiveType == ArchiveType.ALL) {
-            List<Excerpt> excerpts = excerptRepository.findByUserId(userId);
-            for (Excerpt excerpt : excerpts) {
+            // 기록마다 Archive, 도서를 따로 조회하지 않도록 한 번에 조회
+            for (Archive archive : archiveRepository.findExcerptArchivesByUserId(userId)) {
+                Excerpt excerpt = archive.getExcerpt();
                 if (!userId.equals(currentUserId) && excerpt.getVisibility() != Visibility.PUBLIC) {
                     continue;
                 }
-                Long archiveId = findArchiveByType(excerpt.getExcerptId(), EXCERPT).getArchiveId();
+                Long archiveId = archive.getArchiveId();
                 String title = excerpt.getUserBook().getBookInfo().getTitle();
                 String author = excerpt.getUserBook().getBookInfo().getAuthor();
                 archiveList.add(new UserArchiveResponseDto.ArchiveWithType(EXCERPT, ExcerptResponseDto.from(excerpt), archiveId, title, author));
@@ -233,12 +265,12 @@ public class ArchiveService {
         }
         // 리뷰 조회
         if (archiveType == ArchiveType.REVIEW || archiveType == ArchiveType.ALL) {
-            List<Review> reviews = reviewRepository.findByUserId(userId);
-            for (Review review : reviews) {
+            for (Archive archive : archiveRepository.findReviewArchivesByUserId(userId)) {
+                Review review = archive.getReview();
                 if (!userId.equals(currentUserId) && review.getVisibility() != Visibility.PUBLIC) {
                     continue;
                 }
-                Long archiveId = findArchiveByType(review.getReviewId(), REVIEW).getArchiveId();
+                Long archiveId = archive.getArchiveId();
                 String title = review.getUserBook().getBookInfo().getTitle();
                 String author = review.getUserBook().getBookInfo().getAuthor();
                 archiveList.add(new UserArchiveResponseDto.ArchiveWithType(REVIEW, ReviewResponseDto.from(review), archiveId,title, author));
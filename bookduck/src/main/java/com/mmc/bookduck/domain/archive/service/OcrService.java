@@ -3,6 +3,7 @@ package com.mmc.bookduck.domain.archive.service;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import com.mmc.bookduck.global.google.GoogleCloudUploadService;
+import com.mmc.bookduck.global.outbound.OutboundCallGuard;
 import com.google.cloud.vision.v1.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OcrService {
     private final GoogleCloudUploadService googleCloudUploadService;
+    private final OutboundCallGuard outboundCallGuard;
 
     public String processOcr(MultipartFile image) throws IOException {
         if (image.isEmpty()) {
@@ -26,6 +28,7 @@ public class OcrService {
     }
 
     private String extractTextFromImage(String filePath) throws IOException {
+        outboundCallGuard.check(OutboundCallGuard.VISION);
         // filePath(http://)를 GCS 경로 형식(gs://)으로 변환
         String gcsPath = filePath.split("\\?")[0].replace("https://storage.googleapis.com/download/storage/v1/b/", "gs://")
                 .replace("/o/", "/");
@@ -37,6 +37,7 @@ public class AuthService {
         jwtUtil.validateRefreshToken(refreshToken);
         Claims claims = jwtUtil.getRefreshTokenClaims(refreshToken);
         String email = claims.getSubject();
+        Long userId = jwtUtil.getUserId(claims);
 
         // Redis에 저장된 리프레시 토큰과 일치하는지 확인
         Object storedRefreshToken = redisService.getValues(email);
@@ -50,8 +51,8 @@ public class AuthService {
 
         // 새 액세스 토큰 및 리프레시 토큰 생성
         Authentication authentication = new UsernamePasswordAuthenticationToken(email, null, Collections.singletonList(new SimpleGrantedAuthority(claims.get("role").toString())));
-        String newAccessToken = jwtUtil.generateAccessToken(authentication);
-        String newRefreshToken = jwtUtil.generateRefreshToken(authentication); // Redis에 저장
+        String newAccessToken = jwtUtil.generateAccessToken(authentication, userId);
+        String newRefreshToken = jwtUtil.generateRefreshToken(authentication, userId); // Redis에 저장
 
         // 새 리프레시 토큰을 HttpOnly 쿠키에 저장
         cookieUtil.addCookie(response, "refreshToken", newRefreshToken, jwtUtil.getRefreshTokenMaxAge());
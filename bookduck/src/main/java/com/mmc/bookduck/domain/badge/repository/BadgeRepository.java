@@ -5,11 +5,18 @@ import com.mmc.bookduck.domain.badge.entity.BadgeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface BadgeRepository extends JpaRepository<Badge, Long> {
     int countByBadgeType(BadgeType badgeType);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Badge> findAllByBadgeType(BadgeType badgeType);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Badge> findAll();
+
     boolean existsByBadgeName(String name);
 }
@@ -12,6 +12,7 @@ import com.mmc.bookduck.domain.book.repository.UserBookRepository;
 import com.mmc.bookduck.domain.oneline.repository.OneLineRepository;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.repository.UserGrowthRepository;
+import com.mmc.bookduck.global.cache.CacheEvictor;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class BadgeUnlockService {
     private final BadgeService badgeService;
     private final UserGrowthRepository userGrowthRepository;
     private final AlarmByTypeService alarmByTypeService;
+    private final CacheEvictor cacheEvictor;
 
     // 유저 활동 가져오기
     @Transactional(readOnly = true)
@@ -79,6 +81,8 @@ public class BadgeUnlockService {
                 alarmByTypeService.createBadgeUnlockedAlarm(user, userBadge);
             }
         }
+        // 활동 수가 바뀐 뒤 호출되므로 뱃지 목록 캐시 제거
+        cacheEvictor.evictUserBadges(user.getUserId());
     }
 
     // 뱃지 획득조건 충족여부 확인
@@ -9,7 +9,9 @@ import com.mmc.bookduck.domain.badge.repository.UserBadgeRepository;
 import com.mmc.bookduck.domain.badge.dto.common.UserActivityDto;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class UserBadgeService {
     private final BadgeUnlockService badgeUnlockService;
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_BADGES, key = "@userService.getCurrentUserId()")
     public UserBadgeListResponseDto getCurrentUserBadges() {
         User user = userService.getCurrentUser();
         List<UserBadge> uniqueUserBadges = deleteDuplicateUserBadges(userBadgeRepository.findAllByUser(user));
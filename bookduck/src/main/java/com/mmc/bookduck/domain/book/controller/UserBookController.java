@@ -7,6 +7,7 @@ import com.mmc.bookduck.domain.book.dto.response.BookListResponseDto;
 import com.mmc.bookduck.domain.book.dto.response.CustomBookResponseDto;
 import com.mmc.bookduck.domain.book.dto.response.RatingResponseDto;
 import com.mmc.bookduck.domain.book.dto.response.UserBookListResponseDto;
+import com.mmc.bookduck.domain.book.dto.response.UserBookPageResponseDto;
 import com.mmc.bookduck.domain.book.dto.response.UserBookResponseDto;
 import com.mmc.bookduck.domain.book.service.UserBookService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,6 +53,17 @@ public class UserBookController {
                 .body(userBookService.getAllUserBook(sort));
     }
 
+    @Operation(summary = "서재 책 목록 페이지 조회", description = "사용자의 서재 책 목록을 상태 필터, 정렬 기준(latest, rating_high, rating_low, title)으로 페이지 단위 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/library")
+    public ResponseEntity<UserBookPageResponseDto> getUserBookPage(@RequestParam(name = "status", required = false) final List<String> statusList,
+                                                                   @RequestParam(name = "sort", defaultValue = "latest") final String sort,
+                                                                   @RequestParam(name = "cursor", required = false) final String cursor,
+                                                                   @RequestParam(name = "size", defaultValue = "30") final int size){
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(userBookService.getUserBookPage(statusList, sort, cursor, pageSize));
+    }
+
     @Operation(summary = "상태별 서재 책 목록 조회", description = "사용자의 서재 책 목록을 상태별로 조회합니다.")
     @GetMapping("/filter")
     public ResponseEntity<UserBookListResponseDto> getStatusUserBook(@RequestParam(name = "status") final List<String> statusList,
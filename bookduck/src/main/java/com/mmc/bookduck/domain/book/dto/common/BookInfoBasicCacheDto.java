@@ -0,0 +1,30 @@
+package com.mmc.bookduck.domain.book.dto.common;
+
+import com.mmc.bookduck.domain.book.entity.BookInfo;
+
+// 사용자와 무관한 API 도서 기본 정보 (캐시 대상)
+public record BookInfoBasicCacheDto(
+        Long bookInfoId,
+        String providerId,
+        String title,
+        String author,
+        String imgPath,
+        Double ratingAverage,
+        BookInfoDetailDto bookInfoDetailDto
+) {
+    public static BookInfoBasicCacheDto from(BookInfo bookInfo, Double ratingAverage, BookInfoDetailDto detailDto) {
+        return new BookInfoBasicCacheDto(
+                bookInfo.getBookInfoId(),
+                bookInfo.getProviderId(),
+                bookInfo.getTitle(),
+                bookInfo.getAuthor(),
+                bookInfo.getImgPath(),
+                ratingAverage,
+                detailDto
+        );
+    }
+
+    public BookUnitDto toBookUnitDto(MyRatingOneLineReadStatusDto my) {
+        return new BookUnitDto(bookInfoId, my.userbookId(), title, author, imgPath, my.myRating(), my.readStatus());
+    }
+}
@@ -0,0 +1,23 @@
+package com.mmc.bookduck.domain.book.dto.common;
+
+import com.mmc.bookduck.domain.book.dto.response.UserBookResponseDto;
+import com.mmc.bookduck.domain.book.entity.ReadStatus;
+
+import java.time.LocalDateTime;
+
+// 서재 목록 조회용 프로젝션 (정렬 키인 createdTime 포함)
+public record LibraryBookDto(
+        Long userBookId,
+        String title,
+        String author,
+        String imgPath,
+        ReadStatus readStatus,
+        double rating,
+        Long bookInfoId,
+        Boolean isCustom,
+        LocalDateTime createdTime
+) {
+    public UserBookResponseDto toResponseDto() {
+        return new UserBookResponseDto(userBookId, title, author, imgPath, readStatus, rating, bookInfoId, isCustom);
+    }
+}
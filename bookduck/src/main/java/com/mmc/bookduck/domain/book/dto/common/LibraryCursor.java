@@ -0,0 +1,54 @@
+package com.mmc.bookduck.domain.book.dto.common;
+
+import com.mmc.bookduck.global.exception.CustomException;
+import com.mmc.bookduck.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 서재 목록 키셋 커서 (마지막 행의 정렬 키 + userBookId)
+public record LibraryCursor(String sortValue, Long userBookId) {
+    private static final char SEPARATOR = '|';
+
+    public static LibraryCursor of(String sort, LibraryBookDto lastBook) {
+        String sortValue = switch (sort) {
+            case "latest" -> lastBook.createdTime().toString();
+            case "rating_high", "rating_low" -> Double.toString(lastBook.rating());
+            case "title" -> lastBook.title();
+            default -> throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        };
+        return new LibraryCursor(sortValue, lastBook.userBookId());
+    }
+
+    public String encode() {
+        String raw = sortValue + SEPARATOR + userBookId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LibraryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new LibraryCursor(raw.substring(0, separatorIndex), Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    public LocalDateTime createdTime() {
+        try {
+            return LocalDateTime.parse(sortValue);
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    public Double rating() {
+        try {
+            return Double.valueOf(sortValue);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
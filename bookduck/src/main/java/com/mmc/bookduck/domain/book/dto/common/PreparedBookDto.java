@@ -0,0 +1,12 @@
+package com.mmc.bookduck.domain.book.dto.common;
+
+// 서재에 책을 추가하기 전에 트랜잭션 밖에서 준비한 외부 데이터
+// apiBookDetail: 구글 API 상세 정보 (이미 등록된 책이면 null), coverImgPath: 업로드한 custom book 표지 경로
+public record PreparedBookDto(
+        BookInfoDetailDto apiBookDetail,
+        String coverImgPath
+) {
+    public static PreparedBookDto none() {
+        return new PreparedBookDto(null, null);
+    }
+}
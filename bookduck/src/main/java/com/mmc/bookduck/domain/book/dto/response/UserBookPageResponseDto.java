@@ -0,0 +1,13 @@
+package com.mmc.bookduck.domain.book.dto.response;
+
+import java.util.List;
+
+public record UserBookPageResponseDto(
+        int bookCount,
+        List<UserBookResponseDto> bookList,
+        String nextCursor
+) {
+    public UserBookPageResponseDto(List<UserBookResponseDto> bookList, String nextCursor) {
+        this(bookList.size(), bookList, nextCursor);
+    }
+}
@@ -1,5 +1,7 @@
 package com.mmc.bookduck.domain.book.entity;
 
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.entity.SyncTrackable;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
@@ -12,7 +14,13 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-public class UserBook extends BaseTimeEntity {
+@Table(indexes = {
+        // 서재 목록 정렬별 커버링 인덱스 (최신순, 별점순)
+        @Index(name = "idx_user_book_user_created", columnList = "user_id, created_time, user_book_id"),
+        @Index(name = "idx_user_book_user_rating", columnList = "user_id, rating, user_book_id"),
+        @Index(name = "idx_user_book_user_status_created", columnList = "user_id, read_status, created_time, user_book_id")
+})
+public class UserBook extends BaseTimeEntity implements SyncTrackable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(updatable = false)
@@ -77,4 +85,19 @@ public class UserBook extends BaseTimeEntity {
     public void markOneLineExpGiven() {
         this.isOneLineExpGiven = true;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Long getSyncUserId() {
+        return user.getUserId();
+    }
+
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.USER_BOOK;
+    }
+
+    @Override
+    public Long getSyncEntityId() {
+        return userBookId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mmc.bookduck.domain.book.repository;
 
+import com.mmc.bookduck.domain.book.dto.common.LibraryBookDto;
 import com.mmc.bookduck.domain.book.entity.BookInfo;
 import com.mmc.bookduck.domain.book.entity.GenreName;
 import com.mmc.bookduck.domain.book.entity.ReadStatus;
@@ -36,21 +37,65 @@ public interface UserBookRepository extends JpaRepository<UserBook, Long> {
 
     Optional<UserBook> findByUserAndBookInfo(User user, BookInfo bookInfo);
 
-    //최신순
-    List<UserBook> findAllByUserOrderByCreatedTimeDesc(User user);
-
-    //제목순
-    @Query("SELECT ub FROM UserBook ub JOIN ub.bookInfo b WHERE ub.user = :user ORDER BY b.title ASC")
-    List<UserBook> findAllByUserOrderByTitle(User user);
-
-    //별점 높은 순
-    List<UserBook> findByUserOrderByRatingDesc(User user);
-
-    // 별점 낮은 순
-    List<UserBook> findByUserOrderByRatingAsc(User user);
+    List<UserBook> findAllByUserAndBookInfoIn(User user, Collection<BookInfo> bookInfos);
+
+    // 서재 목록 프로젝션 (BookInfo 조인, 상태 필터까지 한 번에)
+    String LIBRARY_BOOK_SELECT = "SELECT new com.mmc.bookduck.domain.book.dto.common.LibraryBookDto(" +
+            "ub.userBookId, b.title, b.author, b.imgPath, ub.readStatus, ub.rating, b.bookInfoId, " +
+            "CASE WHEN b.createdUserId IS NOT NULL THEN true ELSE false END, ub.createdTime) " +
+            "FROM UserBook ub JOIN ub.bookInfo b " +
+            "WHERE ub.user.userId = :userId AND ub.readStatus IN :readStatuses ";
+
+    //최신순 (커서: createdTime, userBookId)
+    @Query(LIBRARY_BOOK_SELECT +
+            "AND (:cursorId IS NULL OR ub.createdTime < :cursorTime " +
+            "OR (ub.createdTime = :cursorTime AND ub.userBookId < :cursorId)) " +
+            "ORDER BY ub.createdTime DESC, ub.userBookId DESC")
+    List<LibraryBookDto> findLibraryOrderByLatest(@Param("userId") Long userId,
+                                                  @Param("readStatuses") Collection<ReadStatus> readStatuses,
+                                                  @Param("cursorTime") LocalDateTime cursorTime,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    //별점 높은 순 (커서: rating, userBookId)
+    @Query(LIBRARY_BOOK_SELECT +
+            "AND (:cursorId IS NULL OR ub.rating < :cursorRating " +
+            "OR (ub.rating = :cursorRating AND ub.userBookId < :cursorId)) " +
+            "ORDER BY ub.rating DESC, ub.userBookId DESC")
+    List<LibraryBookDto> findLibraryOrderByRatingDesc(@Param("userId") Long userId,
+                                                      @Param("readStatuses") Collection<ReadStatus> readStatuses,
+                                                      @Param("cursorRating") Double cursorRating,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    // 별점 낮은 순 (커서: rating, userBookId)
+    @Query(LIBRARY_BOOK_SELECT +
+            "AND (:cursorId IS NULL OR ub.rating > :cursorRating " +
+            "OR (ub.rating = :cursorRating AND ub.userBookId > :cursorId)) " +
+            "ORDER BY ub.rating ASC, ub.userBookId ASC")
+    List<LibraryBookDto> findLibraryOrderByRatingAsc(@Param("userId") Long userId,
+                                                     @Param("readStatuses") Collection<ReadStatus> readStatuses,
+                                                     @Param("cursorRating") Double cursorRating,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
+
+    //제목순 (커서: title, userBookId)
+    @Query(LIBRARY_BOOK_SELECT +
+            "AND (:cursorId IS NULL OR b.title > :cursorTitle " +
+            "OR (b.title = :cursorTitle AND ub.userBookId > :cursorId)) " +
+            "ORDER BY b.title ASC, ub.userBookId ASC")
+    List<LibraryBookDto> findLibraryOrderByTitle(@Param("userId") Long userId,
+                                                 @Param("readStatuses") Collection<ReadStatus> readStatuses,
+                                                 @Param("cursorTitle") String cursorTitle,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
 
     List<UserBook> findAllByBookInfo(BookInfo bookInfo);
 
+    // 평가하지 않은(0점) 책을 제외한 평균 평점
+    @Query("SELECT AVG(ub.rating) FROM UserBook ub WHERE ub.bookInfo = :bookInfo AND ub.rating <> 0")
+    Double findRatingAverageByBookInfo(@Param("bookInfo") BookInfo bookInfo);
+
     List<UserBook> findAllByUser(User user);
 
     // 유저가 가장 많이 읽은 장르들
@@ -106,4 +151,14 @@ public interface UserBookRepository extends JpaRepository<UserBook, Long> {
     List<UserBook> findAllByCreatedTimeAfter(LocalDateTime createdTime);
 
     List<UserBook> findAllByUserAndIsArchiveExpGivenTrue(User user);
-}
\ No newline at end of file
+
+    // 비슷한 독자 계산용 (userId, bookInfoId)
+    @Query("SELECT ub.user.userId, ub.bookInfo.bookInfoId FROM UserBook ub WHERE ub.user.userId IN :userIds")
+    List<Object[]> findUserIdAndBookInfoIdByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT DISTINCT ub.user.userId FROM UserBook ub WHERE ub.user.userStatus = 'ACTIVE'")
+    List<Long> findAllActiveUserIdsWithUserBook();
+
+    @Query("SELECT ub FROM UserBook ub JOIN FETCH ub.bookInfo WHERE ub.userBookId IN :userBookIds")
+    List<UserBook> findAllWithBookInfoByUserBookIdIn(@Param("userBookIds") Collection<Long> userBookIds);
+}
@@ -0,0 +1,48 @@
+package com.mmc.bookduck.domain.book.service;
+
+import com.mmc.bookduck.domain.book.dto.common.BookInfoBasicCacheDto;
+import com.mmc.bookduck.domain.book.dto.common.BookInfoDetailDto;
+import com.mmc.bookduck.domain.book.entity.BookInfo;
+import com.mmc.bookduck.domain.book.repository.BookInfoRepository;
+import com.mmc.bookduck.domain.book.repository.UserBookRepository;
+import com.mmc.bookduck.global.cache.CacheNames;
+import com.mmc.bookduck.global.exception.CustomException;
+import com.mmc.bookduck.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookInfoBasicService {
+    private final BookInfoRepository bookInfoRepository;
+    private final UserBookRepository userBookRepository;
+    private final GenreService genreService;
+
+    // API 도서의 사용자 무관 정보 (평점이 바뀌면 CacheEvictor로 제거)
+    @Cacheable(cacheNames = CacheNames.BOOK_INFO_BASIC, key = "#bookInfoId")
+    public BookInfoBasicCacheDto getBookInfoBasic(Long bookInfoId) {
+        BookInfo bookInfo = bookInfoRepository.findById(bookInfoId)
+                .orElseThrow(()-> new CustomException(ErrorCode.BOOKINFO_NOT_FOUND));
+        if(bookInfo.getProviderId() == null){
+            throw new CustomException(ErrorCode.BOOKINFO_BAD_REQUEST);
+        }
+        String koreanGenreName = genreService.genreNameToKorean(bookInfo.getGenre());
+        BookInfoDetailDto detailDto = new BookInfoDetailDto(bookInfo, koreanGenreName);
+        return BookInfoBasicCacheDto.from(bookInfo, getRatingAverage(bookInfo), detailDto);
+    }
+
+    // 0점(평가 안 함)을 제외한 평균, 소수 첫째 자리 반올림 (평가가 없으면 null)
+    public Double getRatingAverage(BookInfo bookInfo) {
+        Double average = userBookRepository.findRatingAverageByBookInfo(bookInfo);
+        if (average == null) {
+            return null;
+        }
+        return new BigDecimal(average).setScale(1, RoundingMode.HALF_UP).doubleValue();
+    }
+}
@@ -11,6 +11,7 @@ import com.mmc.bookduck.domain.archive.entity.Review;
 import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
 import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
 import com.mmc.bookduck.domain.badge.service.BadgeUnlockService;
+import com.mmc.bookduck.domain.book.dto.common.BookInfoBasicCacheDto;
 import com.mmc.bookduck.domain.book.dto.common.BookCoverImageUnitDto;
 import com.mmc.bookduck.domain.book.dto.common.BookUnitParseDto;
 import com.mmc.bookduck.domain.book.dto.common.MyRatingOneLineReadStatusDto;
@@ -32,7 +33,8 @@ import com.mmc.bookduck.domain.book.entity.ReadStatus;
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.book.repository.BookInfoRepository;
 import com.mmc.bookduck.domain.book.repository.UserBookRepository;
-import com.mmc.bookduck.domain.friend.repository.FriendRepository;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
+import com.mmc.bookduck.domain.friend.repository.LibraryChangeQueue;
 import com.mmc.bookduck.domain.item.service.ItemUnlockService;
 import com.mmc.bookduck.domain.oneline.dto.response.OneLineRatingListResponseDto;
 import com.mmc.bookduck.domain.oneline.dto.response.OneLineRatingUnitDto;
@@ -42,13 +44,16 @@ import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserGrowthService;
 import com.mmc.bookduck.global.S3.S3Service;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.common.TransactionRunner;
+import com.mmc.bookduck.global.concurrent.FanOutExecutor;
+import com.mmc.bookduck.global.concurrent.FanOutScope;
+import com.mmc.bookduck.global.concurrent.FanOutScope.Subtask;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import com.mmc.bookduck.global.google.GoogleBooksApiService;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
@@ -56,15 +61,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static com.mmc.bookduck.domain.archive.entity.ArchiveType.*;
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommitAsync;
 
 @Service
 @RequiredArgsConstructor
@@ -75,29 +86,47 @@ public class BookInfoService {
     private final ReviewRepository reviewRepository;
     private final ExcerptRepository excerptRepository;
     private final GenreService genreService;
+    private final BookInfoBasicService bookInfoBasicService;
     private final GoogleBooksApiService googleBooksApiService;
     private final UserService userService;
     private final OneLineRepository oneLineRepository;
     private final S3Service s3Service;
-    private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
     private final BadgeUnlockService badgeUnlockService;
     private final UserGrowthService userGrowthService;
     private final ItemUnlockService itemUnlockService;
+    private final LibraryChangeQueue libraryChangeQueue;
+    private final FanOutExecutor fanOutExecutor;
+    private final TransactionRunner transactionRunner;
 
-    // api 도서 목록 조회
+    // api 도서 목록 조회 (구글 API 호출 중에는 커넥션을 잡지 않고, 응답을 받은 뒤 DB 조회만 트랜잭션으로)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookListResponseDto<BookUnitResponseDto> searchBookList(String keyword, Long page, Long size) {
-        User user = userService.getCurrentUser();
         String responseBody = googleBooksApiService.searchBookList(keyword, page, size);
         int totalBooks = parseTotalBooks(responseBody);
 
         List<BookUnitParseDto> bookInfoList = parseBookInfo(responseBody);
+        List<BookUnitResponseDto> bookResponseList = transactionRunner.executeReadOnly(() -> toBookUnitResponseList(bookInfoList));
+        int totalPage = (int) Math.ceil((double) totalBooks / size);
+        return new BookListResponseDto<>(bookResponseList, totalPage, page);
+    }
+
+    private List<BookUnitResponseDto> toBookUnitResponseList(List<BookUnitParseDto> bookInfoList) {
+        User user = userService.getCurrentUser();
+        // 검색 결과마다 조회하지 않도록 등록된 책과 내 별점/한줄평/상태를 한 번에 조회
+        Map<String, BookInfo> bookInfoMap = bookInfoRepository.findAllByProviderIdIn(
+                        bookInfoList.stream().map(BookUnitParseDto::providerId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(BookInfo::getProviderId, bookInfo -> bookInfo, (first, second) -> first));
+        Map<Long, MyRatingOneLineReadStatusDto> myRatingOneLineMap = getMyRatingOneLineReadStatusMap(bookInfoMap.values(), user);
+
         List<BookUnitResponseDto> bookResponseList = new ArrayList<>();
         for(BookUnitParseDto bookUnit : bookInfoList){
-            BookInfo bookInfo = findBookInfoByProviderId(bookUnit.providerId())
-                    .orElse(null);
+            BookInfo bookInfo = bookInfoMap.get(bookUnit.providerId());
 
             if(bookInfo != null){
-                MyRatingOneLineReadStatusDto myRatingOneLine = getMyRatingOneLineReadStatus(bookInfo, user);
+                MyRatingOneLineReadStatusDto myRatingOneLine = myRatingOneLineMap.getOrDefault(
+                        bookInfo.getBookInfoId(), MyRatingOneLineReadStatusDto.defaultInstance());
                 BookUnitDto unitDto = BookUnitDto.from(bookUnit, myRatingOneLine, bookInfo.getBookInfoId());
                 BookUnitResponseDto responseDto = new BookUnitResponseDto(bookUnit.providerId(), unitDto);
                 bookResponseList.add(responseDto);
@@ -108,8 +137,7 @@ public class BookInfoService {
                 bookResponseList.add(responseDto);
             }
         }
-        int totalPage = (int) Math.ceil((double) totalBooks / size);
-        return new BookListResponseDto<>(bookResponseList, totalPage, page);
+        return bookResponseList;
     }
 
     // 목록 정보 파싱
@@ -173,17 +201,31 @@ public class BookInfoService {
     }
 
     //api 도서 기본 정보 조회
+    // 구글 API 호출과 DB 조회를 동시에 시작하고, DB에 있는 책이면 구글 API 응답을 기다리지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookInfoBasicResponseDto getApiBookBasicByProviderId(String providerId) {
-        String responseBody = googleBooksApiService.searchOneBook(providerId);
-        BookInfoDetailDto additional = parseBookDetail(responseBody);
+        try (FanOutScope scope = fanOutExecutor.openScope()) {
+            // 구글 API 실패가 DB 조회를 취소하지 않도록 예외를 결과로 돌려주고, DB에 없는 책일 때만 던짐
+            Subtask<Supplier<BookInfoBasicResponseDto>> apiBookTask = scope.fork(() -> {
+                try {
+                    String responseBody = googleBooksApiService.searchOneBook(providerId);
+                    BookInfoDetailDto additional = parseBookDetail(responseBody);
+                    BookUnitDto bookUnitDto = parseBookBasic(responseBody);
+                    BookInfoBasicResponseDto apiBook = BookInfoBasicResponseDto.from(providerId, bookUnitDto, additional);
+                    return () -> apiBook;
+                } catch (RuntimeException e) {
+                    return () -> {
+                        throw e;
+                    };
+                }
+            });
+            Subtask<Optional<BookInfoBasicResponseDto>> savedBookTask = scope.forkReadOnly(() ->
+                    bookInfoRepository.findByProviderId(providerId)
+                            .map(bookInfo -> getApiBookBasicByBookInfoId(bookInfo.getBookInfoId())));
 
-        Optional<BookInfo> bookInfo = bookInfoRepository.findByProviderId(providerId);
-        if(bookInfo.isPresent()){
-            return getApiBookBasicByBookInfoId(bookInfo.get().getBookInfoId());
-        }
-        else{
-            BookUnitDto bookUnitDto = parseBookBasic(responseBody);
-            return BookInfoBasicResponseDto.from(providerId, bookUnitDto, additional);
+            Optional<BookInfoBasicResponseDto> savedBook = savedBookTask.join();
+            // 스코프를 닫을 때 아직 진행 중인 구글 API 호출은 취소됨
+            return savedBook.orElseGet(() -> apiBookTask.join().get());
         }
     }
 
@@ -262,20 +304,18 @@ public class BookInfoService {
         return bookInfoRepository.findByProviderId(providerId);
     }
 
-    // custom bookInfo 삭제
+    // custom bookInfo 삭제 (표지 이미지는 삭제가 커밋된 뒤 정리)
     public void deleteCustomBookInfo(Long bookInfoId) {
         BookInfo bookInfo = getBookInfoById(bookInfoId);
-        if(bookInfo.getImgPath() != null){
-            s3Service.deleteFile(bookInfo.getImgPath());
-        }
+        String imgPath = bookInfo.getImgPath();
         bookInfoRepository.delete(bookInfo);
+        if(imgPath != null){
+            afterCommitAsync(() -> s3Service.deleteFile(imgPath));
+        }
     }
 
-    public BookInfo saveCustomBookInfo (AddCustomBookRequestDto dto, User user) {
-        String imgPath = null;
-        if(dto.coverImage() != null){
-            imgPath = s3Service.uploadFile(dto.coverImage());
-        }
+    // 표지 이미지는 트랜잭션 전에 uploadCoverImage로 올려 둔 경로를 받음
+    public BookInfo saveCustomBookInfo (AddCustomBookRequestDto dto, User user, String imgPath) {
         Genre genre = genreService.findOrCreateGenreByGenreName(GenreName.valueOf("OTHERS"));
         BookInfo bookInfo = dto.toEntity(imgPath, genre, user.getUserId());
         return bookInfoRepository.save(bookInfo);
@@ -300,22 +340,12 @@ public class BookInfoService {
     public BookInfoBasicResponseDto getApiBookBasicByBookInfoId(Long bookInfoId) {
         User user = userService.getCurrentUser();
 
-        BookInfo bookInfo = getBookInfoById(bookInfoId);
-        if(bookInfo.getProviderId() == null){
-            throw new CustomException(ErrorCode.BOOKINFO_BAD_REQUEST);
-        }
-        Optional<UserBook> userBook = userBookRepository.findByUserAndBookInfo(user, bookInfo);
-
-        MyRatingOneLineReadStatusDto my = getMyRatingOneLineReadStatus(bookInfo, user);
-        String koreanGenreName = genreService.genreNameToKorean(bookInfo.getGenre());
-        BookInfoDetailDto additional = new BookInfoDetailDto(bookInfo, koreanGenreName);
-        BookUnitDto bookUnitDto = BookUnitDto.from(bookInfo, my);
+        // 책 공통 정보는 캐시에서, 내 별점/한줄평/상태만 매번 조회
+        BookInfoBasicCacheDto basic = bookInfoBasicService.getBookInfoBasic(bookInfoId);
+        MyRatingOneLineReadStatusDto my = getMyRatingOneLineReadStatus(bookInfoRepository.getReferenceById(bookInfoId), user);
 
-        if(userBook.isPresent()){
-            return BookInfoBasicResponseDto.from(bookInfo.getProviderId(), bookUnitDto, getRatingAverage(bookInfo),my.oneLineId(), my.myOneLine(), additional);
-        }else{
-            return new BookInfoBasicResponseDto(bookInfo.getProviderId(), bookUnitDto, getRatingAverage(bookInfo), null,null, additional);
-        }
+        return BookInfoBasicResponseDto.from(basic.providerId(), basic.toBookUnitDto(my), basic.ratingAverage(),
+                my.oneLineId(), my.myOneLine(), basic.bookInfoDetailDto());
     }
 
     // custom 기본 정보
@@ -342,32 +372,32 @@ public class BookInfoService {
 
     @Transactional(readOnly = true)
     public Double getRatingAverage(BookInfo bookInfo) {
-        double totalRating = 0.0;
-        int count = 0;
-
-        List<UserBook> userBookList = userBookRepository.findAllByBookInfo(bookInfo);
-        if(userBookList.isEmpty()){
-            return null;
-        }
+        return bookInfoBasicService.getRatingAverage(bookInfo);
+    }
 
-        for(UserBook book : userBookList){
-            if (book.getRating() != 0.0) {
-                totalRating += book.getRating();
-                count++;
-            }
-        }
+    // 트랜잭션 밖에서 표지 이미지 업로드 (이미지가 없으면 null)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String uploadCoverImage(MultipartFile coverImage) {
+        return coverImage == null ? null : s3Service.uploadFile(coverImage);
+    }
 
-        if(count > 0){
-            double average = totalRating / count;
-            BigDecimal roundedAverage = new BigDecimal(average).setScale(1, RoundingMode.HALF_UP);
-            return roundedAverage.doubleValue();
-        }else{
-            return null;
+    // 업로드한 표지를 쓰는 트랜잭션이 실패했을 때의 보상 작업
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteUploadedCoverImage(String imgPath) {
+        if (imgPath != null) {
+            s3Service.deleteFile(imgPath);
         }
     }
 
-    @Transactional
+    // 새 표지는 트랜잭션 전에 올리고, 이전 표지는 커밋 후 삭제. 수정이 실패하면 새 표지를 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CustomBookResponseDto updateCustomBookInfo(Long bookInfoId, CustomBookUpdateDto dto) {
+        String newImgPath = uploadCoverImage(dto.coverImage());
+        return transactionRunner.execute(() -> updateCustomBookInfo(bookInfoId, dto, newImgPath),
+                () -> deleteUploadedCoverImage(newImgPath));
+    }
+
+    private CustomBookResponseDto updateCustomBookInfo(Long bookInfoId, CustomBookUpdateDto dto, String newImgPath) {
         BookInfo bookInfo = getBookInfoById(bookInfoId);
         User user = userService.getCurrentUser();
 
@@ -379,10 +409,12 @@ public class BookInfoService {
                 if (dto.author() != null) {
                     bookInfo.setAuthor(dto.author());
                 }
-                if(dto.coverImage() != null){
-                    String newImgPath = s3Service.uploadFile(dto.coverImage());
-                    s3Service.deleteFile(bookInfo.getImgPath());
+                if(newImgPath != null){
+                    String oldImgPath = bookInfo.getImgPath();
                     bookInfo.setImgPath(newImgPath);
+                    if (oldImgPath != null) {
+                        afterCommitAsync(() -> s3Service.deleteFile(oldImgPath));
+                    }
                 }
             }else{
                 throw new CustomException(ErrorCode.UNAUTHORIZED_REQUEST);
@@ -415,6 +447,28 @@ public class BookInfoService {
         }
     }
 
+    // 여러 책에 대한 내 별점/한줄평/상태 (bookInfoId 기준, 서재에 없는 책은 포함하지 않음)
+    public Map<Long, MyRatingOneLineReadStatusDto> getMyRatingOneLineReadStatusMap(Collection<BookInfo> bookInfos, User user) {
+        if (bookInfos.isEmpty()) {
+            return Map.of();
+        }
+        List<UserBook> userBooks = userBookRepository.findAllByUserAndBookInfoIn(user, bookInfos);
+        if (userBooks.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, OneLine> oneLineMap = oneLineRepository.findAllByUserBookIn(userBooks).stream()
+                .collect(Collectors.toMap(oneLine -> oneLine.getUserBook().getUserBookId(), oneLine -> oneLine));
+
+        Map<Long, MyRatingOneLineReadStatusDto> result = new HashMap<>();
+        for (UserBook userBook : userBooks) {
+            OneLine oneLine = oneLineMap.get(userBook.getUserBookId());
+            result.put(userBook.getBookInfo().getBookInfoId(), oneLine == null
+                    ? MyRatingOneLineReadStatusDto.from(userBook)
+                    : MyRatingOneLineReadStatusDto.from(userBook, oneLine));
+        }
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public BookInfo getBookInfoById(Long bookInfoId){
         BookInfo bookInfo = bookInfoRepository.findById(bookInfoId)
@@ -443,13 +497,25 @@ public class BookInfoService {
             default:
                 throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
-        User currentUser = userService.getCurrentUser();
+        Long currentUserId = userService.getCurrentUserId();
+        // 한줄평마다 좋아요 목록을 불러오지 않고 페이지 단위로 한 번에 집계
+        Map<Long, Long> likeCountMap = new HashMap<>();
+        Set<Long> likedOneLineIds = new HashSet<>();
+        if (oneLinePage.hasContent()) {
+            for (Object[] row : oneLineRepository.countLikesOfOneLines(oneLinePage.getContent(), currentUserId)) {
+                Long oneLineId = (Long) row[0];
+                likeCountMap.put(oneLineId, (Long) row[1]);
+                if (((Number) row[2]).longValue() > 0) {
+                    likedOneLineIds.add(oneLineId);
+                }
+            }
+        }
         Page<OneLineRatingUnitDto> dtoPage = oneLinePage.map(oneLine -> {
-            Boolean isLiked = oneLine.getOneLineLikes().stream()
-                    .anyMatch(like -> like.getUser().getUserId().equals(currentUser.getUserId()));
+            int likeCount = likeCountMap.getOrDefault(oneLine.getOneLineId(), 0L).intValue();
+            boolean isLiked = likedOneLineIds.contains(oneLine.getOneLineId());
             String nickname = oneLine.getUser().getNickname();
             String safeNickname = nickname != null ? nickname : "알 수 없는 사용자";
-            return new OneLineRatingUnitDto(oneLine, isLiked, safeNickname);
+            return new OneLineRatingUnitDto(oneLine, likeCount, isLiked, safeNickname);
         });
         return OneLineRatingListResponseDto.from(bookInfoId, dtoPage);
     }
@@ -511,7 +577,7 @@ public class BookInfoService {
 
     @Transactional(readOnly = true)
     public boolean isFriend(User currentUser, User otherUser){
-        return friendRepository.findFriendBetweenUsers(currentUser.getUserId(), otherUser.getUserId()).isPresent();
+        return friendGraphCache.isFriend(currentUser.getUserId(), otherUser.getUserId());
     }
 
     @Transactional(readOnly = true)
@@ -561,7 +627,17 @@ public class BookInfoService {
                 .orElseThrow(()-> new CustomException(ErrorCode.USERBOOK_NOT_FOUND));
     }
 
-    public UserBook addBookByProviderId(String providerId, AddUserBookRequestDto requestDto) {
+    // 트랜잭션 밖에서 호출: 아직 등록되지 않은 책이면 구글 API에서 상세 정보 조회 (이미 등록된 책이면 null)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookInfoDetailDto fetchApiBookDetailIfAbsent(String providerId) {
+        if (bookInfoRepository.findByProviderId(providerId).isPresent()) {
+            return null;
+        }
+        return parseBookDetail(googleBooksApiService.searchOneBook(providerId));
+    }
+
+    // apiBookDetail: 트랜잭션 전에 fetchApiBookDetailIfAbsent로 미리 조회한 값 (트랜잭션 안에서는 구글 API를 호출하지 않음)
+    public UserBook addBookByProviderId(String providerId, AddUserBookRequestDto requestDto, BookInfoDetailDto apiBookDetail) {
         User user = userService.getCurrentUser();
         Optional<BookInfo> bookInfo = findBookInfoByProviderId(providerId);
 
@@ -575,8 +651,11 @@ public class BookInfoService {
             savedUserBook = userBookRepository.save(userBook);
         }
         else{
-            String responseBody = googleBooksApiService.searchOneBook(providerId);
-            BookInfoDetailDto additional = parseBookDetail(responseBody);
+            // 미리 조회할 때는 등록된 책이었지만 그 사이 삭제된 경우
+            if (apiBookDetail == null) {
+                throw new CustomException(ErrorCode.BOOKINFO_NOT_FOUND);
+            }
+            BookInfoDetailDto additional = apiBookDetail;
             Genre genre = genreService.matchGenre(additional.category());
 
             BookInfo newBookInfo = additional.toEntity(providerId, requestDto, genre);
@@ -585,6 +664,7 @@ public class BookInfoService {
             UserBook userBook = requestDto.toEntity(user, newBookInfo, ReadStatus.NOT_STARTED);
             savedUserBook = userBookRepository.save(userBook);
         }
+        libraryChangeQueue.add(user.getUserId());
         checkExpAndBadgeForFinishedBook(savedUserBook);
         return savedUserBook;
     }
@@ -595,9 +675,12 @@ public class BookInfoService {
         badgeUnlockService.checkAndUnlockBadges(userBook.getUser());
     }
 
+    // 구글 API 조회를 먼저 끝낸 뒤 서재 추가만 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AddUserBookResponseDto convertToAddUserBookResponseDto(String providerId, AddUserBookRequestDto requestDto) {
-        UserBook userBook = addBookByProviderId(providerId, requestDto);
-        return new AddUserBookResponseDto(userBook);
+        BookInfoDetailDto apiBookDetail = fetchApiBookDetailIfAbsent(providerId);
+        return transactionRunner.execute(() ->
+                new AddUserBookResponseDto(addBookByProviderId(providerId, requestDto, apiBookDetail)));
     }
 
     // 연관 추천 도서 조회
@@ -8,6 +8,9 @@ import com.mmc.bookduck.domain.archive.entity.Review;
 import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
 import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
 import com.mmc.bookduck.domain.book.dto.common.BookCoverImageUnitDto;
+import com.mmc.bookduck.domain.book.dto.common.LibraryBookDto;
+import com.mmc.bookduck.domain.book.dto.common.LibraryCursor;
+import com.mmc.bookduck.domain.book.dto.common.PreparedBookDto;
 import com.mmc.bookduck.domain.book.dto.request.AddUserBookRequestDto;
 import com.mmc.bookduck.domain.book.dto.request.AddCustomBookRequestDto;
 import com.mmc.bookduck.domain.book.dto.request.RatingRequestDto;
@@ -16,17 +19,24 @@ import com.mmc.bookduck.domain.book.entity.BookInfo;
 import com.mmc.bookduck.domain.book.entity.ReadStatus;
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.book.repository.UserBookRepository;
+import com.mmc.bookduck.domain.friend.repository.LibraryChangeQueue;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.cache.CacheEvictor;
 import com.mmc.bookduck.global.common.BaseTimeEntity;
+import com.mmc.bookduck.global.common.TransactionRunner;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -39,18 +49,27 @@ public class UserBookService {
     private final UserService userService;
     private final ExcerptRepository excerptRepository;
     private final ReviewRepository reviewRepository;
+    private final LibraryChangeQueue libraryChangeQueue;
+    private final CacheEvictor cacheEvictor;
+    private final TransactionRunner transactionRunner;
 
-    //customBook 추가
-    public UserBook createCustomBookEntity(AddCustomBookRequestDto requestDto) {
+    //customBook 추가 (표지는 트랜잭션 전에 올려 둔 경로를 사용)
+    public UserBook createCustomBookEntity(AddCustomBookRequestDto requestDto, String coverImgPath) {
         User user = userService.getCurrentUser();
-        BookInfo bookInfo = bookInfoService.saveCustomBookInfo(requestDto, user);
+        BookInfo bookInfo = bookInfoService.saveCustomBookInfo(requestDto, user, coverImgPath);
         UserBook userBook = new UserBook(ReadStatus.NOT_STARTED, user, bookInfo);
+        libraryChangeQueue.add(user.getUserId());
         return userBookRepository.save(userBook);
     }
 
+    // 표지를 먼저 업로드하고 책 추가만 트랜잭션으로. 추가가 실패하면 업로드한 표지 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CustomBookResponseDto createCustomBook(AddCustomBookRequestDto requestDto) {
-        UserBook userBook = createCustomBookEntity(requestDto);
-        return new CustomBookResponseDto(userBook, 0.0,null, null, true);
+        String coverImgPath = bookInfoService.uploadCoverImage(requestDto.coverImage());
+        return transactionRunner.execute(() -> {
+            UserBook userBook = createCustomBookEntity(requestDto, coverImgPath);
+            return new CustomBookResponseDto(userBook, 0.0,null, null, true);
+        }, () -> bookInfoService.deleteUploadedCoverImage(coverImgPath));
     }
 
     private UserBookResponseDto convertToUserBookResponseDto(UserBook userBook) {
@@ -58,23 +77,48 @@ public class UserBookService {
         return new UserBookResponseDto(userBook, isCustomBook);
     }
 
-    public UserBook getUserBookOrAdd(ExcerptCreateRequestDto excerptDto, ReviewCreateRequestDto reviewDto, ArchiveCreateRequestDto archiveDto, String providerId) {
-        // ExcerptDto 또는 ReviewDto에서 userBookId를 확인
-        Long userBookId = (excerptDto != null && excerptDto.getUserBookId() != null)
-                ? excerptDto.getUserBookId()
-                : (reviewDto != null ? reviewDto.getUserBookId() : null);
+    // 기록 작성 시 새로 추가할 책의 외부 데이터를 트랜잭션 전에 준비 (getUserBookOrAdd와 같은 기준)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PreparedBookDto prepareBookForArchive(ArchiveCreateRequestDto archiveDto) {
+        if (findUserBookId(archiveDto.getExcerpt(), archiveDto.getReview()) != null) {
+            return PreparedBookDto.none();
+        }
+        if (archiveDto.getUserBook() != null && archiveDto.getProviderId() != null) {
+            return new PreparedBookDto(bookInfoService.fetchApiBookDetailIfAbsent(archiveDto.getProviderId()), null);
+        } else if (archiveDto.getCustomBook() != null) {
+            return new PreparedBookDto(null, bookInfoService.uploadCoverImage(archiveDto.getCustomBook().coverImage()));
+        }
+        return PreparedBookDto.none();
+    }
+
+    // 기록 작성이 실패했을 때 준비한 외부 데이터 정리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void discardPreparedBook(PreparedBookDto preparedBook) {
+        bookInfoService.deleteUploadedCoverImage(preparedBook.coverImgPath());
+    }
+
+    public UserBook getUserBookOrAdd(ExcerptCreateRequestDto excerptDto, ReviewCreateRequestDto reviewDto, ArchiveCreateRequestDto archiveDto,
+                                     String providerId, PreparedBookDto preparedBook) {
+        Long userBookId = findUserBookId(excerptDto, reviewDto);
         if (userBookId != null) {
             return getUserBookById(userBookId);
         }
         if (archiveDto.getUserBook() != null && providerId != null) {
-            return bookInfoService.addBookByProviderId(providerId, archiveDto.getUserBook());
+            return bookInfoService.addBookByProviderId(providerId, archiveDto.getUserBook(), preparedBook.apiBookDetail());
         } else if (archiveDto.getCustomBook() != null) {
-            return createCustomBookEntity(archiveDto.getCustomBook());
+            return createCustomBookEntity(archiveDto.getCustomBook(), preparedBook.coverImgPath());
         } else {
             throw new CustomException(ErrorCode.USERBOOK_NOT_FOUND);
         }
     }
 
+    // ExcerptDto 또는 ReviewDto에서 userBookId를 확인
+    private Long findUserBookId(ExcerptCreateRequestDto excerptDto, ReviewCreateRequestDto reviewDto) {
+        return (excerptDto != null && excerptDto.getUserBookId() != null)
+                ? excerptDto.getUserBookId()
+                : (reviewDto != null ? reviewDto.getUserBookId() : null);
+    }
+
     // 서재에서 책 삭제
     public void deleteUserBook(Long userBookId) {
         UserBook userBook = getUserBookById(userBookId);
@@ -87,6 +131,11 @@ public class UserBookService {
             Long createdUserId = bookInfo.getCreatedUserId();
 
             userBookRepository.delete(userBook);
+            libraryChangeQueue.add(user.getUserId());
+            // 평점 평균, 기록 수, 완독 수가 바뀔 수 있음
+            cacheEvictor.evictBookInfoBasic(bookInfo.getBookInfoId());
+            cacheEvictor.evictUserProfile(user.getUserId());
+            cacheEvictor.evictUserBadges(user.getUserId());
             // 사용자가 직접 등록한 책이면 bookInfo도 같이 삭제
             if(createdUserId != null && createdUserId.equals(user.getUserId())){
                 bookInfoService.deleteCustomBookInfo(bookInfo.getBookInfoId());
@@ -115,6 +164,8 @@ public class UserBookService {
         userBook.changeReadStatus(ReadStatus.valueOf(status));
         // 경험치, 뱃지
         bookInfoService.checkExpAndBadgeForFinishedBook(userBook);
+        // 완독에서 다른 상태로 바뀌어도 완독 수가 줄어듦
+        cacheEvictor.evictUserBadges(user.getUserId());
         return convertToUserBookResponseDto(userBook);
     }
 
@@ -124,19 +175,25 @@ public class UserBookService {
                 .orElseThrow(()-> new CustomException(ErrorCode.USERBOOK_NOT_FOUND));
     }
 
+    // 여러 userBook을 한 번에 조회 (없는 id는 결과에서 빠짐)
+    @Transactional(readOnly = true)
+    public List<UserBook> getUserBooksByIds(Collection<Long> userBookIds){
+        return userBookRepository.findAllWithBookInfoByUserBookIdIn(userBookIds);
+    }
+
     // 서재 책 전체 조회
+    @Transactional(readOnly = true)
     public UserBookListResponseDto getAllUserBook(String sort) {
-        User user = userService.getCurrentUser();
-        List<UserBook> userBookList = sortUserBook(user, sort);
-
-        List<UserBookResponseDto> dtos = userBookList.stream()
-                .map(this::convertToUserBookResponseDto)
+        Long userId = userService.getCurrentUserId();
+        List<UserBookResponseDto> dtos = findLibraryBooks(userId, List.of(ReadStatus.values()), sort, null, Pageable.unpaged())
+                .stream()
+                .map(LibraryBookDto::toResponseDto)
                 .toList();
-
         return new UserBookListResponseDto(dtos);
     }
 
     // 서재 책 상태별 조회
+    @Transactional(readOnly = true)
     public UserBookListResponseDto getStatusUserBook(List<String> statusList, String sort) {
 
         if (statusList.isEmpty()) {
@@ -144,19 +201,35 @@ public class UserBookService {
         }
 
         List<ReadStatus> readStatusList = validateReadStatus(statusList);
-        User user = userService.getCurrentUser();
+        Long userId = userService.getCurrentUserId();
 
-        // 필터링 및 정렬된 책 리스트 생성
-        List<UserBook> userBookList = sortUserBook(user, sort).stream()
-                .filter(userBook -> readStatusList.contains(userBook.getReadStatus())) // 상태 필터링
+        List<UserBookResponseDto> dtos = findLibraryBooks(userId, readStatusList, sort, null, Pageable.unpaged())
+                .stream()
+                .map(LibraryBookDto::toResponseDto)
                 .toList();
+        return new UserBookListResponseDto(dtos);
+    }
 
-        // DTO 변환
-        List<UserBookResponseDto> dtos = userBookList.stream()
-                .map(this::convertToUserBookResponseDto)
+    // 서재 책 목록 페이지 조회 (상태 필터, 정렬, 키셋 커서 모두 쿼리에서 처리)
+    @Transactional(readOnly = true)
+    public UserBookPageResponseDto getUserBookPage(List<String> statusList, String sort, String cursor, int size) {
+        Long userId = userService.getCurrentUserId();
+        List<ReadStatus> readStatusList = (statusList == null || statusList.isEmpty())
+                ? List.of(ReadStatus.values())
+                : validateReadStatus(statusList);
+        LibraryCursor libraryCursor = cursor != null ? LibraryCursor.decode(cursor) : null;
+
+        // 다음 페이지 여부 확인을 위해 size + 1개 조회
+        List<LibraryBookDto> books = findLibraryBooks(userId, readStatusList, sort, libraryCursor, PageRequest.of(0, size + 1));
+        String nextCursor = null;
+        if (books.size() > size) {
+            books = books.subList(0, size);
+            nextCursor = LibraryCursor.of(sort, books.get(size - 1)).encode();
+        }
+        List<UserBookResponseDto> dtos = books.stream()
+                .map(LibraryBookDto::toResponseDto)
                 .toList();
-
-        return new UserBookListResponseDto(dtos);
+        return new UserBookPageResponseDto(dtos, nextCursor);
     }
 
     /*
@@ -211,20 +284,20 @@ public class UserBookService {
     */
 
 
-    @Transactional(readOnly = true)
-    public List<UserBook> sortUserBook(User user, String sort){
-
-        if(sort.equals("latest")){
-            return userBookRepository.findAllByUserOrderByCreatedTimeDesc(user);
-        }else if(sort.equals("rating_high")){
-            return userBookRepository.findByUserOrderByRatingDesc(user);
-        }else if(sort.equals("rating_low")){
-            return userBookRepository.findByUserOrderByRatingAsc(user);
-        }else if(sort.equals("title")){
-            return userBookRepository.findAllByUserOrderByTitle(user);
-        }else{
-            throw new CustomException(ErrorCode.ERROR);
-        }
+    private List<LibraryBookDto> findLibraryBooks(Long userId, List<ReadStatus> readStatusList, String sort,
+                                                  LibraryCursor cursor, Pageable pageable){
+        Long cursorId = cursor != null ? cursor.userBookId() : null;
+        return switch (sort) {
+            case "latest" -> userBookRepository.findLibraryOrderByLatest(userId, readStatusList,
+                    cursor != null ? cursor.createdTime() : null, cursorId, pageable);
+            case "rating_high" -> userBookRepository.findLibraryOrderByRatingDesc(userId, readStatusList,
+                    cursor != null ? cursor.rating() : null, cursorId, pageable);
+            case "rating_low" -> userBookRepository.findLibraryOrderByRatingAsc(userId, readStatusList,
+                    cursor != null ? cursor.rating() : null, cursorId, pageable);
+            case "title" -> userBookRepository.findLibraryOrderByTitle(userId, readStatusList,
+                    cursor != null ? cursor.sortValue() : null, cursorId, pageable);
+            default -> throw new CustomException(ErrorCode.ERROR);
+        };
     }
 
     @Transactional(readOnly = true)
@@ -249,6 +322,7 @@ public class UserBookService {
         }
         UserBook userBook = getUserBookById(userbookId);
         userBook.changeRating(dto.rating());
+        cacheEvictor.evictBookInfoBasic(userBook.getBookInfo().getBookInfoId());
 
         return RatingResponseDto.from(userBook);
     }
@@ -257,6 +331,7 @@ public class UserBookService {
     public void deleteRating(Long userbookId) {
         UserBook userBook = getUserBookById(userbookId);
         userBook.changeRating(0.0);
+        cacheEvictor.evictBookInfoBasic(userBook.getBookInfo().getBookInfoId());
     }
 
     @Transactional(readOnly = true)
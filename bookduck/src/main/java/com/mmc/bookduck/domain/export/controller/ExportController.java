@@ -5,6 +5,8 @@ import com.mmc.bookduck.domain.archive.dto.response.ReviewExportResponseDto;
 import com.mmc.bookduck.domain.export.dto.ExportCharResponseDto;
 import com.mmc.bookduck.domain.export.dto.ExportStatsResponseDto;
 import com.mmc.bookduck.domain.export.service.ExportService;
+import com.mmc.bookduck.global.ratelimit.RateLimitType;
+import com.mmc.bookduck.global.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class ExportController {
     private final ExportService exportService;
 
+    @RateLimited(type = RateLimitType.EXPORT, capacity = 10, globalCapacity = 300)
     @GetMapping("/character")
     @Operation(summary = "캐릭터 내보내기 정보 제공", description = "캐릭터 내보내기 할 정보를 조회합니다.")
     public ResponseEntity<?> getCharacterExportInfo() {
@@ -26,6 +29,7 @@ public class ExportController {
         return ResponseEntity.ok(responseDto);
     }
 
+    @RateLimited(type = RateLimitType.EXPORT, capacity = 10, globalCapacity = 300)
     @GetMapping("/statistics")
     @Operation(summary = "통계 요약 내보내기 정보 제공", description = "통계 요약 내보내기 할 정보를 조회합니다.")
     public ResponseEntity<?> getStatisticsExportInfo() {
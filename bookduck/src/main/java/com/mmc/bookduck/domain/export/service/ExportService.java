@@ -16,17 +16,21 @@ import com.mmc.bookduck.domain.export.dto.ExportStatsResponseDto;
 import com.mmc.bookduck.domain.item.dto.common.ItemEquippedUnitDto;
 import com.mmc.bookduck.domain.item.service.UserItemService;
 import com.mmc.bookduck.domain.user.dto.response.UserKeywordResponseDto;
-import com.mmc.bookduck.domain.user.dto.response.UserStatisticsResponseDto;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserReadingReportService;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.concurrent.FanOutExecutor;
+import com.mmc.bookduck.global.concurrent.FanOutScope;
+import com.mmc.bookduck.global.concurrent.FanOutScope.Subtask;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
@@ -43,8 +47,11 @@ public class ExportService {
     private final ExcerptRepository excerptRepository;
     private final ReviewRepository reviewRepository;
     private final UserBookRepository userBookRepository;
+    private final FanOutExecutor fanOutExecutor;
 
     // 캐릭터 내보내기
+    // 덕 칭호, 키워드, 장착 아이템은 서로 독립적이므로 동시에 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ExportCharResponseDto getCharExportInfo(){
         User user = userService.getCurrentUser();
         long userBookCount = userBookRepository.countByUser(user);
@@ -52,15 +59,20 @@ public class ExportService {
             throw new CustomException(ErrorCode.READINGREPORT_NOT_VIEWABLE);
         }
         String nickname = user.getNickname();
-        // UserStatisticsResponseDto를 통해 duckTitle 재사용
-        UserStatisticsResponseDto userStatistics = userReadingReportService.getUserStatistics(user.getUserId());
-        String duckTitle = userStatistics.duckTitle();
-        UserKeywordResponseDto keywordResponse = userReadingReportService.getUserKeywordWithLimit(user.getUserId(), 3);
-        List<ItemEquippedUnitDto> userItemEquipped = userItemService.getUserItemEquippedListOfUser(user);
-        return new ExportCharResponseDto(nickname, duckTitle, keywordResponse, userItemEquipped);
+        try (FanOutScope scope = fanOutExecutor.openScope()) {
+            // 통계 전체를 만들지 않고 덕 칭호만 조회
+            Subtask<String> duckTitleTask = scope.fork(() -> userReadingReportService.getDuckTitle(user));
+            Subtask<UserKeywordResponseDto> keywordTask = scope.fork(() ->
+                    userReadingReportService.getUserKeywordWithLimit(user.getUserId(), 3));
+            Subtask<List<ItemEquippedUnitDto>> itemEquippedTask = scope.forkReadOnly(() ->
+                    userItemService.getUserItemEquippedListOfUser(user));
+            scope.join();
+            return new ExportCharResponseDto(nickname, duckTitleTask.get(), keywordTask.get(), itemEquippedTask.get());
+        }
     }
 
     // 통계 요약 내보내기
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ExportStatsResponseDto getStatsExportInfo(){
         User user = userService.getCurrentUser();
         String nickname = user.getNickname();
@@ -68,34 +80,42 @@ public class ExportService {
         int month = LocalDate.now().getMonthValue();
         String season = calculateSeason(month);
         LocalDate[] seasonDates = getSeasonDates(month);
-        LocalDate startDate = seasonDates[0];
-        LocalDate endDate = seasonDates[1];
-        // 다 읽은 책, 발췌, 감상, TOTAL
-        long finishedBookCount = userBookRepository.countByUserAndReadStatusAndCreatedTimeBetween(
-                user, ReadStatus.FINISHED, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
-        long excerptCount = excerptRepository.countByUserAndCreatedTimeBetween(
-                user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
-        long reviewCount = reviewRepository.countByUserAndCreatedTimeBetween(
-                user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
-        // 선호하는 작가, 선호하는 장르, 기록 키드
-        List<GenreName> genres = userBookRepository.findTopGenreByUserAndCreatedTimeBetween(user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
-        GenreName mostReadGenre = genres.get(0);
-        List<String> authors = userBookRepository.findTopAuthorByUserAndCreatedTimeBetween(user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
-        String mostReadAuthor = authors.get(0);
-        UserKeywordResponseDto keywordResponse = userReadingReportService.getUserKeywordWithLimit(user.getUserId(), 1);
-        return new ExportStatsResponseDto(
-                nickname,
-                season,
-                LocalDate.now(),
-                finishedBookCount,
-                mostReadGenre,
-                mostReadAuthor,
-                keywordResponse,
-                excerptCount,
-                reviewCount,
-                excerptCount + reviewCount
-        );
+        LocalDateTime startTime = seasonDates[0].atStartOfDay();
+        LocalDateTime endTime = seasonDates[1].atTime(LocalTime.MAX);
+        try (FanOutScope scope = fanOutExecutor.openScope()) {
+            // 다 읽은 책, 발췌, 감상, TOTAL
+            Subtask<Long> finishedBookCountTask = scope.fork(() -> userBookRepository.countByUserAndReadStatusAndCreatedTimeBetween(
+                    user, ReadStatus.FINISHED, startTime, endTime));
+            Subtask<Long> excerptCountTask = scope.fork(() -> excerptRepository.countByUserAndCreatedTimeBetween(
+                    user, startTime, endTime));
+            Subtask<Long> reviewCountTask = scope.fork(() -> reviewRepository.countByUserAndCreatedTimeBetween(
+                    user, startTime, endTime));
+            // 선호하는 작가, 선호하는 장르, 기록 키드
+            Subtask<List<GenreName>> genresTask = scope.fork(() ->
+                    userBookRepository.findTopGenreByUserAndCreatedTimeBetween(user, startTime, endTime));
+            Subtask<List<String>> authorsTask = scope.fork(() ->
+                    userBookRepository.findTopAuthorByUserAndCreatedTimeBetween(user, startTime, endTime));
+            Subtask<UserKeywordResponseDto> keywordTask = scope.fork(() ->
+                    userReadingReportService.getUserKeywordWithLimit(user.getUserId(), 1));
+            scope.join();
 
+            GenreName mostReadGenre = genresTask.get().get(0);
+            String mostReadAuthor = authorsTask.get().get(0);
+            long excerptCount = excerptCountTask.get();
+            long reviewCount = reviewCountTask.get();
+            return new ExportStatsResponseDto(
+                    nickname,
+                    season,
+                    LocalDate.now(),
+                    finishedBookCountTask.get(),
+                    mostReadGenre,
+                    mostReadAuthor,
+                    keywordTask.get(),
+                    excerptCount,
+                    reviewCount,
+                    excerptCount + reviewCount
+            );
+        }
     }
 
     public String calculateSeason(int month){
@@ -0,0 +1,26 @@
+package com.mmc.bookduck.domain.feed.controller;
+
+import com.mmc.bookduck.domain.feed.dto.response.FeedListResponseDto;
+import com.mmc.bookduck.domain.feed.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/feeds")
+@Tag(name = "Feed", description = "Feed 관련 API입니다.")
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @GetMapping
+    @Operation(summary = "친구 활동 피드 조회", description = "친구들의 공개 발췌, 리뷰, 한줄평을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor로 조회합니다.")
+    public ResponseEntity<?> getFeed(@RequestParam(value = "cursor", required = false) final String cursor,
+                                     @RequestParam(value = "size", defaultValue = "20") final int size) {
+        FeedListResponseDto responseDto = feedService.getFeed(cursor, Math.max(1, Math.min(size, 50)));
+        return ResponseEntity.ok(responseDto);
+    }
+}
@@ -0,0 +1,32 @@
+package com.mmc.bookduck.domain.feed.dto.common;
+
+import com.mmc.bookduck.domain.feed.entity.FeedItemType;
+
+import java.util.Comparator;
+
+// 피드 inbox/outbox(Redis ZSET)의 한 항목. member는 "타입:id:작성자id", score는 작성 시각(ms)
+public record FeedEntry(
+        FeedItemType feedItemType,
+        Long itemId,
+        Long authorId,
+        long score
+) {
+    // 최신순 (같은 시각이면 ZREVRANGE와 같은 member 역순)
+    public static final Comparator<FeedEntry> LATEST_FIRST = Comparator
+            .comparingLong(FeedEntry::score).reversed()
+            .thenComparing(FeedEntry::toMember, Comparator.reverseOrder());
+
+    public String toMember() {
+        return feedItemType.name() + ":" + itemId + ":" + authorId;
+    }
+
+    public static FeedEntry of(String member, long score) {
+        String[] parts = member.split(":");
+        return new FeedEntry(FeedItemType.valueOf(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]), score);
+    }
+
+    // 커서(이미 내려준 마지막 항목)보다 뒤에 있는 항목인지
+    public boolean isAfter(FeedEntry cursor) {
+        return cursor == null || LATEST_FIRST.compare(this, cursor) > 0;
+    }
+}
@@ -0,0 +1,54 @@
+package com.mmc.bookduck.domain.feed.dto.common;
+
+import com.mmc.bookduck.domain.archive.entity.Excerpt;
+import com.mmc.bookduck.domain.archive.entity.Review;
+import com.mmc.bookduck.domain.book.entity.BookInfo;
+import com.mmc.bookduck.domain.feed.entity.FeedItemType;
+import com.mmc.bookduck.domain.oneline.entity.OneLine;
+import com.mmc.bookduck.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+public record FeedUnitDto(
+        FeedItemType feedItemType,
+        Long id,
+        Long userId,
+        String nickname,
+        Long bookInfoId,
+        String title,
+        String author,
+        String imgPath,
+        String content,
+        LocalDateTime createdTime
+) {
+    public static FeedUnitDto from(Excerpt excerpt) {
+        return of(FeedItemType.EXCERPT, excerpt.getExcerptId(), excerpt.getUser(),
+                excerpt.getUserBook().getBookInfo(), excerpt.getExcerptContent(), excerpt.getCreatedTime());
+    }
+
+    public static FeedUnitDto from(Review review) {
+        return of(FeedItemType.REVIEW, review.getReviewId(), review.getUser(),
+                review.getUserBook().getBookInfo(), review.getReviewContent(), review.getCreatedTime());
+    }
+
+    public static FeedUnitDto from(OneLine oneLine) {
+        return of(FeedItemType.ONELINE, oneLine.getOneLineId(), oneLine.getUser(),
+                oneLine.getUserBook().getBookInfo(), oneLine.getOneLineContent(), oneLine.getCreatedTime());
+    }
+
+    private static FeedUnitDto of(FeedItemType feedItemType, Long id, User user, BookInfo bookInfo,
+                                  String content, LocalDateTime createdTime) {
+        return new FeedUnitDto(
+                feedItemType,
+                id,
+                user.getUserId(),
+                user.getNickname(),
+                bookInfo.getBookInfoId(),
+                bookInfo.getTitle(),
+                bookInfo.getAuthor(),
+                bookInfo.getImgPath(),
+                content,
+                createdTime
+        );
+    }
+}
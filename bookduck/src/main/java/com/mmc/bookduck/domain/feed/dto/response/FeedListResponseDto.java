@@ -0,0 +1,11 @@
+package com.mmc.bookduck.domain.feed.dto.response;
+
+import com.mmc.bookduck.domain.feed.dto.common.FeedUnitDto;
+
+import java.util.List;
+
+public record FeedListResponseDto(
+        List<FeedUnitDto> feedList,
+        String nextCursor // 마지막 페이지면 null
+) {
+}
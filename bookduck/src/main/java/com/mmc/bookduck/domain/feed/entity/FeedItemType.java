@@ -0,0 +1,7 @@
+package com.mmc.bookduck.domain.feed.entity;
+
+public enum FeedItemType {
+    EXCERPT,
+    REVIEW,
+    ONELINE
+}
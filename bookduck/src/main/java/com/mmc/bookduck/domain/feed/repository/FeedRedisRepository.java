@@ -0,0 +1,103 @@
+package com.mmc.bookduck.domain.feed.repository;
+
+import com.mmc.bookduck.domain.feed.dto.common.FeedEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 유저별 피드 inbox(친구 글 fan-out 대상)와 작성자별 outbox(fan-out on read용)를 Redis ZSET으로 관리
+@Repository
+@RequiredArgsConstructor
+public class FeedRedisRepository {
+    private static final String INBOX_KEY_PREFIX = "feed:inbox:";
+    private static final String OUTBOX_KEY_PREFIX = "feed:outbox:";
+    private static final String HIGH_DEGREE_AUTHORS_KEY = "feed:high-degree-authors";
+    // 오래 접속하지 않은 유저의 inbox는 만료
+    private static final Duration INBOX_TTL = Duration.ofDays(30);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 작성자 outbox에 추가 후 최근 capacity개만 유지
+    public void addToOutbox(Long authorId, FeedEntry entry, int capacity) {
+        String key = OUTBOX_KEY_PREFIX + authorId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zAdd(key, entry.score(), entry.toMember());
+            stringConnection.zRemRange(key, 0, -(capacity + 1L));
+            return null;
+        });
+    }
+
+    // 친구들의 inbox에 한 번의 파이프라인으로 추가 후 최근 capacity개만 유지
+    public void addToInboxes(long[] userIds, FeedEntry entry, int capacity) {
+        String member = entry.toMember();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (long userId : userIds) {
+                String key = INBOX_KEY_PREFIX + userId;
+                stringConnection.zAdd(key, entry.score(), member);
+                stringConnection.zRemRange(key, 0, -(capacity + 1L));
+                stringConnection.expire(key, INBOX_TTL.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    // score가 maxScore 이하인 항목을 최신순으로 count개 조회
+    public List<FeedEntry> getInbox(Long userId, long maxScore, int count) {
+        return getLatest(INBOX_KEY_PREFIX + userId, maxScore, count);
+    }
+
+    public List<FeedEntry> getOutbox(Long authorId, long maxScore, int count) {
+        return getLatest(OUTBOX_KEY_PREFIX + authorId, maxScore, count);
+    }
+
+    public void removeFromInbox(Long userId, List<FeedEntry> entries) {
+        remove(INBOX_KEY_PREFIX + userId, entries);
+    }
+
+    public void removeFromOutbox(Long authorId, List<FeedEntry> entries) {
+        remove(OUTBOX_KEY_PREFIX + authorId, entries);
+    }
+
+    // 친구가 많아 fan-out on read로 읽히는 작성자 목록
+    public Set<String> getHighDegreeAuthorIds() {
+        return stringRedisTemplate.opsForSet().members(HIGH_DEGREE_AUTHORS_KEY);
+    }
+
+    public void addHighDegreeAuthor(Long authorId) {
+        stringRedisTemplate.opsForSet().add(HIGH_DEGREE_AUTHORS_KEY, authorId.toString());
+    }
+
+    public void removeHighDegreeAuthor(Long authorId) {
+        stringRedisTemplate.opsForSet().remove(HIGH_DEGREE_AUTHORS_KEY, authorId.toString());
+    }
+
+    private List<FeedEntry> getLatest(String key, long maxScore, int count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, maxScore, 0, count);
+        List<FeedEntry> entries = new ArrayList<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                entries.add(FeedEntry.of(tuple.getValue(), tuple.getScore().longValue()));
+            }
+        }
+        return entries;
+    }
+
+    private void remove(String key, List<FeedEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Object[] members = entries.stream().map(FeedEntry::toMember).toArray();
+        stringRedisTemplate.opsForZSet().remove(key, members);
+    }
+}
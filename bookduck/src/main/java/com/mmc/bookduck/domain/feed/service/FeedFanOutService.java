@@ -0,0 +1,88 @@
+package com.mmc.bookduck.domain.feed.service;
+
+import com.mmc.bookduck.domain.archive.entity.Excerpt;
+import com.mmc.bookduck.domain.archive.entity.Review;
+import com.mmc.bookduck.domain.common.Visibility;
+import com.mmc.bookduck.domain.feed.dto.common.FeedEntry;
+import com.mmc.bookduck.domain.feed.entity.FeedItemType;
+import com.mmc.bookduck.domain.feed.repository.FeedRedisRepository;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
+import com.mmc.bookduck.domain.oneline.entity.OneLine;
+import com.mmc.bookduck.global.common.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
+
+// 글 작성 시 친구들의 피드 inbox로 fan-out (친구가 많은 작성자는 outbox에만 쓰고 조회 시 병합)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedFanOutService {
+    private final FeedRedisRepository feedRedisRepository;
+    private final FriendGraphCache friendGraphCache;
+
+    @Value("${feed.inbox-capacity:500}")
+    private int inboxCapacity;
+
+    @Value("${feed.outbox-capacity:200}")
+    private int outboxCapacity;
+
+    // 친구 수가 이 값을 넘으면 fan-out on read
+    @Value("${feed.fan-out-threshold:1000}")
+    private int fanOutThreshold;
+
+    // 공개 글만 발행. 비공개 전환, 삭제는 조회 시 지연 정리
+    public void publish(Excerpt excerpt) {
+        if (excerpt != null && excerpt.getVisibility() == Visibility.PUBLIC) {
+            publish(FeedItemType.EXCERPT, excerpt.getExcerptId(), excerpt.getUser().getUserId(), excerpt.getCreatedTime());
+        }
+    }
+
+    public void publish(Review review) {
+        if (review != null && review.getVisibility() == Visibility.PUBLIC) {
+            publish(FeedItemType.REVIEW, review.getReviewId(), review.getUser().getUserId(), review.getCreatedTime());
+        }
+    }
+
+    public void publish(OneLine oneLine) {
+        publish(FeedItemType.ONELINE, oneLine.getOneLineId(), oneLine.getUser().getUserId(), oneLine.getCreatedTime());
+    }
+
+    // 커밋된 글만 발행하고, Redis 장애가 글 작성 실패로 이어지지 않도록 예외는 로그만 남김
+    private void publish(FeedItemType feedItemType, Long itemId, Long authorId, LocalDateTime createdTime) {
+        LocalDateTime time = createdTime != null ? createdTime : LocalDateTime.now();
+        FeedEntry entry = new FeedEntry(feedItemType, itemId, authorId, toScore(time));
+        afterCommit(() -> {
+            try {
+                fanOut(entry);
+            } catch (RuntimeException e) {
+                log.warn("피드 발행 실패: {}", entry.toMember(), e);
+            }
+        });
+    }
+
+    private void fanOut(FeedEntry entry) {
+        Long authorId = entry.authorId();
+        feedRedisRepository.addToOutbox(authorId, entry, outboxCapacity);
+
+        LongHashSet friendIds = friendGraphCache.getFriendIds(authorId);
+        if (friendIds.size() > fanOutThreshold) {
+            feedRedisRepository.addHighDegreeAuthor(authorId);
+            return;
+        }
+        feedRedisRepository.removeHighDegreeAuthor(authorId);
+        if (friendIds.size() > 0) {
+            feedRedisRepository.addToInboxes(friendIds.toArray(), entry, inboxCapacity);
+        }
+    }
+
+    private static long toScore(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,156 @@
+package com.mmc.bookduck.domain.feed.service;
+
+import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
+import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
+import com.mmc.bookduck.domain.common.Visibility;
+import com.mmc.bookduck.domain.feed.dto.common.FeedEntry;
+import com.mmc.bookduck.domain.feed.dto.common.FeedUnitDto;
+import com.mmc.bookduck.domain.feed.dto.response.FeedListResponseDto;
+import com.mmc.bookduck.domain.feed.entity.FeedItemType;
+import com.mmc.bookduck.domain.feed.repository.FeedRedisRepository;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
+import com.mmc.bookduck.domain.oneline.entity.OneLine;
+import com.mmc.bookduck.domain.oneline.repository.OneLineRepository;
+import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.common.LongHashSet;
+import com.mmc.bookduck.global.exception.CustomException;
+import com.mmc.bookduck.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedService {
+    // 지연 정리로 빠지는 항목이 많을 때 페이지를 채우기 위한 최대 재조회 횟수
+    private static final int MAX_FETCH_ROUNDS = 3;
+
+    private final FeedRedisRepository feedRedisRepository;
+    private final FriendGraphCache friendGraphCache;
+    private final UserService userService;
+    private final ExcerptRepository excerptRepository;
+    private final ReviewRepository reviewRepository;
+    private final OneLineRepository oneLineRepository;
+
+    // 친구 활동 피드 조회 (내 inbox + 친구가 많은 친구들의 outbox를 최신순으로 병합)
+    public FeedListResponseDto getFeed(String cursor, int size) {
+        Long userId = userService.getCurrentUserId();
+        LongHashSet friendIds = friendGraphCache.getFriendIds(userId);
+        List<Long> highDegreeFriendIds = feedRedisRepository.getHighDegreeAuthorIds().stream()
+                .map(Long::valueOf)
+                .filter(friendIds::contains)
+                .toList();
+
+        FeedEntry lastEntry = parseCursor(cursor);
+        List<FeedUnitDto> feedList = new ArrayList<>();
+        boolean exhausted = false;
+        for (int round = 0; round < MAX_FETCH_ROUNDS && !exhausted && feedList.size() < size; round++) {
+            int needed = size - feedList.size();
+            // 커서와 같은 시각의 항목은 다시 걸러지므로 넉넉하게 조회
+            int fetchCount = needed + size;
+            long maxScore = lastEntry != null ? lastEntry.score() : Long.MAX_VALUE;
+
+            List<FeedEntry> inbox = feedRedisRepository.getInbox(userId, maxScore, fetchCount);
+            exhausted = inbox.size() < fetchCount;
+            List<FeedEntry> candidates = new ArrayList<>(inbox);
+            for (Long authorId : highDegreeFriendIds) {
+                List<FeedEntry> outbox = feedRedisRepository.getOutbox(authorId, maxScore, fetchCount);
+                exhausted &= outbox.size() < fetchCount;
+                candidates.addAll(outbox);
+            }
+
+            final FeedEntry after = lastEntry;
+            List<FeedEntry> page = candidates.stream()
+                    .filter(entry -> entry.isAfter(after))
+                    .distinct()
+                    .sorted(FeedEntry.LATEST_FIRST)
+                    .toList();
+            if (page.size() > needed) {
+                page = page.subList(0, needed);
+                exhausted = false;
+            }
+            if (page.isEmpty()) {
+                break;
+            }
+            feedList.addAll(loadVisibleFeeds(userId, friendIds, page));
+            lastEntry = page.get(page.size() - 1);
+        }
+
+        String nextCursor = exhausted || lastEntry == null ? null : toCursor(lastEntry);
+        return new FeedListResponseDto(feedList, nextCursor);
+    }
+
+    // 항목을 DB에서 한 타입당 한 번씩 조회하고, 삭제/비공개/친구 아님 항목은 Redis에서 지연 정리
+    private List<FeedUnitDto> loadVisibleFeeds(Long userId, LongHashSet friendIds, List<FeedEntry> entries) {
+        Map<FeedItemType, List<Long>> idsByType = entries.stream()
+                .collect(Collectors.groupingBy(FeedEntry::feedItemType, () -> new EnumMap<>(FeedItemType.class),
+                        Collectors.mapping(FeedEntry::itemId, Collectors.toList())));
+
+        Map<Long, FeedUnitDto> excerpts = new HashMap<>();
+        Map<Long, FeedUnitDto> reviews = new HashMap<>();
+        Map<Long, FeedUnitDto> oneLines = new HashMap<>();
+        if (idsByType.containsKey(FeedItemType.EXCERPT)) {
+            excerptRepository.findAllWithUserAndBookInfoByExcerptIdIn(idsByType.get(FeedItemType.EXCERPT)).stream()
+                    .filter(excerpt -> excerpt.getVisibility() == Visibility.PUBLIC)
+                    .forEach(excerpt -> excerpts.put(excerpt.getExcerptId(), FeedUnitDto.from(excerpt)));
+        }
+        if (idsByType.containsKey(FeedItemType.REVIEW)) {
+            reviewRepository.findAllWithUserAndBookInfoByReviewIdIn(idsByType.get(FeedItemType.REVIEW)).stream()
+                    .filter(review -> review.getVisibility() == Visibility.PUBLIC)
+                    .forEach(review -> reviews.put(review.getReviewId(), FeedUnitDto.from(review)));
+        }
+        if (idsByType.containsKey(FeedItemType.ONELINE)) {
+            oneLines.putAll(oneLineRepository.findAllWithUserAndBookInfoByOneLineIdIn(idsByType.get(FeedItemType.ONELINE)).stream()
+                    .collect(Collectors.toMap(OneLine::getOneLineId, FeedUnitDto::from)));
+        }
+
+        List<FeedUnitDto> visibleFeeds = new ArrayList<>();
+        List<FeedEntry> staleInboxEntries = new ArrayList<>();
+        Map<Long, List<FeedEntry>> staleOutboxEntries = new HashMap<>();
+        for (FeedEntry entry : entries) {
+            FeedUnitDto feed = switch (entry.feedItemType()) {
+                case EXCERPT -> excerpts.get(entry.itemId());
+                case REVIEW -> reviews.get(entry.itemId());
+                case ONELINE -> oneLines.get(entry.itemId());
+            };
+            if (feed == null) {
+                // 삭제되었거나 공개 상태가 아닌 글
+                staleInboxEntries.add(entry);
+                staleOutboxEntries.computeIfAbsent(entry.authorId(), authorId -> new ArrayList<>()).add(entry);
+            } else if (!friendIds.contains(entry.authorId())) {
+                // 친구 관계가 끊긴 작성자의 글
+                staleInboxEntries.add(entry);
+            } else {
+                visibleFeeds.add(feed);
+            }
+        }
+        feedRedisRepository.removeFromInbox(userId, staleInboxEntries);
+        staleOutboxEntries.forEach(feedRedisRepository::removeFromOutbox);
+        return visibleFeeds;
+    }
+
+    // 커서는 "score:타입:id:작성자id" 형식
+    private FeedEntry parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            int separator = cursor.indexOf(':');
+            return FeedEntry.of(cursor.substring(separator + 1), Long.parseLong(cursor.substring(0, separator)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private String toCursor(FeedEntry entry) {
+        return entry.score() + ":" + entry.toMember();
+    }
+}
@@ -58,13 +58,15 @@ public class FolderController {
     }
 
 
-    @Operation(summary = "폴더에 추가할 책 목록 조회", description = "폴더에 추가할 수 있는 서재 책 목록을 조회합니다.")
+    @Operation(summary = "폴더에 추가할 책 목록 조회", description = "폴더에 추가할 수 있는 서재 책 목록을 최근 추가한 순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/{folderId}/books/candidates")
     public ResponseEntity<CandidateFolderBookListResponseDto> getCandidateBooks(@PathVariable(name="folderId") final Long folderId,
-                                                                                @RequestParam(name = "status", required = false) final List<String> statusList){
-
+                                                                                @RequestParam(name = "status", required = false) final List<String> statusList,
+                                                                                @RequestParam(name = "cursor", required = false) final Long cursor,
+                                                                                @RequestParam(name = "size", defaultValue = "50") final int size){
+        int pageSize = Math.min(Math.max(size, 1), 100);
         return ResponseEntity.status(HttpStatus.OK)
-                .body(folderService.getCandidateBooks(folderId, statusList));
+                .body(folderService.getCandidateBooks(folderId, statusList, cursor, pageSize));
     }
 
 
@@ -15,7 +15,7 @@ public record FolderBookUnitDto(
         int folderBookOrder,
         boolean isCustom
 ) {
-    public FolderBookUnitDto(FolderBook folderBook, boolean isCustom) {
+    public FolderBookUnitDto(FolderBook folderBook, int folderBookOrder, boolean isCustom) {
         this(
                 folderBook.getFolderBookId(),
                 folderBook.getUserBook().getBookInfo().getBookInfoId(),
@@ -25,7 +25,7 @@ public record FolderBookUnitDto(
                 folderBook.getUserBook().getBookInfo().getImgPath(),
                 folderBook.getUserBook().getRating(),
                 folderBook.getUserBook().getReadStatus(),
-                folderBook.getBookOrder(),
+                folderBookOrder,
                 isCustom
         );
     }
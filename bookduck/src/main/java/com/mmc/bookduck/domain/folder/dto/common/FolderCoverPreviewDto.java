@@ -0,0 +1,20 @@
+package com.mmc.bookduck.domain.folder.dto.common;
+
+// 폴더 목록 조회용 프로젝션 한 행 (책이 없는 폴더는 folderBookId, imgPath가 null)
+public record FolderCoverPreviewDto(
+        Long folderId,
+        String folderName,
+        Long folderBookId,
+        String imgPath,
+        int folderBookCount
+) {
+    public static FolderCoverPreviewDto from(Object[] row) {
+        return new FolderCoverPreviewDto(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                row[2] != null ? ((Number) row[2]).longValue() : null,
+                (String) row[3],
+                row[4] != null ? ((Number) row[4]).intValue() : 0
+        );
+    }
+}
@@ -4,11 +4,12 @@ import com.mmc.bookduck.domain.folder.dto.common.CandidateFolderBookDto;
 
 import java.util.List;
 
-public record CandidateFolderBookListResponseDto(int bookCount, List<CandidateFolderBookDto> candidateFolderBookList) {
-    public static CandidateFolderBookListResponseDto from(List<CandidateFolderBookDto> candidateFolderBookList){
+public record CandidateFolderBookListResponseDto(int bookCount, List<CandidateFolderBookDto> candidateFolderBookList, Long nextCursor) {
+    public static CandidateFolderBookListResponseDto from(List<CandidateFolderBookDto> candidateFolderBookList, Long nextCursor){
         return new CandidateFolderBookListResponseDto(
                 candidateFolderBookList.size(),
-                candidateFolderBookList
+                candidateFolderBookList,
+                nextCursor
         );
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.mmc.bookduck.domain.folder.entity;
 
+import com.mmc.bookduck.domain.sync.entity.SyncChangeListener;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.entity.SyncTrackable;
 import com.mmc.bookduck.domain.user.entity.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -13,7 +16,8 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-public class Folder {
+@EntityListeners(SyncChangeListener.class)
+public class Folder implements SyncTrackable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(updatable = false)
@@ -54,4 +58,19 @@ public class Folder {
         folderBooks.remove(folderBook);
         folderBook.setFolder(null);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Long getSyncUserId() {
+        return user.getUserId();
+    }
+
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.FOLDER;
+    }
+
+    @Override
+    public Long getSyncEntityId() {
+        return folderId;
+    }
+}
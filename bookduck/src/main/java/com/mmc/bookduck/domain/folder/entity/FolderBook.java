@@ -1,6 +1,9 @@
 package com.mmc.bookduck.domain.folder.entity;
 
 import com.mmc.bookduck.domain.book.entity.UserBook;
+import com.mmc.bookduck.domain.sync.entity.SyncChangeListener;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.entity.SyncTrackable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -13,13 +16,17 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-public class FolderBook {
+@EntityListeners(SyncChangeListener.class)
+public class FolderBook implements SyncTrackable {
+    // 여러 권을 한 번에 추가할 때 insert를 JDBC 배치로 묶을 수 있도록 IDENTITY 대신 시퀀스(MySQL은 테이블로 대체) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "folder_book_seq")
+    @SequenceGenerator(name = "folder_book_seq", sequenceName = "folder_book_seq", allocationSize = 100)
     @Column(updatable = false)
     private Long folderBookId;
 
-    private int bookOrder;
+    // 폴더 내 정렬 키 (간격을 두고 배치하여 추가, 이동 시 해당 행만 수정). 화면에 보이는 순서는 정렬 후 위치
+    private long bookOrder;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "folder_id", updatable = false)
@@ -33,7 +40,7 @@ public class FolderBook {
     private UserBook userBook;
 
     @Builder
-    public FolderBook(UserBook userBook, Folder folder, int bookOrder) {
+    public FolderBook(UserBook userBook, Folder folder, long bookOrder) {
         this.folder = folder;
         this.userBook = userBook;
         this.bookOrder = bookOrder;
@@ -43,7 +50,22 @@ public class FolderBook {
         this.folder = folder;
     }
 
-    public void setBookOrder(int i) {
-        this.bookOrder = i;
+    public void setBookOrder(long bookOrder) {
+        this.bookOrder = bookOrder;
+    }
+
+    @Override
+    public Long getSyncUserId() {
+        return folder != null ? folder.getUser().getUserId() : null;
+    }
+
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.FOLDER_BOOK;
+    }
+
+    @Override
+    public Long getSyncEntityId() {
+        return folderBookId;
     }
 }
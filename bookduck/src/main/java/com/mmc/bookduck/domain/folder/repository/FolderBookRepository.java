@@ -1,13 +1,48 @@
 package com.mmc.bookduck.domain.folder.repository;
 
-import com.mmc.bookduck.domain.book.entity.UserBook;
+import com.mmc.bookduck.domain.book.entity.ReadStatus;
+import com.mmc.bookduck.domain.folder.dto.common.CandidateFolderBookDto;
 import com.mmc.bookduck.domain.folder.entity.Folder;
 import com.mmc.bookduck.domain.folder.entity.FolderBook;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FolderBookRepository extends JpaRepository<FolderBook, Long> {
-    boolean existsByUserBookAndFolder(UserBook userBook, Folder folder);
+    boolean existsByFolderAndUserBookUserBookIdIn(Folder folder, Collection<Long> userBookIds);
 
-    List<FolderBook> findByFolderOrderByBookOrderAsc(Folder folder);
+    // 책 정보까지 함께 조회
+    @Query("SELECT fb FROM FolderBook fb " +
+            "JOIN FETCH fb.userBook ub " +
+            "JOIN FETCH ub.bookInfo " +
+            "WHERE fb.folder = :folder " +
+            "ORDER BY fb.bookOrder ASC")
+    List<FolderBook> findByFolderOrderByBookOrderAsc(@Param("folder") Folder folder);
+
+    @Query("SELECT MIN(fb.bookOrder) FROM FolderBook fb WHERE fb.folder = :folder")
+    Long findMinBookOrderByFolder(@Param("folder") Folder folder);
+
+    @Modifying
+    @Query("DELETE FROM FolderBook fb WHERE fb.folderBookId IN :folderBookIds")
+    void deleteAllByFolderBookIdIn(@Param("folderBookIds") Collection<Long> folderBookIds);
+
+    // 폴더에 아직 없는 서재 책 (NOT EXISTS 안티 조인, userBookId 내림차순 키셋 페이지네이션)
+    @Query("SELECT new com.mmc.bookduck.domain.folder.dto.common.CandidateFolderBookDto(" +
+            "ub.userBookId, b.title, b.author, b.imgPath, ub.rating, ub.readStatus, " +
+            "CASE WHEN b.createdUserId IS NOT NULL THEN true ELSE false END) " +
+            "FROM UserBook ub JOIN ub.bookInfo b " +
+            "WHERE ub.user.userId = :userId " +
+            "AND ub.readStatus IN :readStatuses " +
+            "AND (:cursor IS NULL OR ub.userBookId < :cursor) " +
+            "AND NOT EXISTS (SELECT 1 FROM FolderBook fb WHERE fb.folder = :folder AND fb.userBook = ub) " +
+            "ORDER BY ub.userBookId DESC")
+    List<CandidateFolderBookDto> findCandidateBooks(@Param("folder") Folder folder,
+                                                    @Param("userId") Long userId,
+                                                    @Param("readStatuses") Collection<ReadStatus> readStatuses,
+                                                    @Param("cursor") Long cursor,
+                                                    Pageable pageable);
 }
@@ -0,0 +1,29 @@
+package com.mmc.bookduck.domain.folder.repository;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 정렬 키 간격이 좁아져 재배치가 필요한 폴더 목록
+@Repository
+public class FolderRebalanceQueue {
+    private final Set<Long> folderIds = ConcurrentHashMap.newKeySet();
+
+    public void add(Long folderId) {
+        folderIds.add(folderId);
+    }
+
+    // 쌓인 폴더를 모두 꺼내고 비움
+    public List<Long> drain() {
+        List<Long> drained = new ArrayList<>();
+        for (Long folderId : folderIds) {
+            if (folderIds.remove(folderId)) {
+                drained.add(folderId);
+            }
+        }
+        return drained;
+    }
+}
@@ -3,6 +3,8 @@ package com.mmc.bookduck.domain.folder.repository;
 import com.mmc.bookduck.domain.folder.entity.Folder;
 import com.mmc.bookduck.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +17,30 @@ public interface FolderRepository extends JpaRepository<Folder, Long> {
     boolean existsByFolderNameAndUser(String folderName, User user);
 
     List<Folder> findAllByUser(User user);
+
+    // 폴더별 앞쪽 책 표지 coverLimit개와 전체 책 수를 한 번에 조회
+    @Query(value = """
+        SELECT f.folder_id, f.folder_name, c.folder_book_id, c.img_path, c.book_count
+        FROM folder f
+        LEFT JOIN (
+            SELECT ranked.folder_id, ranked.folder_book_id, ranked.img_path, ranked.book_count, ranked.rn
+            FROM (
+                SELECT fb.folder_id,
+                       fb.folder_book_id,
+                       b.img_path,
+                       ROW_NUMBER() OVER (PARTITION BY fb.folder_id ORDER BY fb.book_order) AS rn,
+                       COUNT(*) OVER (PARTITION BY fb.folder_id) AS book_count
+                FROM folder_book fb
+                JOIN folder uf ON fb.folder_id = uf.folder_id
+                JOIN user_book ub ON fb.user_book_id = ub.user_book_id
+                JOIN book_info b ON ub.book_info_id = b.book_info_id
+                WHERE uf.user_id = :userId
+            ) ranked
+            WHERE ranked.rn <= :coverLimit
+        ) c ON c.folder_id = f.folder_id
+        WHERE f.user_id = :userId
+        ORDER BY f.folder_id DESC, c.rn
+        """,
+        nativeQuery = true)
+    List<Object[]> findFolderCoverPreviewsByUserId(@Param("userId") Long userId, @Param("coverLimit") int coverLimit);
 }
@@ -1,17 +1,28 @@
 package com.mmc.bookduck.domain.folder.service;
 
+import com.mmc.bookduck.domain.book.entity.ReadStatus;
 import com.mmc.bookduck.domain.book.entity.UserBook;
+import com.mmc.bookduck.domain.folder.dto.common.CandidateFolderBookDto;
 import com.mmc.bookduck.domain.folder.dto.common.FolderBookOrderUnitDto;
 import com.mmc.bookduck.domain.folder.dto.request.FolderBookOrderRequestDto;
 import com.mmc.bookduck.domain.folder.entity.Folder;
 import com.mmc.bookduck.domain.folder.entity.FolderBook;
 import com.mmc.bookduck.domain.folder.repository.FolderBookRepository;
+import com.mmc.bookduck.domain.folder.repository.FolderRebalanceQueue;
+import com.mmc.bookduck.domain.folder.repository.FolderRepository;
+import com.mmc.bookduck.domain.sync.entity.SyncChangeType;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.repository.ChangeLogWriter;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,20 +32,29 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional
 public class FolderBookService {
+    // 정렬 키 기본 간격
+    private static final long ORDER_GAP = 1L << 16;
+    // 새로 부여한 키 사이 간격이 이보다 좁으면 백그라운드 재배치 예약
+    private static final long MIN_ORDER_GAP = 16;
+
     private final FolderBookRepository folderBookRepository;
+    private final FolderRepository folderRepository;
+    private final ChangeLogWriter changeLogWriter;
+    private final FolderRebalanceQueue folderRebalanceQueue;
 
-    // folderBook 생성
+    // folderBook 생성 (기존 책들 앞에 추가, 기존 책의 정렬 키는 그대로)
     public List<FolderBook> createFolderBooks(List<UserBook> userBooks, Folder folder){
         List<FolderBook> folderBookList = new ArrayList<>();
 
-        int i = 1;
+        Long minOrder = folderBookRepository.findMinBookOrderByFolder(folder);
+        long firstOrder = minOrder != null ? minOrder : ORDER_GAP * (userBooks.size() + 1);
+        long order = firstOrder - ORDER_GAP * userBooks.size();
         for(UserBook userBook : userBooks){
-            FolderBook folderBook = new FolderBook(userBook, folder, i);
-            i++;
-
-            folderBookList.add(folderBookRepository.save(folderBook));
+            folderBookList.add(new FolderBook(userBook, folder, order));
+            order += ORDER_GAP;
         }
-        return folderBookList;
+        // 시퀀스 id라 insert가 JDBC 배치로 묶임
+        return folderBookRepository.saveAll(folderBookList);
     }
 
     // 폴더삭제 시 folderBook 모두 삭제
@@ -43,49 +63,153 @@ public class FolderBookService {
         folderBookRepository.deleteAll(folderBookList);
     }
 
-    // 폴더에서 책 삭제
-    public void deleteOneFolderBook(FolderBook folderBook){
-        folderBookRepository.delete(folderBook);
+    // 폴더 책 일괄 삭제 (한 번의 DELETE, 남은 책의 정렬 키는 그대로)
+    public void deleteFolderBooks(Folder folder, Collection<Long> folderBookIds){
+        folderBookRepository.deleteAllByFolderBookIdIn(folderBookIds);
+        // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 툼스톤 직접 기록
+        changeLogWriter.recordAll(folder.getUser().getUserId(), SyncEntityType.FOLDER_BOOK, folderBookIds, SyncChangeType.DELETE);
     }
 
-    public boolean existsByUserBookAndFolder(UserBook userBook, Folder folder) {
-        return folderBookRepository.existsByUserBookAndFolder(userBook,folder);
+    // userBook 중 하나라도 이미 폴더에 있는지
+    @Transactional(readOnly = true)
+    public boolean existsAnyByFolderAndUserBookIds(Folder folder, Collection<Long> userBookIds) {
+        return folderBookRepository.existsByFolderAndUserBookUserBookIdIn(folder, userBookIds);
     }
 
-    public FolderBook findFolderBookById(Long folderBookId) {
-        FolderBook folderBook = folderBookRepository.findById(folderBookId)
-                .orElseThrow(()->new CustomException(ErrorCode.FOLDERBOOK_NOT_FOUND));
-        return folderBook;
+    @Transactional(readOnly = true)
+    public List<FolderBook> findFolderBooksByIds(Collection<Long> folderBookIds) {
+        return folderBookRepository.findAllById(folderBookIds);
     }
 
-    @Transactional
-    public void incrementOrderFolderBooks(Folder folder, int size){
-        List<FolderBook> existingBooks = folder.getFolderBooks();
-        existingBooks.forEach(fb -> fb.setBookOrder(fb.getBookOrder()+size));
+    // 폴더 후보 책 조회 (다음 페이지 여부 확인을 위해 size + 1개 조회)
+    @Transactional(readOnly = true)
+    public List<CandidateFolderBookDto> findCandidateBooks(Folder folder, Long userId, Collection<ReadStatus> readStatuses,
+                                                           Long cursor, int size) {
+        return folderBookRepository.findCandidateBooks(folder, userId, readStatuses, cursor, PageRequest.of(0, size + 1));
     }
 
-    @Transactional
-    public void decrementOrderFolderBooks(Folder folder, int deletedBookOrder) {
-        List<FolderBook> booksToReorder = folder.getFolderBooks().stream()
-                .filter(book -> book.getBookOrder() > deletedBookOrder)
-                .collect(Collectors.toList());
-
-        booksToReorder.forEach(book -> book.setBookOrder(book.getBookOrder() - 1));
+    public FolderBook findFolderBookById(Long folderBookId) {
+        FolderBook folderBook = folderBookRepository.findById(folderBookId)
+                .orElseThrow(()->new CustomException(ErrorCode.FOLDERBOOK_NOT_FOUND));
+        return folderBook;
     }
 
+    // 순서 변경: 요청한 책은 요청한 위치(1부터)에, 나머지는 기존 상대 순서대로 빈 자리에 배치
+    // 이미 상대 순서가 맞는 책(정렬 키의 최장 증가 부분 수열)은 두고, 나머지만 이웃 키 사이의 새 키로 수정
     @Transactional
     public void updateFolderBookOrder(Folder folder, FolderBookOrderRequestDto dto){
-        List<FolderBook> folderBooks = folder.getFolderBooks();
+        List<FolderBook> folderBooks = new ArrayList<>(folder.getFolderBooks());
+        folderBooks.sort(Comparator.comparingLong(FolderBook::getBookOrder));
 
         Map<Long, Integer> newOrderMap = dto.folderBooksOrder().stream()
                 .collect(Collectors.toMap(FolderBookOrderUnitDto::folderBookId, FolderBookOrderUnitDto::order));
 
+        int size = folderBooks.size();
+        FolderBook[] ordered = new FolderBook[size];
+        List<FolderBook> rest = new ArrayList<>();
         for(FolderBook folderBook : folderBooks){
             Integer newOrder = newOrderMap.get(folderBook.getFolderBookId());
-            if(newOrder != null){
-                folderBook.setBookOrder(newOrder);
+            if(newOrder != null && newOrder >= 1 && newOrder <= size && ordered[newOrder - 1] == null){
+                ordered[newOrder - 1] = folderBook;
+            } else {
+                rest.add(folderBook);
             }
         }
+        int restIndex = 0;
+        for(int i = 0; i < size; i++){
+            if(ordered[i] == null){
+                ordered[i] = rest.get(restIndex++);
+            }
+        }
+
+        if(!assignOrders(ordered, longestIncreasingOrders(ordered))){
+            // 이웃 키 사이에 빈 키가 없으면 폴더 전체 재배치
+            respace(Arrays.asList(ordered));
+        }
+    }
+
+    // kept가 아닌 책에 양옆 kept 키 사이의 키를 균등하게 부여. 간격이 없으면 false
+    private boolean assignOrders(FolderBook[] ordered, boolean[] kept) {
+        long minGap = Long.MAX_VALUE;
+        int i = 0;
+        while(i < ordered.length){
+            if(kept[i]){
+                i++;
+                continue;
+            }
+            int end = i;
+            while(end < ordered.length && !kept[end]){
+                end++;
+            }
+            int count = end - i;
+            boolean hasLeft = i > 0;
+            boolean hasRight = end < ordered.length;
+            long left = hasLeft ? ordered[i - 1].getBookOrder() : ordered[end].getBookOrder() - ORDER_GAP * (count + 1);
+            long right = hasRight ? ordered[end].getBookOrder() : left + ORDER_GAP * (count + 1);
+            long step = (right - left) / (count + 1);
+            if(step < 1){
+                return false;
+            }
+            for(int j = 0; j < count; j++){
+                ordered[i + j].setBookOrder(left + step * (j + 1));
+            }
+            minGap = Math.min(minGap, step);
+            i = end;
+        }
+        if(minGap < MIN_ORDER_GAP && ordered.length > 0){
+            folderRebalanceQueue.add(ordered[0].getFolder().getFolderId());
+        }
+        return true;
+    }
+
+    // 정렬 키가 엄격히 증가하는 가장 긴 부분 수열에 속하는지 여부
+    private boolean[] longestIncreasingOrders(FolderBook[] ordered) {
+        int size = ordered.length;
+        int[] tails = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+        for(int i = 0; i < size; i++){
+            long order = ordered[i].getBookOrder();
+            int low = 0;
+            int high = length;
+            while(low < high){
+                int mid = (low + high) >>> 1;
+                if(ordered[tails[mid]].getBookOrder() < order){
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if(low == length){
+                length++;
+            }
+        }
+        boolean[] kept = new boolean[size];
+        for(int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]){
+            kept[i] = true;
+        }
+        return kept;
+    }
+
+    // 백그라운드 재배치: 현재 순서를 유지한 채 정렬 키를 기본 간격으로 다시 배치
+    public void rebalanceFolder(Long folderId) {
+        folderRepository.findById(folderId).ifPresent(folder -> {
+            List<FolderBook> folderBooks = new ArrayList<>(folder.getFolderBooks());
+            folderBooks.sort(Comparator.comparingLong(FolderBook::getBookOrder));
+            respace(folderBooks);
+        });
+    }
+
+    private void respace(List<FolderBook> orderedFolderBooks) {
+        long order = ORDER_GAP;
+        for(FolderBook folderBook : orderedFolderBooks){
+            if(folderBook.getBookOrder() != order){
+                folderBook.setBookOrder(order); // 트랜잭션 커밋 시 자동 저장
+            }
+            order += ORDER_GAP;
+        }
     }
 
     @Transactional(readOnly = true)
@@ -93,4 +217,3 @@ public class FolderBookService {
         return folderBookRepository.findByFolderOrderByBookOrderAsc(folder);
     }
 }
-
@@ -6,6 +6,7 @@ import com.mmc.bookduck.domain.book.service.UserBookService;
 import com.mmc.bookduck.domain.folder.dto.common.CandidateFolderBookDto;
 import com.mmc.bookduck.domain.folder.dto.common.FolderBookCoverDto;
 import com.mmc.bookduck.domain.folder.dto.common.FolderBookCoverListDto;
+import com.mmc.bookduck.domain.folder.dto.common.FolderCoverPreviewDto;
 import com.mmc.bookduck.domain.folder.dto.request.FolderBookOrderRequestDto;
 import com.mmc.bookduck.domain.folder.dto.request.FolderRequestDto;
 import com.mmc.bookduck.domain.folder.dto.response.AllFolderListResponseDto;
@@ -25,7 +26,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.validation.Errors;
 
 @Service
@@ -37,6 +42,9 @@ public class FolderService {
     private final FolderBookService folderBookService;
     private final UserService userService;
 
+    // 폴더 목록에서 미리보기로 보여줄 표지 수
+    private static final int FOLDER_COVER_LIMIT = 4;
+
 
     // 폴더 생성
     public FolderResponseDto createFolder(FolderRequestDto dto, Errors error) {
@@ -85,72 +93,72 @@ public class FolderService {
     }
 
 
-    // 폴더에 책 추가
+    // 폴더에 책 추가 (소유권, 중복 검증을 각각 한 번의 IN 쿼리로 하고 일괄 저장)
     public FolderBookListResponseDto addFolderBooks(Long folderId, List<Long> userBookIds) {
 
         User user = userService.getCurrentUser();
         Folder folder = findFolderById(folderId);
+        if(!folder.getUser().getUserId().equals(user.getUserId())){
+            throw new CustomException(ErrorCode.UNAUTHORIZED_REQUEST);
+        }
 
-        List<UserBook> userBookList = new ArrayList<>();
-        for (Long userBookId : userBookIds) {
-            UserBook userBook = userBookService.getUserBookById(userBookId);
-            if (!userBook.getUser().equals(user)) {
+        List<Long> distinctUserBookIds = userBookIds.stream().distinct().toList();
+        Map<Long, UserBook> userBookMap = userBookService.getUserBooksByIds(distinctUserBookIds).stream()
+                .collect(Collectors.toMap(UserBook::getUserBookId, Function.identity()));
+        if (userBookMap.size() != distinctUserBookIds.size()) {
+            throw new CustomException(ErrorCode.USERBOOK_NOT_FOUND);
+        }
+        for (UserBook userBook : userBookMap.values()) {
+            if (!userBook.getUser().getUserId().equals(user.getUserId())) {
                 throw new CustomException(ErrorCode.UNAUTHORIZED_REQUEST);
             }
-            if (folderBookService.existsByUserBookAndFolder(userBook, folder)) {
-                // 이미 folderBook 있을 때,
-                throw new CustomException(ErrorCode.FOLDERBOOK_ALREADY_EXISTS);
-            }
-            userBookList.add(userBookService.getUserBookById(userBookId));
         }
-
-        List<FolderBookUnitDto> folderBookList = new ArrayList<>();
-
-        folderBookService.incrementOrderFolderBooks(folder, userBookList.size());
-        List<FolderBook> newFolderBookList = folderBookService.createFolderBooks(userBookList, folder);
-        for(FolderBook folderBook : newFolderBookList){
-            folder.addFolderBook(folderBook);
+        if (folderBookService.existsAnyByFolderAndUserBookIds(folder, distinctUserBookIds)) {
+            // 이미 folderBook 있을 때,
+            throw new CustomException(ErrorCode.FOLDERBOOK_ALREADY_EXISTS);
         }
-        List<FolderBook> folderBooks = folderBookService.orderFolderBooks(folder);
 
-        for (FolderBook folderBook : folderBooks) {
-            boolean isCustom = checkIsCustom(folderBook.getUserBook());
-            folderBookList.add(new FolderBookUnitDto(folderBook, isCustom));
+        // 요청한 순서대로 추가
+        List<UserBook> userBookList = distinctUserBookIds.stream().map(userBookMap::get).toList();
+        for (FolderBook folderBook : folderBookService.createFolderBooks(userBookList, folder)) {
+            folder.addFolderBook(folderBook);
         }
-        return new FolderBookListResponseDto(folder, folderBookList);
+        return getOrderedFolderBookList(folder);
     }
 
-    // 폴더에서 책 삭제
+    // 폴더에서 책 삭제 (한 번의 IN 조회로 검증 후 한 번에 삭제)
     public FolderBookListResponseDto deleteFolderBooks(Long folderId, List<Long> folderBookIds) {
         User user = userService.getCurrentUser();
         Folder folder = findFolderById(folderId);
-        if(!folder.getUser().equals(user)){
+        if(!folder.getUser().getUserId().equals(user.getUserId())){
             throw new CustomException(ErrorCode.UNAUTHORIZED_REQUEST);
         }
 
-        List<FolderBook> folderBookList = new ArrayList<>();
-        for(Long folderBookId : folderBookIds){
-            FolderBook folderBook = folderBookService.findFolderBookById(folderBookId);
-            if(!folderBook.getFolder().equals(folder)){
+        List<Long> distinctFolderBookIds = folderBookIds.stream().distinct().toList();
+        List<FolderBook> folderBookList = folderBookService.findFolderBooksByIds(distinctFolderBookIds);
+        if(folderBookList.size() != distinctFolderBookIds.size()){
+            throw new CustomException(ErrorCode.FOLDERBOOK_NOT_FOUND);
+        }
+        for(FolderBook folderBook : folderBookList){
+            if(!folderBook.getFolder().getFolderId().equals(folder.getFolderId())){
                 throw new CustomException(ErrorCode.UNAUTHORIZED_REQUEST);
             }
-            folderBookList.add(folderBook);
         }
 
-        for(FolderBook folderBook : folderBookList){
-            folder.removeFolderBook(folderBook);
-            folderBookService.deleteOneFolderBook(folderBook);
-            folderBookService.decrementOrderFolderBooks(folder, folderBook.getBookOrder());
-        }
+        folderBookService.deleteFolderBooks(folder, distinctFolderBookIds);
+        return getOrderedFolderBookList(folder);
+    }
 
+    // 정렬된 폴더 책 목록 (책 정보까지 한 번에 조회)
+    private FolderBookListResponseDto getOrderedFolderBookList(Folder folder) {
         List<FolderBook> orderedFolderBooks = folderBookService.orderFolderBooks(folder);
         List<FolderBookUnitDto> dtoList = new ArrayList<>();
+        int order = 1;
         for(FolderBook book : orderedFolderBooks){
             boolean isCustom = checkIsCustom(book.getUserBook());
-            dtoList.add(new FolderBookUnitDto(book, isCustom));
+            dtoList.add(new FolderBookUnitDto(book, order++, isCustom));
         }
         return new FolderBookListResponseDto(folder, dtoList);
-
     }
 
     // 폴더 별 도서 목록 조회
@@ -162,9 +170,11 @@ public class FolderService {
         List<FolderBookUnitDto> folderBookList = new ArrayList<>();
 
         if(folder.getUser().equals(user)){
-            for(FolderBook folderBook : folder.getFolderBooks()){
+            int order = 1;
+            // 책마다 서재 도서, 책 정보를 따로 불러오지 않도록 함께 조회
+            for(FolderBook folderBook : folderBookService.orderFolderBooks(folder)){
                 boolean isCustom = checkIsCustom(folderBook.getUserBook());
-                folderBookList.add(new FolderBookUnitDto(folderBook, isCustom));
+                folderBookList.add(new FolderBookUnitDto(folderBook, order++, isCustom));
             }
             return new FolderBookListResponseDto(folder, folderBookList);
         }else{
@@ -175,23 +185,24 @@ public class FolderService {
     // 전체 폴더 목록 조회
     @Transactional(readOnly = true)
     public AllFolderListResponseDto getAllFolderList() {
-        User user = userService.getCurrentUser();
-        List<Folder> folders = folderRepository.findAllByUserOrderByFolderIdDesc(user);
+        Long userId = userService.getCurrentUserId();
+        List<FolderCoverPreviewDto> rows = folderRepository.findFolderCoverPreviewsByUserId(userId, FOLDER_COVER_LIMIT)
+                .stream()
+                .map(FolderCoverPreviewDto::from)
+                .toList();
 
-        List<FolderBookCoverListDto> folderList = new ArrayList<>();
+        // 쿼리가 폴더 순서대로 정렬되어 있으므로 순서를 유지하며 묶음
+        Map<Long, List<FolderCoverPreviewDto>> rowsByFolder = rows.stream()
+                .collect(Collectors.groupingBy(FolderCoverPreviewDto::folderId, LinkedHashMap::new, Collectors.toList()));
 
-        if(folders != null){
-            for(Folder folder : folders){
-                List<FolderBook> folderBooks = folder.getFolderBooks();
-                List<FolderBookCoverDto> coverList = new ArrayList<>();
-                for (FolderBook book : folderBooks) {
-                    coverList.add(new FolderBookCoverDto(
-                            book.getFolderBookId(),
-                            book.getUserBook().getBookInfo().getImgPath()
-                    ));
-                }
-                folderList.add(FolderBookCoverListDto.from(folder, coverList));
-            }
+        List<FolderBookCoverListDto> folderList = new ArrayList<>();
+        for (List<FolderCoverPreviewDto> folderRows : rowsByFolder.values()) {
+            FolderCoverPreviewDto first = folderRows.get(0);
+            List<FolderBookCoverDto> coverList = folderRows.stream()
+                    .filter(row -> row.folderBookId() != null)
+                    .map(row -> new FolderBookCoverDto(row.folderBookId(), row.imgPath()))
+                    .toList();
+            folderList.add(new FolderBookCoverListDto(first.folderId(), first.folderName(), coverList, first.folderBookCount()));
         }
         return new AllFolderListResponseDto(folderList);
     }
@@ -216,11 +227,14 @@ public class FolderService {
         List<ReadStatus> readStatusList = userBookService.validateReadStatus(statusList);
         List<FolderBookUnitDto> folderBookList = new ArrayList<>();
         if(folder.getUser().equals(user)){
+            // 순서는 상태 필터 전 폴더 전체 기준
+            int order = 0;
             for(FolderBook folderBook : folder.getFolderBooks()){
+                order++;
                 for(ReadStatus readStatus : readStatusList){
                     if(folderBook.getUserBook().getReadStatus().equals(readStatus)){
                         boolean isCustom = checkIsCustom(folderBook.getUserBook());
-                        folderBookList.add(new FolderBookUnitDto(folderBook, isCustom));
+                        folderBookList.add(new FolderBookUnitDto(folderBook, order, isCustom));
                     }
                 }
             }
@@ -230,61 +244,34 @@ public class FolderService {
         }
     }
 
+    // 폴더에 추가할 수 있는 책 목록 (상태 필터, 제외, 페이지네이션 모두 쿼리에서 처리)
     @Transactional(readOnly = true)
-    public CandidateFolderBookListResponseDto getCandidateBooks(Long folderId, List<String> statusList) {
-        User user = userService.getCurrentUser();
+    public CandidateFolderBookListResponseDto getCandidateBooks(Long folderId, List<String> statusList, Long cursor, int size) {
+        Long userId = userService.getCurrentUserId();
         Folder folder = findFolderById(folderId);
 
-        if(!(folder.getUser().equals(user))){
+        if(!folder.getUser().getUserId().equals(userId)){
             throw new CustomException(ErrorCode.UNAUTHORIZED_REQUEST);
         }
 
-        List<FolderBook> folderBooks = folder.getFolderBooks();
-        List<UserBook> userBooks = userBookService.findAllByUser(user);
-
-        List<CandidateFolderBookDto> dtoList = new ArrayList<>();
-        List<UserBook> candidateList = new ArrayList<>(userBooks);
-
-        for(UserBook userBook: userBooks){
-            for(FolderBook folderBook: folderBooks){
-                if(userBook.equals(folderBook.getUserBook())){
-                    candidateList.remove(userBook);
-                    break;
-                }
-            }
-        }
+        List<ReadStatus> readStatusList = (statusList == null || statusList.isEmpty())
+                ? List.of(ReadStatus.values())
+                : userBookService.validateReadStatus(statusList);
 
-        if(statusList == null || statusList.isEmpty()){
-            for(UserBook userBook: candidateList){
-                boolean isCustom = checkIsCustom(userBook);
-                dtoList.add(new CandidateFolderBookDto(userBook, isCustom));
-            }
+        List<CandidateFolderBookDto> candidates =
+                folderBookService.findCandidateBooks(folder, userId, readStatusList, cursor, size);
+        Long nextCursor = null;
+        if (candidates.size() > size) {
+            candidates = candidates.subList(0, size);
+            nextCursor = candidates.get(size - 1).userBookId();
         }
-        else{
-            List<ReadStatus> readStatusList = userBookService.validateReadStatus(statusList);
-            for(ReadStatus readStatus : readStatusList){
-                for(UserBook userBook: candidateList){
-                    if(userBook.getReadStatus().equals(readStatus)){
-                        boolean isCustom = checkIsCustom(userBook);
-                        dtoList.add(new CandidateFolderBookDto(userBook, isCustom));
-                    }
-                }
-            }
-        }
-        return CandidateFolderBookListResponseDto.from(dtoList);
+        return CandidateFolderBookListResponseDto.from(candidates, nextCursor);
     }
 
     public FolderBookListResponseDto updateFolderBookOrder(Long folderId, FolderBookOrderRequestDto requestDto) {
         Folder folder = findFolderById(folderId);
         folderBookService.updateFolderBookOrder(folder, requestDto);
-
-        List<FolderBookUnitDto> folderBookList = new ArrayList<>();
-        List<FolderBook> folderBooks = folderBookService.orderFolderBooks(folder);
-        for (FolderBook folderBook : folderBooks) {
-            boolean isCustom = checkIsCustom(folderBook.getUserBook());
-            folderBookList.add(new FolderBookUnitDto(folderBook, isCustom));
-        }
-        return new FolderBookListResponseDto(folder, folderBookList);
+        return getOrderedFolderBookList(folder);
     }
 
     public boolean checkIsCustom(UserBook userBook){
@@ -2,8 +2,10 @@ package com.mmc.bookduck.domain.friend.controller;
 
 import com.mmc.bookduck.domain.friend.dto.request.FriendCreateRequestDto;
 import com.mmc.bookduck.domain.friend.dto.response.FriendListResponseDto;
+import com.mmc.bookduck.domain.friend.dto.response.SimilarReaderListResponseDto;
 import com.mmc.bookduck.domain.friend.entity.Friend;
 import com.mmc.bookduck.domain.friend.service.FriendService;
+import com.mmc.bookduck.domain.friend.service.SimilarReaderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class FriendController {
 
     private final FriendService friendService;
+    private final SimilarReaderService similarReaderService;
 
     @PostMapping
     @Operation(summary = "친구 요청 수락", description = "친구 요청을 수락하고 친구를 생성합니다.")
@@ -33,6 +36,13 @@ public class FriendController {
         return ResponseEntity.ok(friendList);
     }
 
+    @GetMapping("/recommendations")
+    @Operation(summary = "비슷한 독자 추천", description = "서재가 비슷한 유저 목록을 조회합니다.")
+    public ResponseEntity<?> getSimilarReaders() {
+        SimilarReaderListResponseDto similarReaderList = similarReaderService.getSimilarReaders();
+        return ResponseEntity.ok(similarReaderList);
+    }
+
     @DeleteMapping("/{friendId}")
     @Operation(summary = "친구 삭제", description = "친구를 삭제합니다.")
     public ResponseEntity<?> deleteFriend(@PathVariable("friendId") final Long friendId) {
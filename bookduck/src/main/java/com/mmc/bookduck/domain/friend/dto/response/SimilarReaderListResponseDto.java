@@ -0,0 +1,13 @@
+package com.mmc.bookduck.domain.friend.dto.response;
+
+import com.mmc.bookduck.domain.user.dto.common.UserUnitDto;
+
+import java.util.List;
+
+public record SimilarReaderListResponseDto(
+        List<UserUnitDto> similarReaderList
+) {
+    public static SimilarReaderListResponseDto from(List<UserUnitDto> similarReaderList) {
+        return new SimilarReaderListResponseDto(similarReaderList);
+    }
+}
@@ -10,6 +10,10 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_friend_user1_user2", columnNames = {"user1_id", "user2_id"}),
+        indexes = @Index(name = "idx_friend_user2", columnList = "user2_id")
+)
 public class Friend {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,9 +32,11 @@ public class Friend {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User user2;
 
+    // userId가 작은 쪽을 user1로 저장
     @Builder
     public Friend(User user1, User user2) {
-        this.user1 = user1;
-        this.user2 = user2;
+        boolean isOrdered = user1.getUserId() < user2.getUserId();
+        this.user1 = isOrdered ? user1 : user2;
+        this.user2 = isOrdered ? user2 : user1;
     }
 }
\ No newline at end of file
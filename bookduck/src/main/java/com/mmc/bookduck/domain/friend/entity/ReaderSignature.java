@@ -0,0 +1,57 @@
+package com.mmc.bookduck.domain.friend.entity;
+
+import com.mmc.bookduck.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 유저 서재(BookInfo id 집합)의 MinHash 서명과 비슷한 독자 추천 결과
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ReaderSignature extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(updatable = false)
+    private Long readerSignatureId;
+
+    @NotNull
+    @Column(unique = true, updatable = false)
+    private Long userId;
+
+    @NotNull
+    @Lob
+    @Column(columnDefinition = "BLOB")
+    private byte[] signature;
+
+    // 비슷한 독자 userId 목록 (유사도 높은 순, 콤마 구분)
+    @Column(length = 1000)
+    private String similarUserIds;
+
+    @Builder
+    public ReaderSignature(Long userId, byte[] signature) {
+        this.userId = userId;
+        this.signature = signature;
+    }
+
+    public void updateSignature(byte[] signature) {
+        this.signature = signature;
+    }
+
+    public void updateSimilarUserIds(List<Long> similarUserIds) {
+        this.similarUserIds = String.join(",", similarUserIds.stream().map(String::valueOf).toList());
+    }
+
+    public List<Long> getSimilarUserIdList() {
+        if (similarUserIds == null || similarUserIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(similarUserIds.split(",")).map(Long::valueOf).toList();
+    }
+}
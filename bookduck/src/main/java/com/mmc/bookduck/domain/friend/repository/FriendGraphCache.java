@@ -0,0 +1,81 @@
+package com.mmc.bookduck.domain.friend.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.mmc.bookduck.global.cache.CacheInvalidationBus;
+import com.mmc.bookduck.global.common.LongHashSet;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
+
+// 사용자별 친구 userId 목록을 캐싱하여 SQL 없이 친구 여부를 확인
+@Repository
+public class FriendGraphCache {
+    private static final String CACHE_NAME = "friendGraph";
+    private static final int MAXIMUM_USERS = 100_000;
+    // 무효화 메시지를 놓쳤을 때 다른 서버에서 변경된 친구 관계가 반영되기까지의 최대 시간
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final FriendRepository friendRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final LoadingCache<Long, LongHashSet> friendIdsByUserId;
+
+    public FriendGraphCache(FriendRepository friendRepository, CacheInvalidationBus invalidationBus) {
+        this.friendRepository = friendRepository;
+        this.invalidationBus = invalidationBus;
+        this.friendIdsByUserId = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_USERS)
+                .expireAfterWrite(TTL)
+                .build(this::loadFriendIds);
+        // 친구 공개 글 권한 확인에 쓰이므로 다른 서버의 친구 끊기/차단도 바로 반영
+        invalidationBus.register(CACHE_NAME, this::invalidateLocal);
+    }
+
+    public boolean isFriend(Long userId, Long otherUserId) {
+        if (userId == null || otherUserId == null || userId.equals(otherUserId)) {
+            return false;
+        }
+        // 이미 캐싱된 쪽이 있으면 그대로 사용
+        LongHashSet cached = friendIdsByUserId.getIfPresent(otherUserId);
+        if (cached != null) {
+            return cached.contains(userId);
+        }
+        return friendIdsByUserId.get(userId).contains(otherUserId);
+    }
+
+    public LongHashSet getFriendIds(Long userId) {
+        return friendIdsByUserId.get(userId);
+    }
+
+    // 친구 관계 변경 시 양쪽 모두 제거 (커밋 전 재조회로 이전 상태가 캐싱되지 않도록 커밋 후 한 번 더 제거하고 다른 서버에 전파)
+    public void invalidate(Long... userIds) {
+        List<Long> userIdList = Arrays.asList(userIds);
+        friendIdsByUserId.invalidateAll(userIdList);
+        afterCommit(() -> {
+            friendIdsByUserId.invalidateAll(userIdList);
+            userIdList.forEach(userId -> invalidationBus.publish(CACHE_NAME, String.valueOf(userId)));
+        });
+    }
+
+    // 다른 서버의 무효화 메시지 처리 (userId가 null이면 전체)
+    private void invalidateLocal(String userId) {
+        if (userId == null) {
+            friendIdsByUserId.invalidateAll();
+        } else {
+            friendIdsByUserId.invalidate(Long.valueOf(userId));
+        }
+    }
+
+    private LongHashSet loadFriendIds(Long userId) {
+        long[] friendIds = LongStream.concat(
+                friendRepository.findUser2IdsByUser1Id(userId).stream().mapToLong(Long::longValue),
+                friendRepository.findUser1IdsByUser2Id(userId).stream().mapToLong(Long::longValue)
+        ).toArray();
+        return LongHashSet.of(friendIds);
+    }
+}
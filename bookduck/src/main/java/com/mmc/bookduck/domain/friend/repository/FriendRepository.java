@@ -10,10 +10,25 @@ import java.util.List;
 import java.util.Optional;
 
 public interface FriendRepository extends JpaRepository<Friend, Long> {
-    @Query("SELECT f FROM Friend f WHERE (f.user1.userId = :senderId AND f.user2.userId = :receiverId) " +
-            "OR (f.user1.userId = :receiverId AND f.user2.userId = :senderId)")
-    Optional<Friend> findFriendBetweenUsers(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId);
-    List<Friend> findAllByUser1UserIdOrUser2UserId(Long userId1, Long userId2);
+    // 친구 관계는 (작은 userId, 큰 userId) 순서로 저장됨
+    Optional<Friend> findByUser1UserIdAndUser2UserId(Long lowerUserId, Long higherUserId);
+
+    default Optional<Friend> findFriendBetweenUsers(Long senderId, Long receiverId) {
+        return findByUser1UserIdAndUser2UserId(Math.min(senderId, receiverId), Math.max(senderId, receiverId));
+    }
+
+    // 친구 목록 조회 (각 방향별로 인덱스 사용)
+    @Query("SELECT f FROM Friend f JOIN FETCH f.user2 WHERE f.user1.userId = :userId")
+    List<Friend> findAllByUser1IdWithUser2(@Param("userId") Long userId);
+
+    @Query("SELECT f FROM Friend f JOIN FETCH f.user1 WHERE f.user2.userId = :userId")
+    List<Friend> findAllByUser2IdWithUser1(@Param("userId") Long userId);
+
+    @Query("SELECT f.user2.userId FROM Friend f WHERE f.user1.userId = :userId")
+    List<Long> findUser2IdsByUser1Id(@Param("userId") Long userId);
+
+    @Query("SELECT f.user1.userId FROM Friend f WHERE f.user2.userId = :userId")
+    List<Long> findUser1IdsByUser2Id(@Param("userId") Long userId);
 
     void deleteByUser1(User user);
     void deleteByUser2(User user);
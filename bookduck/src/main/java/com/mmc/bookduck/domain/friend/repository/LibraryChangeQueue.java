@@ -0,0 +1,40 @@
+package com.mmc.bookduck.domain.friend.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
+
+// 서재가 바뀌어 MinHash 서명을 다시 계산해야 하는 유저 목록 (Redis SET, 서버 간 공유)
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class LibraryChangeQueue {
+    private static final String KEY = "similar-reader:changed-users";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 커밋 후 추가. 실패해도 다음 전체 갱신 때 반영되므로 로그만 남김
+    public void add(Long userId) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForSet().add(KEY, userId.toString());
+            } catch (RuntimeException e) {
+                log.warn("서재 변경 기록 실패: userId {}", userId, e);
+            }
+        });
+    }
+
+    // 최대 count명을 꺼내고 목록에서 제거
+    public List<Long> pop(int count) {
+        List<String> userIds = stringRedisTemplate.opsForSet().pop(KEY, count);
+        if (userIds == null) {
+            return List.of();
+        }
+        return userIds.stream().map(Long::valueOf).toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mmc.bookduck.domain.friend.repository;
+
+import com.mmc.bookduck.domain.friend.entity.ReaderSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReaderSignatureRepository extends JpaRepository<ReaderSignature, Long> {
+    Optional<ReaderSignature> findByUserId(Long userId);
+
+    List<ReaderSignature> findAllByUserIdIn(Collection<Long> userIds);
+
+    // LSH 인덱스 구성용 (userId, signature), userId 오름차순
+    @Query("SELECT r.userId, r.signature FROM ReaderSignature r ORDER BY r.userId")
+    List<Object[]> findAllUserIdAndSignature();
+
+    @Modifying
+    @Query("DELETE FROM ReaderSignature r WHERE r.userId IN :userIds")
+    void deleteAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
@@ -7,8 +7,9 @@ import com.mmc.bookduck.domain.friend.dto.request.FriendRequestDto;
 import com.mmc.bookduck.domain.friend.dto.response.FriendRequestListResponseDto;
 import com.mmc.bookduck.domain.friend.entity.FriendRequest;
 import com.mmc.bookduck.domain.friend.entity.FriendRequestStatus;
-import com.mmc.bookduck.domain.friend.repository.FriendRepository;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
 import com.mmc.bookduck.domain.friend.repository.FriendRequestRepository;
+import com.mmc.bookduck.domain.item.dto.common.ItemEquippedUnitDto;
 import com.mmc.bookduck.domain.item.service.UserItemService;
 import com.mmc.bookduck.domain.user.entity.UserSetting;
 import com.mmc.bookduck.domain.user.service.UserService;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,7 +30,7 @@ import java.util.stream.Collectors;
 @Transactional
 public class FriendRequestService {
     private final FriendRequestRepository friendRequestRepository;
-    private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
     private final UserService userService;
     private final UserItemService userItemService;
     private final AlarmByTypeService alarmByTypeService;
@@ -43,7 +45,7 @@ public class FriendRequestService {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
         // 이미 친구인지 확인
-        if (friendRepository.findFriendBetweenUsers(sender.getUserId(), receiver.getUserId()).isPresent()) {
+        if (friendGraphCache.isFriend(sender.getUserId(), receiver.getUserId())) {
             throw new CustomException(ErrorCode.FRIEND_ALREADY_EXISTS);
         }
         // receiver의 친구 요청 설정이 false면 친구 요청 보낼 수 없음
@@ -83,14 +85,17 @@ public class FriendRequestService {
     @Transactional(readOnly = true)
     public FriendRequestListResponseDto getReceivedFriendRequests() {
         User currentUser = userService.getCurrentUser();
-        List<FriendRequestUnitDto> receivedList = friendRequestRepository.findAllByReceiverUserIdAndFriendRequestStatus(currentUser.getUserId(), FriendRequestStatus.PENDING)
-                .stream()
+        List<FriendRequest> receivedRequests = friendRequestRepository.findAllByReceiverUserIdAndFriendRequestStatus(currentUser.getUserId(), FriendRequestStatus.PENDING);
+        // 요청 보낸 유저들의 장착 아이템을 한 번에 조회
+        Map<Long, List<ItemEquippedUnitDto>> userItemEquippedMap = userItemService.getUserItemEquippedListOfUsers(
+                receivedRequests.stream().map(friendRequest -> friendRequest.getSender().getUserId()).collect(Collectors.toSet()));
+        List<FriendRequestUnitDto> receivedList = receivedRequests.stream()
                 .map(friendRequest -> FriendRequestUnitDto.from(
                         friendRequest,
                         friendRequest.getSender().getUserId(),
                         friendRequest.getSender().getNickname(),
                         friendRequest.getSender().isOfficial(),
-                        userItemService.getUserItemEquippedListOfUser(friendRequest.getSender())
+                        userItemEquippedMap.get(friendRequest.getSender().getUserId())
                 ))
                 .collect(Collectors.toList());
         return FriendRequestListResponseDto.from(receivedList);
@@ -100,14 +105,17 @@ public class FriendRequestService {
     @Transactional(readOnly = true)
     public FriendRequestListResponseDto getSentFriendRequests() {
         User currentUser = userService.getCurrentUser();
-        List<FriendRequestUnitDto> sentList = friendRequestRepository.findAllBySenderUserIdAndFriendRequestStatus(currentUser.getUserId(), FriendRequestStatus.PENDING)
-                .stream()
+        List<FriendRequest> sentRequests = friendRequestRepository.findAllBySenderUserIdAndFriendRequestStatus(currentUser.getUserId(), FriendRequestStatus.PENDING);
+        // 요청 받은 유저들의 장착 아이템을 한 번에 조회
+        Map<Long, List<ItemEquippedUnitDto>> userItemEquippedMap = userItemService.getUserItemEquippedListOfUsers(
+                sentRequests.stream().map(friendRequest -> friendRequest.getReceiver().getUserId()).collect(Collectors.toSet()));
+        List<FriendRequestUnitDto> sentList = sentRequests.stream()
                 .map(friendRequest -> FriendRequestUnitDto.from(
                         friendRequest,
                         friendRequest.getReceiver().getUserId(),
                         friendRequest.getReceiver().getNickname(),
                         friendRequest.getReceiver().isOfficial(),
-                        userItemService.getUserItemEquippedListOfUser(friendRequest.getReceiver())
+                        userItemEquippedMap.get(friendRequest.getReceiver().getUserId())
                 ))
                 .collect(Collectors.toList());
         return FriendRequestListResponseDto.from(sentList);
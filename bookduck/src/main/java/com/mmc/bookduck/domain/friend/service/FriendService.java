@@ -7,20 +7,27 @@ import com.mmc.bookduck.domain.friend.dto.response.FriendListResponseDto;
 import com.mmc.bookduck.domain.friend.entity.Friend;
 import com.mmc.bookduck.domain.friend.entity.FriendRequest;
 import com.mmc.bookduck.domain.friend.entity.FriendRequestStatus;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
 import com.mmc.bookduck.domain.friend.repository.FriendRepository;
 import com.mmc.bookduck.domain.friend.repository.FriendRequestRepository;
 import com.mmc.bookduck.domain.item.dto.common.ItemEquippedUnitDto;
 import com.mmc.bookduck.domain.item.service.UserItemService;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.common.LongHashSet;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +36,7 @@ import java.util.stream.Collectors;
 public class FriendService {
     private final FriendRequestRepository friendRequestRepository;
     private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
     private final UserService userService;
     private final UserItemService userItemService;
     private final AlarmByTypeService alarmByTypeService;
@@ -45,7 +53,7 @@ public class FriendService {
         }
 
         // 이미 친구인지 확인
-        if (friendRepository.findFriendBetweenUsers(request.getSender().getUserId(), request.getReceiver().getUserId()).isPresent()) {
+        if (friendGraphCache.isFriend(request.getSender().getUserId(), request.getReceiver().getUserId())) {
             throw new CustomException(ErrorCode.FRIEND_ALREADY_EXISTS);
         }
 
@@ -53,6 +61,7 @@ public class FriendService {
         FriendCreateRequestDto friendCreateRequestDto = new FriendCreateRequestDto(friendRequestId);
         Friend friend = friendCreateRequestDto.toEntity(sender, currentUser);
         friendRepository.save(friend);
+        friendGraphCache.invalidate(sender.getUserId(), currentUser.getUserId());
         request.setFriendRequestStatus(FriendRequestStatus.ACCEPTED);
         friendRequestRepository.save(request);
         // 친구 알림 생성
@@ -65,11 +74,15 @@ public class FriendService {
     @Transactional(readOnly = true)
     public FriendListResponseDto getFriendList() {
         User currentUser = userService.getCurrentUser();
-        List<Friend> friends = friendRepository.findAllByUser1UserIdOrUser2UserId(currentUser.getUserId(), currentUser.getUserId());
+        List<Friend> friends = new ArrayList<>(friendRepository.findAllByUser1IdWithUser2(currentUser.getUserId()));
+        friends.addAll(friendRepository.findAllByUser2IdWithUser1(currentUser.getUserId()));
+        // 친구들의 장착 아이템을 한 번에 조회
+        Map<Long, List<ItemEquippedUnitDto>> userItemEquippedMap = userItemService.getUserItemEquippedListOfUsers(
+                friends.stream().map(friend -> getFriendUser(friend, currentUser).getUserId()).collect(Collectors.toSet()));
         List<FriendUnitDto> friendList = friends.stream()
                 .map(friend -> {
                     User friendUser = getFriendUser(friend, currentUser);
-                    List<ItemEquippedUnitDto> userItemEquipped = userItemService.getUserItemEquippedListOfUser(friendUser);
+                    List<ItemEquippedUnitDto> userItemEquipped = userItemEquippedMap.get(friendUser.getUserId());
                     boolean isOfficial = friendUser.isOfficial();
                     return FriendUnitDto.from(friend, friendUser, isOfficial, userItemEquipped);
                 })
@@ -98,6 +111,7 @@ public class FriendService {
             friendRequestRepository.save(request);
         }
         friendRepository.delete(friend);
+        friendGraphCache.invalidate(friend.getUser1().getUserId(), friend.getUser2().getUserId());
     }
 
     @Transactional(readOnly = true)
@@ -106,11 +120,33 @@ public class FriendService {
         if (currentUser == null) {
             return false;
         }
-        return friendRepository.findFriendBetweenUsers(currentUser.getUserId(), otherUser.getUserId()).isPresent();
+        return friendGraphCache.isFriend(currentUser.getUserId(), otherUser.getUserId());
+    }
+
+    // userIds 중 현재 유저의 친구인 userId 목록 (친구 목록 한 번 조회로 일괄 확인)
+    @Transactional(readOnly = true)
+    public Set<Long> getFriendIdsOfCurrentUserAmong(Collection<Long> userIds) {
+        User currentUser = userService.getCurrentUserOrNull();
+        if (currentUser == null) {
+            return Set.of();
+        }
+        LongHashSet friendIds = friendGraphCache.getFriendIds(currentUser.getUserId());
+        return userIds.stream()
+                .filter(friendIds::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isFriend(Long userId, Long otherUserId) {
+        return friendGraphCache.isFriend(userId, otherUserId);
     }
 
     @Transactional(readOnly = true)
     public Optional<Friend> getFriendBetweenUsers(User user, User otherUser) {
+        // 친구가 아닌 경우 SQL 없이 반환
+        if (!friendGraphCache.isFriend(user.getUserId(), otherUser.getUserId())) {
+            return Optional.empty();
+        }
         return friendRepository.findFriendBetweenUsers(user.getUserId(), otherUser.getUserId());
     }
 
@@ -120,7 +156,12 @@ public class FriendService {
     }
 
     public void deleteFriendsOfUser(User user) {
+        Long[] friendIds = Arrays.stream(friendGraphCache.getFriendIds(user.getUserId()).toArray())
+                .boxed()
+                .toArray(Long[]::new);
         friendRepository.deleteByUser1(user);
         friendRepository.deleteByUser2(user);
+        friendGraphCache.invalidate(friendIds);
+        friendGraphCache.invalidate(user.getUserId());
     }
 }
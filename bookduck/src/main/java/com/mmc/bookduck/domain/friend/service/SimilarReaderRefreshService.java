@@ -0,0 +1,120 @@
+package com.mmc.bookduck.domain.friend.service;
+
+import com.mmc.bookduck.domain.book.repository.UserBookRepository;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
+import com.mmc.bookduck.domain.friend.repository.LibraryChangeQueue;
+import com.mmc.bookduck.global.common.LongHashSet;
+import com.mmc.bookduck.global.common.MinHashLsh;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 비슷한 독자 배치 작업. 청크 단위로 트랜잭션을 나눠 SimilarReaderService에 위임
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimilarReaderRefreshService {
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_CHANGED_USERS_PER_RUN = 10_000;
+    private static final int TOP_N = 20;
+    private static final double MIN_SIMILARITY = 0.1;
+    // 인기 도서로 인해 커진 버킷에서 볼 최대 후보 수
+    private static final int BUCKET_LIMIT = 200;
+
+    private final SimilarReaderService similarReaderService;
+    private final UserBookRepository userBookRepository;
+    private final LibraryChangeQueue libraryChangeQueue;
+    private final FriendGraphCache friendGraphCache;
+
+    // 서재가 바뀐 유저만 서명과 추천 목록 갱신
+    public void refreshChangedReaders() {
+        List<Long> changedUserIds = libraryChangeQueue.pop(MAX_CHANGED_USERS_PER_RUN);
+        if (!changedUserIds.isEmpty()) {
+            refresh(changedUserIds);
+        }
+    }
+
+    // 모든 유저 갱신 (다른 유저의 서재 변경으로 달라진 추천 목록까지 반영)
+    public void refreshAllReaders() {
+        refresh(userBookRepository.findAllActiveUserIdsWithUserBook());
+    }
+
+    private void refresh(List<Long> userIds) {
+        long startTime = System.currentTimeMillis();
+        for (List<Long> chunk : chunks(userIds)) {
+            similarReaderService.refreshSignatures(chunk);
+        }
+
+        MinHashLsh.Index index = similarReaderService.loadIndex();
+        for (List<Long> chunk : chunks(userIds)) {
+            Map<Long, List<Long>> similarUserIdsByUserId = new HashMap<>();
+            for (Long userId : chunk) {
+                int position = findPosition(index, userId);
+                if (position >= 0) {
+                    similarUserIdsByUserId.put(userId, findSimilarUserIds(index, position));
+                }
+            }
+            similarReaderService.saveSimilarUserIds(similarUserIdsByUserId);
+        }
+        log.info("비슷한 독자 갱신 완료: {}명 / 전체 {}명, {}ms", userIds.size(), index.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 같은 버킷 후보 중 추정 유사도가 높은 순으로 TOP_N명 (본인, 친구 제외)
+    private List<Long> findSimilarUserIds(MinHashLsh.Index index, int position) {
+        long userId = index.getId(position);
+        int[] signature = index.getSignature(position);
+        LongHashSet friendIds = friendGraphCache.getFriendIds(userId);
+
+        List<ScoredUser> scoredUsers = new ArrayList<>();
+        for (int candidate : index.findCandidates(signature, BUCKET_LIMIT)) {
+            long candidateId = index.getId(candidate);
+            if (candidateId == userId || friendIds.contains(candidateId)) {
+                continue;
+            }
+            double similarity = MinHashLsh.estimateSimilarity(signature, index.getSignature(candidate));
+            if (similarity >= MIN_SIMILARITY) {
+                scoredUsers.add(new ScoredUser(candidateId, similarity));
+            }
+        }
+        return scoredUsers.stream()
+                .sorted(Comparator.comparingDouble(ScoredUser::similarity).reversed())
+                .limit(TOP_N)
+                .map(ScoredUser::userId)
+                .toList();
+    }
+
+    // index의 userId는 오름차순
+    private int findPosition(MinHashLsh.Index index, long userId) {
+        int low = 0;
+        int high = index.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = index.getId(mid);
+            if (midId < userId) {
+                low = mid + 1;
+            } else if (midId > userId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private List<List<Long>> chunks(List<Long> userIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            chunks.add(userIds.subList(from, Math.min(userIds.size(), from + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private record ScoredUser(Long userId, double similarity) {
+    }
+}
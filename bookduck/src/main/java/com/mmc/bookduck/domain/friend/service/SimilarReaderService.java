@@ -0,0 +1,118 @@
+package com.mmc.bookduck.domain.friend.service;
+
+import com.mmc.bookduck.domain.book.repository.UserBookRepository;
+import com.mmc.bookduck.domain.friend.dto.response.SimilarReaderListResponseDto;
+import com.mmc.bookduck.domain.friend.entity.ReaderSignature;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
+import com.mmc.bookduck.domain.friend.repository.ReaderSignatureRepository;
+import com.mmc.bookduck.domain.item.dto.common.ItemEquippedUnitDto;
+import com.mmc.bookduck.domain.item.service.UserItemService;
+import com.mmc.bookduck.domain.user.dto.common.UserUnitDto;
+import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.domain.user.entity.UserStatus;
+import com.mmc.bookduck.domain.user.repository.UserRepository;
+import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.common.LongHashSet;
+import com.mmc.bookduck.global.common.MinHashLsh;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SimilarReaderService {
+    private final ReaderSignatureRepository readerSignatureRepository;
+    private final UserBookRepository userBookRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final UserItemService userItemService;
+    private final FriendGraphCache friendGraphCache;
+
+    // 비슷한 독자 조회 (배치 작업이 저장해 둔 결과를 한 번에 조회, 그 사이 친구가 된 유저는 제외)
+    @Transactional(readOnly = true)
+    public SimilarReaderListResponseDto getSimilarReaders() {
+        Long userId = userService.getCurrentUserId();
+        LongHashSet friendIds = friendGraphCache.getFriendIds(userId);
+        List<Long> similarUserIds = readerSignatureRepository.findByUserId(userId)
+                .map(ReaderSignature::getSimilarUserIdList)
+                .orElse(List.of())
+                .stream()
+                .filter(similarUserId -> !friendIds.contains(similarUserId))
+                .toList();
+
+        Map<Long, User> users = userRepository.findAllById(similarUserIds).stream()
+                .filter(user -> user.getUserStatus() == UserStatus.ACTIVE && !user.isOfficial())
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        Map<Long, List<ItemEquippedUnitDto>> userItemsMap = userItemService.getUserItemEquippedListOfUsers(users.keySet());
+
+        List<UserUnitDto> similarReaderList = similarUserIds.stream()
+                .filter(users::containsKey)
+                .map(similarUserId -> {
+                    User user = users.get(similarUserId);
+                    return new UserUnitDto(user.getUserId(), user.getNickname(), false, false, userItemsMap.get(similarUserId));
+                })
+                .toList();
+        return SimilarReaderListResponseDto.from(similarReaderList);
+    }
+
+    // 유저들의 서재로 서명을 다시 계산해 저장 (서재가 빈 유저는 삭제)
+    public void refreshSignatures(Collection<Long> userIds) {
+        Map<Long, List<Long>> bookInfoIdsByUserId = new HashMap<>();
+        for (Object[] row : userBookRepository.findUserIdAndBookInfoIdByUserIdIn(userIds)) {
+            bookInfoIdsByUserId.computeIfAbsent((Long) row[0], userId -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        Map<Long, ReaderSignature> signatures = readerSignatureRepository.findAllByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(ReaderSignature::getUserId, Function.identity()));
+        Set<Long> emptyUserIds = new HashSet<>();
+        List<ReaderSignature> newSignatures = new ArrayList<>();
+        for (Long userId : userIds) {
+            List<Long> bookInfoIds = bookInfoIdsByUserId.get(userId);
+            if (bookInfoIds == null) {
+                emptyUserIds.add(userId);
+                continue;
+            }
+            byte[] signature = MinHashLsh.toBytes(MinHashLsh.signature(bookInfoIds.stream().mapToLong(Long::longValue).toArray()));
+            ReaderSignature readerSignature = signatures.get(userId);
+            if (readerSignature != null) {
+                readerSignature.updateSignature(signature); // 트랜잭션 커밋 시 자동 저장
+            } else {
+                newSignatures.add(ReaderSignature.builder().userId(userId).signature(signature).build());
+            }
+        }
+        readerSignatureRepository.saveAll(newSignatures);
+        if (!emptyUserIds.isEmpty()) {
+            readerSignatureRepository.deleteAllByUserIdIn(emptyUserIds);
+        }
+    }
+
+    // 전체 서명으로 LSH 인덱스 생성 (userId 오름차순)
+    @Transactional(readOnly = true)
+    public MinHashLsh.Index loadIndex() {
+        List<Object[]> rows = readerSignatureRepository.findAllUserIdAndSignature();
+        long[] userIds = new long[rows.size()];
+        int[][] signatures = new int[rows.size()][];
+        for (int i = 0; i < rows.size(); i++) {
+            userIds[i] = (Long) rows.get(i)[0];
+            signatures[i] = MinHashLsh.fromBytes((byte[]) rows.get(i)[1]);
+        }
+        return MinHashLsh.buildIndex(userIds, signatures);
+    }
+
+    public void saveSimilarUserIds(Map<Long, List<Long>> similarUserIdsByUserId) {
+        for (ReaderSignature readerSignature : readerSignatureRepository.findAllByUserIdIn(similarUserIdsByUserId.keySet())) {
+            readerSignature.updateSimilarUserIds(similarUserIdsByUserId.get(readerSignature.getUserId()));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.mmc.bookduck.domain.item.dto.common;
+
+import com.mmc.bookduck.domain.item.entity.ItemType;
+
+// 여러 유저의 장착 아이템 일괄 조회용 projection
+public record UserEquippedItemDto(
+        Long userId,
+        ItemType itemType,
+        String itemName
+) {
+}
@@ -0,0 +1,39 @@
+package com.mmc.bookduck.domain.item.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mmc.bookduck.domain.item.dto.common.ItemEquippedUnitDto;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
+
+// 유저별 장착 아이템 목록 캐시
+@Repository
+public class EquippedItemCache {
+    private static final int MAXIMUM_USERS = 50_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final Cache<Long, List<ItemEquippedUnitDto>> equippedItemsByUserId = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_USERS)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public Map<Long, List<ItemEquippedUnitDto>> getAllPresent(Collection<Long> userIds) {
+        return equippedItemsByUserId.getAllPresent(userIds);
+    }
+
+    public void putAll(Map<Long, List<ItemEquippedUnitDto>> equippedItems) {
+        equippedItemsByUserId.putAll(equippedItems);
+    }
+
+    // 장착 상태 변경 시 제거 (커밋 전 재조회로 이전 상태가 캐싱되지 않도록 커밋 후 한 번 더 제거)
+    public void invalidate(Long userId) {
+        equippedItemsByUserId.invalidate(userId);
+        afterCommit(() -> equippedItemsByUserId.invalidate(userId));
+    }
+}
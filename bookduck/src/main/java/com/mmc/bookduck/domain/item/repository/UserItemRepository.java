@@ -1,15 +1,25 @@
 package com.mmc.bookduck.domain.item.repository;
 
+import com.mmc.bookduck.domain.item.dto.common.UserEquippedItemDto;
 import com.mmc.bookduck.domain.item.entity.Item;
 import com.mmc.bookduck.domain.item.entity.UserItem;
 import com.mmc.bookduck.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserItemRepository extends JpaRepository<UserItem, Long> {
     List<UserItem> findAllByUserAndIsEquippedTrue(User user);
     List<UserItem> findAllByUser(User user);
+
+    // 여러 유저의 장착 아이템을 한 번에 조회
+    @Query("SELECT new com.mmc.bookduck.domain.item.dto.common.UserEquippedItemDto(ui.user.userId, i.itemType, i.itemName) " +
+            "FROM UserItem ui JOIN ui.item i " +
+            "WHERE ui.user.userId IN :userIds AND ui.isEquipped = true")
+    List<UserEquippedItemDto> findEquippedItemsByUserIds(@Param("userIds") Collection<Long> userIds);
     void deleteAllByUser(User user);
     boolean existsByUserAndItem(User user, Item item);
 }
@@ -1,11 +1,8 @@
 package com.mmc.bookduck.domain.item.service;
 
 import com.mmc.bookduck.domain.alarm.service.AlarmByTypeService;
-import com.mmc.bookduck.domain.archive.entity.Excerpt;
-import com.mmc.bookduck.domain.archive.entity.Review;
 import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
 import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
-import com.mmc.bookduck.domain.book.entity.Genre;
 import com.mmc.bookduck.domain.book.entity.GenreName;
 import com.mmc.bookduck.domain.book.entity.ReadStatus;
 import com.mmc.bookduck.domain.book.repository.UserBookRepository;
@@ -21,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +29,9 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ItemUnlockService {
+    private static final Map<String, GenreName> GENRE_NAMES = Arrays.stream(GenreName.values())
+            .collect(Collectors.toUnmodifiableMap(GenreName::name, genreName -> genreName));
+
     private final UserService userService;
     private final UserBookRepository userBookRepository;
     private final ItemRepository itemRepository;
@@ -76,59 +77,52 @@ public class ItemUnlockService {
         // 모든 아이템 가져오기
         List<Item> allItems = itemRepository.findAll();
 
+        // 장르별 기록 수는 아이템마다 다시 세지 않고 한 번만 조회
+        Map<GenreName, Integer> recordCountByGenre = getBookRecordCountByGenre(user);
+
         // 새롭게 획득할 수 있는 아이템 필터링
         return allItems.stream()
-                .filter(item -> !alreadyOwnedItemIds.contains(item.getItemId()) && isUnlockConditionMet(user, item))
+                .filter(item -> !alreadyOwnedItemIds.contains(item.getItemId())
+                        && isUnlockConditionMet(item.getUnlockCondition(), recordCountByGenre))
                 .collect(Collectors.toList());
     }
 
-    // 특정 아이템의 언락 조건 확인
-    private boolean isUnlockConditionMet(User user, Item item) {
-        String[] conditionParts = item.getUnlockCondition().split("%");
+    // 특정 아이템의 언락 조건 확인 (조건 형식: "FICTION+LITERARY%5").
+    // 알 수 없는 장르명은 기록 수 0으로 보고 건너뜀 (잘못된 데이터 하나로 전체 확인이 중단되지 않도록)
+    static boolean isUnlockConditionMet(String unlockCondition, Map<GenreName, Integer> recordCountByGenre) {
+        String[] conditionParts = unlockCondition.split("%");
         String genreNames = conditionParts[0];
 
         int requiredCount = 0; // 기본값을 0으로 설정
         try {
             requiredCount = Integer.parseInt(conditionParts[1]);
-        } catch (NumberFormatException e) {
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
             log.info("item 테이블에 requireCount를 확인해주세요.");
         }
 
-        Map<GenreName, Integer> userBookCountByGenre = getBookRecordCountByGenre(user);
-
         String[] genreNameList = genreNames.split("\\+");
         int totalReadCount = 0;
 
         for (String genreName : genreNameList) {
-            totalReadCount += userBookCountByGenre.getOrDefault(genreName, 0);
+            GenreName genre = GENRE_NAMES.get(genreName.trim());
+            if (genre == null) {
+                log.info("item 테이블에 장르명을 확인해주세요. genre: {}", genreName);
+                continue;
+            }
+            totalReadCount += recordCountByGenre.getOrDefault(genre, 0);
         }
         return totalReadCount >= requiredCount;
     }
 
-    // 독서기록 갯수 가져와서 장르별로 그룹화
+    // 독서기록 갯수 가져와서 장르별로 그룹화 (기록을 하나씩 불러오지 않고 장르별 집계 쿼리로 계산)
     private Map<GenreName, Integer> getBookRecordCountByGenre(User user) {
-        // Group reviews by genre name and count them
-        Map<GenreName, Integer> reviewCounts = reviewRepository.findByUserId(user.getUserId()).stream()
-                .map(review -> review.getUserBook().getBookInfo().getGenre().getGenreName()) // Extract GenreName
-                .collect(Collectors.groupingBy(
-                        genreName -> genreName, // Use GenreName as the key
-                        Collectors.summingInt(genreName -> 1) // Count occurrences
-                ));
-
-        // 발췌 데이터에서 장르별 개수 계산
-        Map<GenreName, Integer> excerptCounts = excerptRepository.findByUserId(user.getUserId()).stream()
-                .map(excerpt -> excerpt.getUserBook().getBookInfo().getGenre())
-                .collect(Collectors.groupingBy(
-                        Genre::getGenreName,
-                        Collectors.summingInt(genre -> 1) // 장르별 발췌 개수
-                ));
-
-        // 두 맵 병합
-        Map<GenreName, Integer> combinedCounts = new HashMap<>(reviewCounts);
-        excerptCounts.forEach(
-                (genre, count) -> combinedCounts.merge(genre, count, Integer::sum)
-        );
-
+        Map<GenreName, Integer> combinedCounts = new HashMap<>();
+        for (Object[] row : reviewRepository.countByGenreOfUser(user.getUserId())) {
+            combinedCounts.merge((GenreName) row[0], ((Long) row[1]).intValue(), Integer::sum);
+        }
+        for (Object[] row : excerptRepository.countByGenreOfUser(user.getUserId())) {
+            combinedCounts.merge((GenreName) row[0], ((Long) row[1]).intValue(), Integer::sum);
+        }
         return combinedCounts;
     }
 }
\ No newline at end of file
@@ -2,12 +2,14 @@ package com.mmc.bookduck.domain.item.service;
 
 import com.mmc.bookduck.domain.item.dto.common.ItemClosetUnitDto;
 import com.mmc.bookduck.domain.item.dto.common.ItemEquippedUnitDto;
+import com.mmc.bookduck.domain.item.dto.common.UserEquippedItemDto;
 import com.mmc.bookduck.domain.item.dto.response.UserItemEquippedResponseDto;
 import com.mmc.bookduck.domain.item.dto.response.UserItemClosetResponseDto;
 import com.mmc.bookduck.domain.item.dto.request.UserItemUpdateRequestDto;
 import com.mmc.bookduck.domain.item.entity.Item;
 import com.mmc.bookduck.domain.item.entity.ItemType;
 import com.mmc.bookduck.domain.item.entity.UserItem;
+import com.mmc.bookduck.domain.item.repository.EquippedItemCache;
 import com.mmc.bookduck.domain.item.repository.UserItemRepository;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserService;
@@ -17,8 +19,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +36,7 @@ public class UserItemService {
     private final UserItemRepository userItemRepository;
     private final UserService userService;
     private final ItemService itemService;
+    private final EquippedItemCache equippedItemCache;
 
     // userId로 장착된 아이템 조회
     @Transactional(readOnly = true)
@@ -57,6 +66,7 @@ public class UserItemService {
 
     public void updateUserItemsEquippedStatus(UserItemUpdateRequestDto requestDto) {
         User user = userService.getCurrentUser();
+        equippedItemCache.invalidate(user.getUserId());
 
         // 현재 장착된 아이템들을 해제
         List<UserItem> equippedItems = userItemRepository.findAllByUserAndIsEquippedTrue(user);
@@ -93,24 +103,44 @@ public class UserItemService {
 
     @Transactional(readOnly = true)
     public List<ItemEquippedUnitDto> getUserItemEquippedListOfUser(User user) {
-        List<UserItem> equippedItems = getAllUserItemsByUserAndIsEquippedTrue(user);
+        return getUserItemEquippedListOfUsers(Set.of(user.getUserId())).get(user.getUserId());
+    }
 
-        // 장착된 아이템을 ItemType을 키로 하는 Map으로 변환
-        Map<ItemType, UserItem> equippedItemMap = equippedItems.stream()
-                .collect(Collectors.toMap(userItem -> userItem.getItem().getItemType(), userItem -> userItem));
+    // 여러 유저의 장착 아이템을 캐시 + 한 번의 IN 쿼리로 조회 (userId -> 모든 ItemType의 장착 아이템 목록)
+    @Transactional(readOnly = true)
+    public Map<Long, List<ItemEquippedUnitDto>> getUserItemEquippedListOfUsers(Collection<Long> userIds) {
+        Map<Long, List<ItemEquippedUnitDto>> result = new HashMap<>(equippedItemCache.getAllPresent(userIds));
+        Set<Long> missingUserIds = new HashSet<>(userIds);
+        missingUserIds.removeAll(result.keySet());
+        if (missingUserIds.isEmpty()) {
+            return result;
+        }
 
-        // 모든 ItemType에 대해 기본값을 설정 (없으면 null)
-        for (ItemType itemType : ItemType.values()) {
-            equippedItemMap.putIfAbsent(itemType, null);
+        // 장착된 아이템을 userId, ItemType 별로 분류
+        Map<Long, Map<ItemType, String>> equippedItemNames = new HashMap<>();
+        for (UserEquippedItemDto equippedItem : userItemRepository.findEquippedItemsByUserIds(missingUserIds)) {
+            equippedItemNames.computeIfAbsent(equippedItem.userId(), userId -> new EnumMap<>(ItemType.class))
+                    .put(equippedItem.itemType(), equippedItem.itemName());
         }
 
-        return equippedItemMap.entrySet().stream()
-                .map(entry -> new ItemEquippedUnitDto(entry.getKey(), entry.getValue() != null ? entry.getValue().getItem().getItemName() : null))
-                .collect(Collectors.toList());
+        // 모든 ItemType에 대해 기본값을 설정 (없으면 null)
+        Map<Long, List<ItemEquippedUnitDto>> loaded = new HashMap<>();
+        for (Long userId : missingUserIds) {
+            Map<ItemType, String> itemNames = equippedItemNames.getOrDefault(userId, Map.of());
+            List<ItemEquippedUnitDto> equippedList = new ArrayList<>(ItemType.values().length);
+            for (ItemType itemType : ItemType.values()) {
+                equippedList.add(new ItemEquippedUnitDto(itemType, itemNames.get(itemType)));
+            }
+            loaded.put(userId, List.copyOf(equippedList));
+        }
+        equippedItemCache.putAll(loaded);
+        result.putAll(loaded);
+        return result;
     }
 
     public void deletUserItemsByUser(User user) {
         userItemRepository.deleteAllByUser(user);
+        equippedItemCache.invalidate(user.getUserId());
     }
 }
 
@@ -26,4 +26,18 @@ public record OneLineRatingUnitDto(
                 safeNickname
         );
     }
-}
\ No newline at end of file
+
+    // 좋아요 수를 따로 집계한 경우 (좋아요 목록을 불러오지 않음)
+    public OneLineRatingUnitDto(OneLine oneLine, int oneLineLikeCount, Boolean isLiked, String safeNickname) {
+        this(
+                oneLine.getOneLineId(),
+                oneLine.getOneLineContent(),
+                oneLine.getUserBook().getRating(),
+                oneLineLikeCount,
+                isLiked,
+                oneLine.getCreatedTime(),
+                oneLine.getUser().getUserId(),
+                safeNickname
+        );
+    }
+}
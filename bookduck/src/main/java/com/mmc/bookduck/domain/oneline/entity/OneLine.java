@@ -2,6 +2,8 @@ package com.mmc.bookduck.domain.oneline.entity;
 
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.onelineLike.entity.OneLineLike;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.entity.SyncTrackable;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
@@ -20,7 +22,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-public class OneLine extends BaseTimeEntity {
+public class OneLine extends BaseTimeEntity implements SyncTrackable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(updatable = false)
@@ -66,4 +68,19 @@ public class OneLine extends BaseTimeEntity {
         oneLineLikes.remove(oneLineLike);
         oneLineLike.setOneLine(null);
     }
+
+    @Override
+    public Long getSyncUserId() {
+        return user.getUserId();
+    }
+
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.ONELINE;
+    }
+
+    @Override
+    public Long getSyncEntityId() {
+        return oneLineId;
+    }
 }
@@ -5,6 +5,8 @@ import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.oneline.entity.OneLine;
 import com.mmc.bookduck.domain.user.entity.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,24 +18,37 @@ import org.springframework.data.repository.query.Param;
 public interface OneLineRepository extends JpaRepository<OneLine, Long> {
     Optional<OneLine> findByUserBook(UserBook userBook);
 
+    List<OneLine> findAllByUserBookIn(Collection<UserBook> userBooks);
+
     int countAllByUser(User user);
 
+    // 목록에서 작성자, 별점을 쓰므로 함께 조회 (개수 쿼리는 조인 없이)
+    String BOOK_INFO_ONE_LINES = "SELECT o FROM OneLine o JOIN FETCH o.user JOIN FETCH o.userBook ub WHERE ub.bookInfo = :bookInfo ";
+    String COUNT_BOOK_INFO_ONE_LINES = "SELECT COUNT(o) FROM OneLine o WHERE o.userBook.bookInfo = :bookInfo";
+
     // 좋아요 수 내림차순 정렬
-    @Query("SELECT o FROM OneLine o WHERE o.userBook.bookInfo = :bookInfo ORDER BY SIZE(o.oneLineLikes) DESC")
+    @Query(value = BOOK_INFO_ONE_LINES + "ORDER BY SIZE(o.oneLineLikes) DESC", countQuery = COUNT_BOOK_INFO_ONE_LINES)
     Page<OneLine> findByBookInfoOrderByOneLineLikesDesc(@Param("bookInfo") BookInfo bookInfo, Pageable pageable);
 
     // 생성일 내림차순 정렬
-    @Query("SELECT o FROM OneLine o WHERE o.userBook.bookInfo = :bookInfo ORDER BY o.createdTime DESC")
+    @Query(value = BOOK_INFO_ONE_LINES + "ORDER BY o.createdTime DESC", countQuery = COUNT_BOOK_INFO_ONE_LINES)
     Page<OneLine> findByBookInfoOrderByCreatedTimeDesc(@Param("bookInfo") BookInfo bookInfo, Pageable pageable);
 
     // 별점 높은 순 정렬, null은 마지막
-    @Query("SELECT o FROM OneLine o WHERE o.userBook.bookInfo = :bookInfo ORDER BY o.userBook.rating DESC NULLS LAST")
+    @Query(value = BOOK_INFO_ONE_LINES + "ORDER BY ub.rating DESC NULLS LAST", countQuery = COUNT_BOOK_INFO_ONE_LINES)
     Page<OneLine> findByBookInfoOrderByRatingDesc(@Param("bookInfo") BookInfo bookInfo, Pageable pageable);
 
     // 별점 낮은 순 정렬, null은 마지막
-    @Query("SELECT o FROM OneLine o WHERE o.userBook.bookInfo = :bookInfo ORDER BY o.userBook.rating ASC NULLS LAST")
+    @Query(value = BOOK_INFO_ONE_LINES + "ORDER BY ub.rating ASC NULLS LAST", countQuery = COUNT_BOOK_INFO_ONE_LINES)
     Page<OneLine> findByBookInfoOrderByRatingAsc(@Param("bookInfo") BookInfo bookInfo, Pageable pageable);
 
+    // 한줄평별 좋아요 수와 사용자의 좋아요 여부 (oneLineId, 좋아요 수, 사용자 좋아요 수)
+    @Query("SELECT l.oneLine.oneLineId, COUNT(l), SUM(CASE WHEN l.user.userId = :userId THEN 1 ELSE 0 END) " +
+            "FROM OneLineLike l " +
+            "WHERE l.oneLine IN :oneLines " +
+            "GROUP BY l.oneLine.oneLineId")
+    List<Object[]> countLikesOfOneLines(@Param("oneLines") Collection<OneLine> oneLines, @Param("userId") Long userId);
+
     @Query("SELECT o FROM OneLine o " +
             "JOIN o.userBook ub " +
             "WHERE (o.oneLineContent LIKE %:keyword% " +
@@ -45,4 +60,12 @@ public interface OneLineRepository extends JpaRepository<OneLine, Long> {
             @Param("keyword") String keyword,
             @Param("user") User user,
             Pageable pageable);
+
+    // 피드 조회용 (작성자, 책 정보 함께 조회)
+    @Query("SELECT o FROM OneLine o " +
+            "JOIN FETCH o.user " +
+            "JOIN FETCH o.userBook ub " +
+            "JOIN FETCH ub.bookInfo " +
+            "WHERE o.oneLineId IN :oneLineIds")
+    List<OneLine> findAllWithUserAndBookInfoByOneLineIdIn(@Param("oneLineIds") Collection<Long> oneLineIds);
 }
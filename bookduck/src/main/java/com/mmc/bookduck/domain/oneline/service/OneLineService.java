@@ -3,6 +3,7 @@ package com.mmc.bookduck.domain.oneline.service;
 import com.mmc.bookduck.domain.badge.service.BadgeUnlockService;
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.book.service.UserBookService;
+import com.mmc.bookduck.domain.feed.service.FeedFanOutService;
 import com.mmc.bookduck.domain.homecard.dto.common.OneLineRatingWithBookInfoUnitDto;
 import com.mmc.bookduck.domain.oneline.dto.request.OneLineCreateRequestDto;
 import com.mmc.bookduck.domain.oneline.dto.request.OneLineUpdateRequestDto;
@@ -11,6 +12,7 @@ import com.mmc.bookduck.domain.oneline.repository.OneLineRepository;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserGrowthService;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.cache.CacheEvictor;
 import com.mmc.bookduck.global.common.PaginatedResponseDto;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
@@ -31,6 +33,8 @@ public class OneLineService {
     private final UserBookService userBookService;
     private final BadgeUnlockService badgeUnlockService;
     private final UserGrowthService userGrowthService;
+    private final FeedFanOutService feedFanOutService;
+    private final CacheEvictor cacheEvictor;
 
     // 생성
     public OneLine createOneLine(OneLineCreateRequestDto requestDto) {
@@ -39,7 +43,9 @@ public class OneLineService {
         userBookService.validateUserBookOwner(userBook);
         OneLine oneLine = requestDto.toEntity(user, userBook);
         checkExpAndBadgeForOneLine(userBook);
-        return oneLineRepository.save(oneLine);
+        oneLineRepository.save(oneLine);
+        feedFanOutService.publish(oneLine);
+        return oneLine;
     }
 
     // 경험치 획득, ONELINE 뱃지 unlock 확인
@@ -58,6 +64,8 @@ public class OneLineService {
     public void deleteOneLine(Long oneLineId) {
         OneLine oneLine = validateOneLineCreator(oneLineId);
         oneLineRepository.delete(oneLine);
+        // 한줄평 수 변경
+        cacheEvictor.evictUserBadges(oneLine.getUser().getUserId());
     }
 
     @Transactional(readOnly = true)
@@ -38,7 +38,7 @@ public class OneLineLikeService {
         oneLine.addOneLineLike(oneLineLike);
         // 타 사용자이고 ACTIVE 상태일 때만 알림 전송
         if (!currentUser.equals(oneLineCreator) && oneLineCreator.getUserStatus().equals(UserStatus.ACTIVE) )
-            alarmByTypeService.createOneLineLikeAlarm(currentUser, oneLineCreator, oneLine.getUserBook().getBookInfo());
+            alarmByTypeService.createOneLineLikeAlarm(currentUser, oneLineCreator, oneLine);
         oneLineLikeRepository.save(oneLineLike);
     }
 
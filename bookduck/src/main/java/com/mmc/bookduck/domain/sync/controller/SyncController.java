@@ -0,0 +1,26 @@
+package com.mmc.bookduck.domain.sync.controller;
+
+import com.mmc.bookduck.domain.sync.dto.response.SyncResponseDto;
+import com.mmc.bookduck.domain.sync.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/sync")
+@Tag(name = "Sync", description = "Sync 관련 API입니다.")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @Operation(summary = "델타 동기화", description = "since 버전 이후 변경된 서재 책, 폴더, 폴더 책, 발췌, 리뷰, 한줄평과 삭제 목록을 조회합니다. " +
+            "resetRequired가 true면 전체 목록을 다시 조회한 뒤 currentVersion부터 동기화합니다. hasMore가 true면 nextVersion으로 이어서 조회합니다.")
+    public ResponseEntity<SyncResponseDto> getChanges(@RequestParam(value = "since", required = false) final Long since,
+                                                      @RequestParam(value = "limit", defaultValue = "500") final int limit) {
+        return ResponseEntity.ok(syncService.getChanges(since, Math.max(1, Math.min(limit, 1000))));
+    }
+}
@@ -0,0 +1,6 @@
+package com.mmc.bookduck.domain.sync.dto.common;
+
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+
+public record SyncDeletedDto(SyncEntityType entityType, Long entityId) {
+}
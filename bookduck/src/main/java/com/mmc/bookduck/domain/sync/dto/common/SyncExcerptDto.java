@@ -0,0 +1,28 @@
+package com.mmc.bookduck.domain.sync.dto.common;
+
+import com.mmc.bookduck.domain.archive.entity.Excerpt;
+import com.mmc.bookduck.domain.common.Visibility;
+
+import java.time.LocalDateTime;
+
+public record SyncExcerptDto(
+        Long excerptId,
+        Long userBookId,
+        String excerptContent,
+        Long pageNumber,
+        Visibility visibility,
+        LocalDateTime createdTime,
+        LocalDateTime modifiedTime
+) {
+    public static SyncExcerptDto from(Excerpt excerpt) {
+        return new SyncExcerptDto(
+                excerpt.getExcerptId(),
+                excerpt.getUserBook().getUserBookId(),
+                excerpt.getExcerptContent(),
+                excerpt.getPageNumber(),
+                excerpt.getVisibility(),
+                excerpt.getCreatedTime(),
+                excerpt.getModifiedTime()
+        );
+    }
+}
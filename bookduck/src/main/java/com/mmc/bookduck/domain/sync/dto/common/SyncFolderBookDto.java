@@ -0,0 +1,15 @@
+package com.mmc.bookduck.domain.sync.dto.common;
+
+import com.mmc.bookduck.domain.folder.entity.FolderBook;
+
+// bookOrder 오름차순으로 정렬하면 폴더 내 순서
+public record SyncFolderBookDto(Long folderBookId, Long folderId, Long userBookId, long bookOrder) {
+    public static SyncFolderBookDto from(FolderBook folderBook) {
+        return new SyncFolderBookDto(
+                folderBook.getFolderBookId(),
+                folderBook.getFolder().getFolderId(),
+                folderBook.getUserBook().getUserBookId(),
+                folderBook.getBookOrder()
+        );
+    }
+}
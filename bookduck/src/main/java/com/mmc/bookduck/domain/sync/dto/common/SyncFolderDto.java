@@ -0,0 +1,9 @@
+package com.mmc.bookduck.domain.sync.dto.common;
+
+import com.mmc.bookduck.domain.folder.entity.Folder;
+
+public record SyncFolderDto(Long folderId, String folderName) {
+    public static SyncFolderDto from(Folder folder) {
+        return new SyncFolderDto(folder.getFolderId(), folder.getFolderName());
+    }
+}
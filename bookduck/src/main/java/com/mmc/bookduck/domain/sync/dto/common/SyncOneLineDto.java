@@ -0,0 +1,23 @@
+package com.mmc.bookduck.domain.sync.dto.common;
+
+import com.mmc.bookduck.domain.oneline.entity.OneLine;
+
+import java.time.LocalDateTime;
+
+public record SyncOneLineDto(
+        Long oneLineId,
+        Long userBookId,
+        String oneLineContent,
+        LocalDateTime createdTime,
+        LocalDateTime modifiedTime
+) {
+    public static SyncOneLineDto from(OneLine oneLine) {
+        return new SyncOneLineDto(
+                oneLine.getOneLineId(),
+                oneLine.getUserBook().getUserBookId(),
+                oneLine.getOneLineContent(),
+                oneLine.getCreatedTime(),
+                oneLine.getModifiedTime()
+        );
+    }
+}
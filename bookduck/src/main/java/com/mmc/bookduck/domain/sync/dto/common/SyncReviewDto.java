@@ -0,0 +1,30 @@
+package com.mmc.bookduck.domain.sync.dto.common;
+
+import com.mmc.bookduck.domain.archive.entity.Review;
+import com.mmc.bookduck.domain.common.Visibility;
+
+import java.time.LocalDateTime;
+
+public record SyncReviewDto(
+        Long reviewId,
+        Long userBookId,
+        String reviewTitle,
+        String reviewContent,
+        String color,
+        Visibility visibility,
+        LocalDateTime createdTime,
+        LocalDateTime modifiedTime
+) {
+    public static SyncReviewDto from(Review review) {
+        return new SyncReviewDto(
+                review.getReviewId(),
+                review.getUserBook().getUserBookId(),
+                review.getReviewTitle(),
+                review.getReviewContent(),
+                review.getColor(),
+                review.getVisibility(),
+                review.getCreatedTime(),
+                review.getModifiedTime()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.mmc.bookduck.domain.sync.dto.response;
+
+import com.mmc.bookduck.domain.book.dto.response.UserBookResponseDto;
+import com.mmc.bookduck.domain.sync.dto.common.*;
+
+import java.util.List;
+
+public record SyncResponseDto(
+        boolean resetRequired, // true면 전체 목록을 다시 조회하고 currentVersion부터 동기화
+        long currentVersion,
+        long nextVersion, // 다음 요청의 since
+        boolean hasMore,
+        List<UserBookResponseDto> userBooks,
+        List<SyncFolderDto> folders,
+        List<SyncFolderBookDto> folderBooks,
+        List<SyncExcerptDto> excerpts,
+        List<SyncReviewDto> reviews,
+        List<SyncOneLineDto> oneLines,
+        List<SyncDeletedDto> deleted
+) {
+    public static SyncResponseDto reset(long currentVersion) {
+        return new SyncResponseDto(true, currentVersion, currentVersion, false,
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,42 @@
+package com.mmc.bookduck.domain.sync.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 엔티티별 마지막 변경만 남기는 변경 로그 (삭제는 툼스톤으로 남김). 쓰기는 ChangeLogWriter에서 JDBC로 처리
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_change_log_entity", columnNames = {"user_id", "entity_type", "entity_id"}),
+        indexes = @Index(name = "idx_change_log_user_version", columnList = "user_id, version")
+)
+public class ChangeLog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(updatable = false)
+    private Long changeLogId;
+
+    @NotNull
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull
+    private SyncEntityType entityType;
+
+    @NotNull
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull
+    private SyncChangeType changeType;
+
+    private long version;
+
+    private LocalDateTime changedTime;
+}
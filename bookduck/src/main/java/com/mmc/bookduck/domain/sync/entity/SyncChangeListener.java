@@ -0,0 +1,32 @@
+package com.mmc.bookduck.domain.sync.entity;
+
+import com.mmc.bookduck.domain.sync.repository.ChangeLogWriter;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 엔티티 저장, 수정, 삭제 시 변경 로그 기록 (Hibernate가 스프링 빈으로 생성)
+@Component
+@RequiredArgsConstructor
+public class SyncChangeListener {
+    private final ChangeLogWriter changeLogWriter;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof SyncTrackable trackable) {
+            changeLogWriter.record(trackable.getSyncUserId(), trackable.getSyncEntityType(),
+                    trackable.getSyncEntityId(), SyncChangeType.UPSERT);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof SyncTrackable trackable) {
+            changeLogWriter.record(trackable.getSyncUserId(), trackable.getSyncEntityType(),
+                    trackable.getSyncEntityId(), SyncChangeType.DELETE);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.mmc.bookduck.domain.sync.entity;
+
+public enum SyncChangeType {
+    UPSERT, DELETE
+}
@@ -0,0 +1,5 @@
+package com.mmc.bookduck.domain.sync.entity;
+
+public enum SyncEntityType {
+    USER_BOOK, FOLDER, FOLDER_BOOK, EXCERPT, REVIEW, ONELINE
+}
@@ -0,0 +1,10 @@
+package com.mmc.bookduck.domain.sync.entity;
+
+// 변경 시 델타 동기화 로그에 기록되는 엔티티
+public interface SyncTrackable {
+    Long getSyncUserId();
+
+    SyncEntityType getSyncEntityType();
+
+    Long getSyncEntityId();
+}
@@ -0,0 +1,23 @@
+package com.mmc.bookduck.domain.sync.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 변경 버전 (쓰기마다 1씩 증가). 쓰기는 ChangeLogWriter에서 JDBC로 처리
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class UserSyncVersion {
+    @Id
+    @Column(updatable = false)
+    private Long userId;
+
+    private long version;
+
+    // 이 버전 이하의 툼스톤은 정리되었으므로, 그보다 오래된 버전으로는 델타 동기화 불가
+    private long purgedVersion;
+}
@@ -0,0 +1,13 @@
+package com.mmc.bookduck.domain.sync.repository;
+
+import com.mmc.bookduck.domain.sync.entity.ChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+    List<ChangeLog> findByUserIdAndVersionGreaterThanOrderByVersionAsc(Long userId, long version, Pageable pageable);
+
+    List<ChangeLog> findByUserIdAndVersion(Long userId, long version);
+}
@@ -0,0 +1,164 @@
+package com.mmc.bookduck.domain.sync.repository;
+
+import com.mmc.bookduck.domain.sync.entity.SyncChangeType;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 변경 로그 쓰기. 엔티티 리스너(flush 도중)에서 호출되므로 EntityManager 대신 같은 커넥션의 JDBC로 처리.
+// 트랜잭션 안의 변경은 모아 두었다가 커밋 직전에 사용자별 버전을 한 번 올리고 한 번의 배치로 기록
+@Repository
+@RequiredArgsConstructor
+public class ChangeLogWriter {
+    private static final Object TX_CHANGES_KEY = new Object();
+    private static final String UPSERT_SQL =
+            "INSERT INTO change_log (user_id, entity_type, entity_id, change_type, version, changed_time) " +
+                    "VALUES (?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE change_type = VALUES(change_type), version = VALUES(version), " +
+                    "changed_time = VALUES(changed_time)";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 엔티티 리스너가 EntityManagerFactory 생성 중에 만들어지므로 지연 조회
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public void record(Long userId, SyncEntityType entityType, Long entityId, SyncChangeType changeType) {
+        if (userId == null || entityId == null) {
+            return;
+        }
+        recordAll(userId, entityType, List.of(entityId), changeType);
+    }
+
+    // 벌크 쿼리처럼 리스너를 거치지 않는 변경 기록
+    public void recordAll(Long userId, SyncEntityType entityType, Collection<Long> entityIds, SyncChangeType changeType) {
+        if (userId == null || entityIds.isEmpty()) {
+            return;
+        }
+        TransactionChanges changes = currentTransactionChanges();
+        if (changes == null) {
+            // 트랜잭션 밖이거나 이미 기록을 마친 뒤의 변경은 바로 기록
+            write(userId, entityType, entityIds, changeType, incrementVersion(userId));
+            return;
+        }
+        for (Long entityId : entityIds) {
+            changes.add(userId, entityType, entityId, changeType);
+        }
+    }
+
+    private void write(Long userId, SyncEntityType entityType, Collection<Long> entityIds, SyncChangeType changeType, long version) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = entityIds.stream()
+                .map(entityId -> new Object[]{userId, entityType.name(), entityId, changeType.name(), version, now})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    private TransactionChanges currentTransactionChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        TransactionChanges changes = (TransactionChanges) TransactionSynchronizationManager.getResource(TX_CHANGES_KEY);
+        if (changes == null) {
+            changes = new TransactionChanges();
+            TransactionSynchronizationManager.bindResource(TX_CHANGES_KEY, changes);
+            TransactionChanges registered = changes;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    flushPendingChanges(registered, readOnly);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TX_CHANGES_KEY);
+                }
+            });
+        }
+        return changes.written ? null : changes;
+    }
+
+    // 커밋 직전: 남은 엔티티 변경을 flush해 리스너 기록을 모두 모은 뒤 사용자별로 버전을 한 번 올리고 배치로 기록.
+    // 올린 행의 락은 커밋까지 유지되므로 커밋 순서와 버전 순서가 같음
+    private void flushPendingChanges(TransactionChanges changes, boolean readOnly) {
+        if (!readOnly) {
+            EntityManagerFactory emf = entityManagerFactory.getIfAvailable();
+            EntityManager entityManager = emf != null ? EntityManagerFactoryUtils.getTransactionalEntityManager(emf) : null;
+            if (entityManager != null) {
+                entityManager.flush();
+            }
+        }
+        changes.written = true;
+        if (changes.pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> versions = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(changes.pending.size());
+        changes.pending.forEach((key, changeType) -> {
+            long version = versions.computeIfAbsent(key.userId(), this::incrementVersion);
+            args.add(new Object[]{key.userId(), key.entityType().name(), key.entityId(), changeType.name(), version, now});
+        });
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    private long incrementVersion(Long userId) {
+        jdbcTemplate.update(
+                "INSERT INTO user_sync_version (user_id, version, purged_version) VALUES (?, 1, 0) " +
+                        "ON DUPLICATE KEY UPDATE version = version + 1",
+                userId);
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT version FROM user_sync_version WHERE user_id = ?", Long.class, userId);
+        return version != null ? version : 1L;
+    }
+
+    // 오래된 툼스톤 정리 (정리된 최대 버전을 purged_version에 남김).
+    // 사용자별 같은 버전 상한으로 올리고 지워서, 그 사이 새로 생긴 툼스톤이 purged_version 갱신 없이 지워지지 않도록 함
+    @Transactional
+    public int purgeTombstonesBefore(LocalDateTime time) {
+        List<Object[]> bounds = jdbcTemplate.query(
+                "SELECT user_id, MAX(version) FROM change_log " +
+                        "WHERE change_type = 'DELETE' AND changed_time < ? GROUP BY user_id",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2)},
+                time);
+        if (bounds.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE user_sync_version SET purged_version = GREATEST(purged_version, ?) WHERE user_id = ?",
+                bounds.stream().map(bound -> new Object[]{bound[1], bound[0]}).toList());
+        int[] deleted = jdbcTemplate.batchUpdate(
+                "DELETE FROM change_log WHERE user_id = ? AND change_type = 'DELETE' AND version <= ?",
+                bounds);
+        return Arrays.stream(deleted).filter(count -> count > 0).sum();
+    }
+
+    // 트랜잭션 동안 모은 변경 (같은 엔티티는 마지막 변경만 남김)
+    private static class TransactionChanges {
+        private final Map<ChangeKey, SyncChangeType> pending = new LinkedHashMap<>();
+        private boolean written;
+
+        private void add(Long userId, SyncEntityType entityType, Long entityId, SyncChangeType changeType) {
+            ChangeKey key = new ChangeKey(userId, entityType, entityId);
+            pending.remove(key);
+            pending.put(key, changeType);
+        }
+    }
+
+    private record ChangeKey(Long userId, SyncEntityType entityType, Long entityId) {
+    }
+}
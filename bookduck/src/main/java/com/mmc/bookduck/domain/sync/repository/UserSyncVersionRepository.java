@@ -0,0 +1,7 @@
+package com.mmc.bookduck.domain.sync.repository;
+
+import com.mmc.bookduck.domain.sync.entity.UserSyncVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserSyncVersionRepository extends JpaRepository<UserSyncVersion, Long> {
+}
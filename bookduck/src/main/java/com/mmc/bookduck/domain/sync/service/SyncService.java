@@ -0,0 +1,139 @@
+package com.mmc.bookduck.domain.sync.service;
+
+import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
+import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
+import com.mmc.bookduck.domain.book.dto.response.UserBookResponseDto;
+import com.mmc.bookduck.domain.book.repository.UserBookRepository;
+import com.mmc.bookduck.domain.folder.repository.FolderBookRepository;
+import com.mmc.bookduck.domain.folder.repository.FolderRepository;
+import com.mmc.bookduck.domain.oneline.repository.OneLineRepository;
+import com.mmc.bookduck.domain.sync.dto.common.*;
+import com.mmc.bookduck.domain.sync.dto.response.SyncResponseDto;
+import com.mmc.bookduck.domain.sync.entity.ChangeLog;
+import com.mmc.bookduck.domain.sync.entity.SyncChangeType;
+import com.mmc.bookduck.domain.sync.entity.SyncEntityType;
+import com.mmc.bookduck.domain.sync.entity.UserSyncVersion;
+import com.mmc.bookduck.domain.sync.repository.ChangeLogRepository;
+import com.mmc.bookduck.domain.sync.repository.UserSyncVersionRepository;
+import com.mmc.bookduck.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+    private final UserService userService;
+    private final UserSyncVersionRepository userSyncVersionRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final UserBookRepository userBookRepository;
+    private final FolderRepository folderRepository;
+    private final FolderBookRepository folderBookRepository;
+    private final ExcerptRepository excerptRepository;
+    private final ReviewRepository reviewRepository;
+    private final OneLineRepository oneLineRepository;
+
+    // since 이후 변경된 항목만 조회
+    public SyncResponseDto getChanges(Long since, int limit) {
+        Long userId = userService.getCurrentUserId();
+        UserSyncVersion syncVersion = userSyncVersionRepository.findById(userId).orElse(null);
+        long currentVersion = syncVersion != null ? syncVersion.getVersion() : 0L;
+        long purgedVersion = syncVersion != null ? syncVersion.getPurgedVersion() : 0L;
+
+        // 이미 최신 버전이면 변경 없음 (쓰기가 한 번도 없어 버전이 0인 사용자도 재조회하지 않도록 먼저 확인)
+        if (since != null && since == currentVersion && since >= purgedVersion) {
+            return buildResponse(List.of(), currentVersion, currentVersion, false);
+        }
+        // 첫 동기화거나 툼스톤이 이미 정리된 버전이면 전체 재조회 필요
+        if (since == null || since <= 0 || since < purgedVersion || since > currentVersion) {
+            return SyncResponseDto.reset(currentVersion);
+        }
+
+        List<ChangeLog> changes = changeLogRepository.findByUserIdAndVersionGreaterThanOrderByVersionAsc(
+                userId, since, PageRequest.of(0, limit + 1));
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = trimToCompleteVersions(userId, changes, limit);
+        }
+        long nextVersion = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        if (!hasMore) {
+            nextVersion = Math.max(nextVersion, currentVersion);
+        }
+        return buildResponse(changes, currentVersion, nextVersion, hasMore);
+    }
+
+    // 같은 버전(한 트랜잭션)의 변경이 페이지 경계에서 나뉘지 않도록 자름
+    private List<ChangeLog> trimToCompleteVersions(Long userId, List<ChangeLog> changes, int limit) {
+        long boundaryVersion = changes.get(limit).getVersion();
+        List<ChangeLog> trimmed = changes.stream()
+                .filter(change -> change.getVersion() < boundaryVersion)
+                .toList();
+        if (trimmed.isEmpty()) {
+            // 한 버전의 변경이 limit보다 많으면 그 버전 전체를 반환
+            return changeLogRepository.findByUserIdAndVersion(userId, boundaryVersion);
+        }
+        return trimmed;
+    }
+
+    private SyncResponseDto buildResponse(List<ChangeLog> changes, long currentVersion, long nextVersion, boolean hasMore) {
+        Map<SyncEntityType, List<Long>> upsertIds = new EnumMap<>(SyncEntityType.class);
+        List<SyncDeletedDto> deleted = new ArrayList<>();
+        for (ChangeLog change : changes) {
+            if (change.getChangeType() == SyncChangeType.DELETE) {
+                deleted.add(new SyncDeletedDto(change.getEntityType(), change.getEntityId()));
+            } else {
+                upsertIds.computeIfAbsent(change.getEntityType(), type -> new ArrayList<>()).add(change.getEntityId());
+            }
+        }
+
+        List<UserBookResponseDto> userBooks = load(SyncEntityType.USER_BOOK, upsertIds, deleted,
+                ids -> userBookRepository.findAllWithBookInfoByUserBookIdIn(ids).stream()
+                        .map(userBook -> new UserBookResponseDto(userBook, userBook.getBookInfo().getCreatedUserId() != null))
+                        .toList(),
+                UserBookResponseDto::userBookId);
+        List<SyncFolderDto> folders = load(SyncEntityType.FOLDER, upsertIds, deleted,
+                ids -> folderRepository.findAllById(ids).stream().map(SyncFolderDto::from).toList(),
+                SyncFolderDto::folderId);
+        List<SyncFolderBookDto> folderBooks = load(SyncEntityType.FOLDER_BOOK, upsertIds, deleted,
+                ids -> folderBookRepository.findAllById(ids).stream().map(SyncFolderBookDto::from).toList(),
+                SyncFolderBookDto::folderBookId);
+        List<SyncExcerptDto> excerpts = load(SyncEntityType.EXCERPT, upsertIds, deleted,
+                ids -> excerptRepository.findAllById(ids).stream().map(SyncExcerptDto::from).toList(),
+                SyncExcerptDto::excerptId);
+        List<SyncReviewDto> reviews = load(SyncEntityType.REVIEW, upsertIds, deleted,
+                ids -> reviewRepository.findAllById(ids).stream().map(SyncReviewDto::from).toList(),
+                SyncReviewDto::reviewId);
+        List<SyncOneLineDto> oneLines = load(SyncEntityType.ONELINE, upsertIds, deleted,
+                ids -> oneLineRepository.findAllById(ids).stream().map(SyncOneLineDto::from).toList(),
+                SyncOneLineDto::oneLineId);
+
+        return new SyncResponseDto(false, currentVersion, nextVersion, hasMore,
+                userBooks, folders, folderBooks, excerpts, reviews, oneLines, deleted);
+    }
+
+    // 타입별로 한 번에 조회. 로그에는 있지만 DB 연쇄 삭제 등으로 사라진 행은 툼스톤으로 내려줌
+    private <T> List<T> load(SyncEntityType entityType, Map<SyncEntityType, List<Long>> upsertIds,
+                             List<SyncDeletedDto> deleted, Function<List<Long>, List<T>> loader,
+                             Function<T, Long> idGetter) {
+        List<Long> ids = upsertIds.get(entityType);
+        if (ids == null) {
+            return List.of();
+        }
+        List<T> loaded = loader.apply(ids);
+        Set<Long> foundIds = new HashSet<>();
+        for (T dto : loaded) {
+            foundIds.add(idGetter.apply(dto));
+        }
+        for (Long id : ids) {
+            if (!foundIds.contains(id)) {
+                deleted.add(new SyncDeletedDto(entityType, id));
+            }
+        }
+        return loaded;
+    }
+}
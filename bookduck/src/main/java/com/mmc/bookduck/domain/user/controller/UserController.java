@@ -7,6 +7,8 @@ import com.mmc.bookduck.domain.item.service.UserItemService;
 import com.mmc.bookduck.domain.user.dto.response.UserKeywordResponseDto;
 import com.mmc.bookduck.domain.user.service.*;
 import com.mmc.bookduck.domain.homecard.service.UserReadingSpaceService;
+import com.mmc.bookduck.global.ratelimit.RateLimitType;
+import com.mmc.bookduck.global.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,7 @@ public class UserController {
     private final ArchiveService archiveService;
 
     @Operation(summary = "유저 검색", description = "유저를 검색합니다.")
+    @RateLimited(type = RateLimitType.USER_SEARCH, capacity = 60, globalCapacity = 3000)
     @GetMapping("/search")
     public ResponseEntity<?> searchUsers(@RequestParam("keyword") final String keyword,
                                          @PageableDefault(size = 20) final Pageable pageable) {
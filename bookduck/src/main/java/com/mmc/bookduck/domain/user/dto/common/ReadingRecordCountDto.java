@@ -0,0 +1,8 @@
+package com.mmc.bookduck.domain.user.dto.common;
+
+public record ReadingRecordCountDto(
+        long excerptCount,
+        long reviewCount,
+        long finishedBookCount
+) {
+}
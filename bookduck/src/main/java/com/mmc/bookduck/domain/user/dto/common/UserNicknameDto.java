@@ -0,0 +1,18 @@
+package com.mmc.bookduck.domain.user.dto.common;
+
+import com.mmc.bookduck.domain.user.entity.User;
+
+// 닉네임 검색 인덱스용 User 요약
+public record UserNicknameDto(
+        Long userId,
+        String nickname,
+        boolean isOfficial
+) {
+    public static UserNicknameDto from(User user) {
+        return new UserNicknameDto(
+                user.getUserId(),
+                user.getNickname(),
+                user.isOfficial()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.mmc.bookduck.domain.user.dto.common;
+
+// 조회하는 사용자와 무관한 프로필 정보 (캐시 대상)
+public record UserProfileSummaryDto(
+        String nickname,
+        long bookRecordCount,
+        boolean isOfficial
+) {
+}
@@ -0,0 +1,24 @@
+package com.mmc.bookduck.domain.user.dto.common;
+
+import com.mmc.bookduck.domain.user.entity.Role;
+import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.domain.user.entity.UserStatus;
+
+// 캐싱용 User 스냅샷 (엔티티가 아니므로 변경해도 DB에 반영되지 않음)
+public record UserSnapshot(
+        Long userId,
+        String email,
+        String nickname,
+        UserStatus userStatus,
+        Role role
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getUserId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getUserStatus(),
+                user.getRole()
+        );
+    }
+}
@@ -37,8 +37,8 @@ public class User extends BaseTimeEntity {
     @Setter
     private String fcmToken;
 
-    @NotNull
-    private Boolean isAnnouncementChecked;
+    // 마지막으로 확인한 공지 번호 (announcementId). 컬럼 추가 전에 가입한 사용자는 null로 추가되고 시작 시 최신 공지 번호로 채워짐
+    private Long lastSeenAnnouncementId;
     
     @ColumnDefault("false")
     private boolean isOfficial;
@@ -51,7 +51,7 @@ public class User extends BaseTimeEntity {
         this.nickname = nickname;
         this.role = role;
         this.userStatus = UserStatus.ACTIVE;
-        this.isAnnouncementChecked = true;
+        this.lastSeenAnnouncementId = 0L;
         this.isOfficial = isOfficial;
     }
 
@@ -60,8 +60,8 @@ public class User extends BaseTimeEntity {
         this.nickname = nickname;
     }
 
-    public void setIsAnnouncementChecked(boolean isAnnouncementChecked) {
-        this.isAnnouncementChecked = isAnnouncementChecked;
+    public void updateLastSeenAnnouncementId(long lastSeenAnnouncementId) {
+        this.lastSeenAnnouncementId = lastSeenAnnouncementId;
     }
 
     public void updateStatus(UserStatus userStatus) {
@@ -74,6 +74,5 @@ public class User extends BaseTimeEntity {
         this.userStatus = UserStatus.DELETED;
         this.fcmToken = null;
         this.isOfficial = false;
-        this.isAnnouncementChecked = true;
     }
 }
@@ -0,0 +1,162 @@
+package com.mmc.bookduck.domain.user.repository;
+
+import com.mmc.bookduck.domain.user.dto.common.UserNicknameDto;
+import com.mmc.bookduck.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
+
+// 활성 유저 닉네임의 인메모리 정렬 인덱스 (닉네임 접두사 검색용)
+// 읽기는 불변 스냅샷을 이진 탐색하고, 쓰기는 스냅샷을 복사해서 교체
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserNicknameIndex {
+    // 접두사 뒤에 올 수 있는 가장 큰 문자 (접두사 범위의 상한 계산용)
+    private static final char MAX_CHAR = '\uffff';
+    private static final Comparator<UserNicknameDto> ORDER = Comparator
+            .comparing((UserNicknameDto user) -> toKey(user.nickname()))
+            .thenComparing(UserNicknameDto::nickname)
+            .thenComparing(UserNicknameDto::userId);
+
+    private final UserRepository userRepository;
+
+    private volatile Snapshot snapshot;
+    // 쓰기 시 기존 항목 위치를 찾기 위한 userId -> 항목 (쓰기 잠금 안에서만 접근)
+    private final Map<Long, UserNicknameDto> usersById = new HashMap<>();
+
+    // 닉네임이 keyword로 시작하는 유저를 닉네임 순으로 페이징
+    public Page<UserNicknameDto> search(String keyword, Pageable pageable) {
+        Snapshot current = getSnapshot();
+        String prefix = toKey(keyword == null ? "" : keyword);
+        int from = lowerBound(current.keys, prefix);
+        int to = lowerBound(current.keys, prefix + MAX_CHAR);
+        int total = to - from;
+
+        long offset = pageable.getOffset();
+        if (offset >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        int start = from + (int) offset;
+        int end = Math.min(to, start + pageable.getPageSize());
+        return new PageImpl<>(List.of(Arrays.copyOfRange(current.users, start, end)), pageable, total);
+    }
+
+    // 가입, 닉네임 변경 시 반영 (커밋 후)
+    public void put(User user) {
+        UserNicknameDto userNickname = UserNicknameDto.from(user);
+        afterCommit(() -> apply(userNickname.userId(), userNickname));
+    }
+
+    // 탈퇴 시 제거 (커밋 후)
+    public void remove(Long userId) {
+        afterCommit(() -> apply(userId, null));
+    }
+
+    // DB 기준으로 전체 재구성 (다른 서버에서 반영된 변경 동기화용)
+    public synchronized void rebuild() {
+        List<UserNicknameDto> users = userRepository.findAllActiveUserNicknames();
+        UserNicknameDto[] sorted = users.toArray(new UserNicknameDto[0]);
+        Arrays.sort(sorted, ORDER);
+
+        usersById.clear();
+        for (UserNicknameDto user : sorted) {
+            usersById.put(user.userId(), user);
+        }
+        snapshot = Snapshot.of(sorted);
+        log.info("닉네임 인덱스 재구성 완료: {}명", sorted.length);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void apply(Long userId, UserNicknameDto newUser) {
+        if (snapshot == null) {
+            // 아직 로딩 전이면 첫 검색 시 DB에서 최신 상태로 로딩됨
+            return;
+        }
+        String[] keys = snapshot.keys;
+        UserNicknameDto[] users = snapshot.users;
+        UserNicknameDto oldUser = usersById.remove(userId);
+        if (oldUser != null) {
+            int index = Arrays.binarySearch(users, oldUser, ORDER);
+            if (index >= 0) {
+                keys = remove(keys, index);
+                users = remove(users, index);
+            }
+        }
+        if (newUser != null) {
+            int index = Arrays.binarySearch(users, newUser, ORDER);
+            int insertionPoint = index >= 0 ? index : -(index + 1);
+            keys = insert(keys, insertionPoint, toKey(newUser.nickname()));
+            users = insert(users, insertionPoint, newUser);
+            usersById.put(userId, newUser);
+        }
+        snapshot = new Snapshot(keys, users);
+    }
+
+    private static <T> T[] remove(T[] array, int index) {
+        T[] result = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static <T> T[] insert(T[] array, int index, T value) {
+        T[] result = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        result[index] = value;
+        return result;
+    }
+
+    // keys에서 key 이상인 첫 위치
+    private static int lowerBound(String[] keys, String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // DB 정렬(대소문자 구분 없음)과 맞추기 위해 소문자로 비교
+    private static String toKey(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(String[] keys, UserNicknameDto[] users) {
+        private static Snapshot of(UserNicknameDto[] users) {
+            String[] keys = new String[users.length];
+            for (int i = 0; i < users.length; i++) {
+                keys[i] = toKey(users[i].nickname());
+            }
+            return new Snapshot(keys, users);
+        }
+    }
+}
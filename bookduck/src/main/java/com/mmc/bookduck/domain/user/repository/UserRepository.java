@@ -1,19 +1,43 @@
 package com.mmc.bookduck.domain.user.repository;
 
+import com.mmc.bookduck.domain.book.entity.ReadStatus;
+import com.mmc.bookduck.domain.user.dto.common.ReadingRecordCountDto;
+import com.mmc.bookduck.domain.user.dto.common.UserNicknameDto;
 import com.mmc.bookduck.domain.user.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByNickname(String nickname);
 
-    // 유저를 닉네임으로 검색(시작하는)
-    @Query("SELECT u FROM User u WHERE (u.nickname LIKE :keyword% ESCAPE '\\') AND u.userStatus = 'ACTIVE'")
-    Page<User> searchAllByNicknameStartingWith(@Param("keyword") String keyword, Pageable pageable);
+    // 닉네임 검색 인덱스 구성용 활성 유저 목록
+    @Query("SELECT new com.mmc.bookduck.domain.user.dto.common.UserNicknameDto(u.userId, u.nickname, u.isOfficial) " +
+            "FROM User u WHERE u.userStatus = 'ACTIVE'")
+    List<UserNicknameDto> findAllActiveUserNicknames();
+
+    // 독서 통계용 올해 상반기/하반기 발췌 수, 감상평 수와 완독한 책 수를 한 번에 조회
+    @Query("SELECT new com.mmc.bookduck.domain.user.dto.common.ReadingRecordCountDto(" +
+            "(SELECT COUNT(e) FROM Excerpt e WHERE e.user = u AND YEAR(e.createdTime) = :year " +
+            "AND ((:isFirstHalf = true AND MONTH(e.createdTime) BETWEEN 1 AND 6) " +
+            "OR (:isFirstHalf = false AND MONTH(e.createdTime) BETWEEN 7 AND 12))), " +
+            "(SELECT COUNT(r) FROM Review r WHERE r.user = u AND YEAR(r.createdTime) = :year " +
+            "AND ((:isFirstHalf = true AND MONTH(r.createdTime) BETWEEN 1 AND 6) " +
+            "OR (:isFirstHalf = false AND MONTH(r.createdTime) BETWEEN 7 AND 12))), " +
+            "(SELECT COUNT(ub) FROM UserBook ub WHERE ub.user = u AND ub.readStatus = :readStatus)) " +
+            "FROM User u WHERE u = :user")
+    ReadingRecordCountDto findReadingRecordCounts(@Param("user") User user,
+                                                  @Param("year") int year,
+                                                  @Param("isFirstHalf") boolean isFirstHalf,
+                                                  @Param("readStatus") ReadStatus readStatus);
+
+    // 마지막으로 확인한 공지 번호가 없는 기존 사용자 채우기
+    @Modifying
+    @Query("UPDATE User u SET u.lastSeenAnnouncementId = :announcementId WHERE u.lastSeenAnnouncementId IS NULL")
+    int initializeLastSeenAnnouncementId(@Param("announcementId") long announcementId);
 }
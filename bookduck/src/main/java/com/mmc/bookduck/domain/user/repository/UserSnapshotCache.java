@@ -0,0 +1,48 @@
+package com.mmc.bookduck.domain.user.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mmc.bookduck.domain.user.dto.common.UserSnapshot;
+import com.mmc.bookduck.domain.user.entity.User;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+// userId, email로 조회하는 짧은 TTL의 User 스냅샷 캐시
+@Repository
+public class UserSnapshotCache {
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private final Cache<Long, UserSnapshot> snapshotsById = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+    private final Cache<String, Long> userIdsByEmail = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public UserSnapshot getById(Long userId) {
+        return snapshotsById.getIfPresent(userId);
+    }
+
+    public Long getUserIdByEmail(String email) {
+        return userIdsByEmail.getIfPresent(email);
+    }
+
+    public void save(User user) {
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        snapshotsById.put(snapshot.userId(), snapshot);
+        userIdsByEmail.put(snapshot.email(), snapshot.userId());
+    }
+
+    public void evict(Long userId, String email) {
+        UserSnapshot snapshot = snapshotsById.getIfPresent(userId);
+        if (snapshot != null) {
+            userIdsByEmail.invalidate(snapshot.email());
+        }
+        snapshotsById.invalidate(userId);
+        userIdsByEmail.invalidate(email);
+    }
+}
@@ -0,0 +1,16 @@
+package com.mmc.bookduck.domain.user.service;
+
+import com.mmc.bookduck.domain.user.entity.User;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+// 요청 단위로 현재 로그인한 User를 한 번만 조회하여 보관
+@Getter
+@Setter
+@Component
+@RequestScope
+public class CurrentUserHolder {
+    private User user;
+}
@@ -1,22 +1,24 @@
 package com.mmc.bookduck.domain.user.service;
 
 import com.mmc.bookduck.domain.alarm.service.AlarmByTypeService;
-import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
-import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
 import com.mmc.bookduck.domain.badge.service.BadgeUnlockService;
 import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.friend.entity.Friend;
 import com.mmc.bookduck.domain.friend.service.FriendService;
 import com.mmc.bookduck.domain.user.dto.UserRelationshipStatusDto;
+import com.mmc.bookduck.domain.user.dto.common.UserProfileSummaryDto;
 import com.mmc.bookduck.domain.user.dto.response.UserGrowthInfoResponseDto;
 import com.mmc.bookduck.domain.user.dto.response.UserInfoResponseDto;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.entity.UserGrowth;
 import com.mmc.bookduck.domain.user.entity.UserRelationshipStatus;
 import com.mmc.bookduck.domain.user.repository.UserGrowthRepository;
+import com.mmc.bookduck.global.cache.CacheEvictor;
+import com.mmc.bookduck.global.cache.CacheNames;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,12 +30,12 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserGrowthService {
     private final UserGrowthRepository userGrowthRepository;
-    private final ExcerptRepository excerptRepository;
-    private final ReviewRepository reviewRepository;
     private final UserService userService;
+    private final UserProfileSummaryService userProfileSummaryService;
     private final UserRelationshipService userRelationshipService;
     private final AlarmByTypeService alarmByTypeService;
     private final BadgeUnlockService badgeUnlockService;
+    private final CacheEvictor cacheEvictor;
 
     @Transactional(readOnly = true)
     public UserGrowth getUserGrowthByUser(User user) {
@@ -43,22 +45,26 @@ public class UserGrowthService {
 
     @Transactional(readOnly = true)
     public UserInfoResponseDto getUserInfo(Long userId) {
+        // 닉네임, 기록 수는 캐시에서 조회
+        UserProfileSummaryDto summary = userProfileSummaryService.getUserProfileSummary(userId);
         User targetUser = userService.getActiveUserByUserId(userId);
-        long reviewCount = reviewRepository.countByUser(targetUser);
-        long excerptCount = excerptRepository.countByUser(targetUser);
-        long bookRecordCount = (reviewCount + excerptCount);
-        boolean isOfficial = targetUser.isOfficial();
         User currentUser = userService.getCurrentUserOrNull();
 
         // 유저와의 관계 상태
         UserRelationshipStatusDto userRelationshipStatusDto = userRelationshipService.getUserRelationshipStatus(currentUser, targetUser);
-        return new UserInfoResponseDto(targetUser.getNickname(), bookRecordCount, isOfficial, userRelationshipStatusDto);
+        return new UserInfoResponseDto(summary.nickname(), summary.bookRecordCount(), summary.isOfficial(), userRelationshipStatusDto);
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_LEVEL, key = "#userId")
     public UserGrowthInfoResponseDto getUserLevelInfo(Long userId) {
         User targetUser = userService.getActiveUserByUserId(userId);
         UserGrowth userGrowth = getUserGrowthByUser(targetUser);
+        return calculateLevelInfo(userGrowth);
+    }
+
+    // 누적 경험치로 레벨과 현재 레벨 진행도 계산
+    static UserGrowthInfoResponseDto calculateLevelInfo(UserGrowth userGrowth) {
         long cumulativeExp = userGrowth.getCumulativeExp(); // 누적 경험치
 
         int level = 1;
@@ -108,5 +114,7 @@ public class UserGrowthService {
             badgeUnlockService.checkAndUnlockBadges(user);
         }
         userGrowthRepository.save(userGrowth);
+        cacheEvictor.evictUserLevel(user.getUserId());
+        cacheEvictor.evictUserBadges(user.getUserId());
     }
 }
\ No newline at end of file
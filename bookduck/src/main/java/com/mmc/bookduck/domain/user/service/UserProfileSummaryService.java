@@ -0,0 +1,29 @@
+package com.mmc.bookduck.domain.user.service;
+
+import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
+import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
+import com.mmc.bookduck.domain.user.dto.common.UserProfileSummaryDto;
+import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.global.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserProfileSummaryService {
+    private final UserService userService;
+    private final ExcerptRepository excerptRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 닉네임, 기록 수 (기록 생성/삭제, 닉네임 변경 시 제거)
+    @Cacheable(cacheNames = CacheNames.USER_PROFILE, key = "#userId")
+    public UserProfileSummaryDto getUserProfileSummary(Long userId) {
+        User targetUser = userService.getActiveUserByUserId(userId);
+        long reviewCount = reviewRepository.countByUser(targetUser);
+        long excerptCount = excerptRepository.countByUser(targetUser);
+        return new UserProfileSummaryDto(targetUser.getNickname(), reviewCount + excerptCount, targetUser.isOfficial());
+    }
+}
@@ -10,15 +10,21 @@ import com.mmc.bookduck.domain.book.entity.UserBook;
 import com.mmc.bookduck.domain.book.repository.UserBookRepository;
 import com.mmc.bookduck.domain.user.dto.common.MonthlyBookCountUnitDto;
 import com.mmc.bookduck.domain.user.dto.common.MostReadGenreUnitDto;
+import com.mmc.bookduck.domain.user.dto.common.ReadingRecordCountDto;
 import com.mmc.bookduck.domain.user.dto.response.UserKeywordResponseDto;
 import com.mmc.bookduck.domain.user.dto.response.UserStatisticsResponseDto;
 import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.domain.user.repository.UserRepository;
+import com.mmc.bookduck.global.concurrent.FanOutExecutor;
+import com.mmc.bookduck.global.concurrent.FanOutScope;
+import com.mmc.bookduck.global.concurrent.FanOutScope.Subtask;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import com.mmc.bookduck.global.komoran.KomoranService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -31,9 +37,14 @@ public class UserReadingReportService {
     private final UserBookRepository userBookRepository;
     private final ExcerptRepository excerptRepository;
     private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
     private final UserService userService;
     private final KomoranService komoranService;
+    private final FanOutExecutor fanOutExecutor;
 
+    // 서로 독립적인 통계 조회를 동시에 실행 (응답 시간이 가장 느린 조회 하나의 시간이 되도록)
+    // 하위 작업이 각자 커넥션을 쓰므로 기다리는 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserStatisticsResponseDto getUserStatistics(Long userId) {
         User user = userService.getActiveUserByUserId(userId);
 
@@ -42,61 +53,92 @@ public class UserReadingReportService {
         int currentMonth = java.time.LocalDate.now().getMonthValue();
         boolean isFirstHalfOfYear = (currentMonth <= 6);
 
-        // 1. 가장 많이 읽은 장르, Top3 장르
-        List<Object[]> topGenres = userBookRepository.findTopGenresByUser(user, Pageable.ofSize(3));
-        List<MostReadGenreUnitDto> mostReadGenres = topGenres.stream()
+        try (FanOutScope scope = fanOutExecutor.openScope()) {
+            // 1. 가장 많이 읽은 장르, Top3 장르
+            Subtask<List<MostReadGenreUnitDto>> mostReadGenresTask = scope.fork(() -> getMostReadGenres(user, 3));
+            // 2. 발췌 수, 감상평 수, 완독한 책 수 (쿼리 하나로)
+            Subtask<ReadingRecordCountDto> recordCountsTask = scope.fork(() ->
+                    userRepository.findReadingRecordCounts(user, currentYear, isFirstHalfOfYear, ReadStatus.FINISHED));
+            // 3. 올해 현재 분기(상반기/하반기) 월별 독서 수
+            Subtask<List<MonthlyBookCountUnitDto>> monthlyBookCountsTask = scope.fork(() ->
+                    getMonthlyBookCounts(user, currentYear, isFirstHalfOfYear));
+            // 4. 가장 많이 읽은 작가와 그 작가의 책표지들 (표지는 지연 로딩하므로 트랜잭션 안에서)
+            Subtask<MostReadAuthor> mostReadAuthorTask = scope.forkReadOnly(() -> getMostReadAuthorWithImgPaths(user));
+            scope.join();
+
+            List<MostReadGenreUnitDto> mostReadGenres = mostReadGenresTask.get();
+            List<MonthlyBookCountUnitDto> monthlyBookCounts = monthlyBookCountsTask.get();
+            MostReadAuthor mostReadAuthor = mostReadAuthorTask.get();
+            ReadingRecordCountDto recordCounts = recordCountsTask.get();
+            long excerptCount = recordCounts.excerptCount();
+            long reviewCount = recordCounts.reviewCount();
+            String duckTitle = mostReadGenres.isEmpty() ? null : mostReadGenres.getFirst().genreName().name();
+
+            boolean hasTopGenres = !mostReadGenres.isEmpty();
+            boolean hasMonthlyBookCounts = !monthlyBookCounts.isEmpty();
+            boolean hasMostReadAuthor = mostReadAuthor.author() != null;
+
+            return new UserStatisticsResponseDto(
+                    hasTopGenres,
+                    hasMonthlyBookCounts,
+                    hasMostReadAuthor,
+                    user.getNickname(),
+                    duckTitle,
+                    excerptCount + reviewCount,
+                    excerptCount,
+                    reviewCount,
+                    recordCounts.finishedBookCount(),
+                    isFirstHalfOfYear,
+                    monthlyBookCounts,
+                    mostReadGenres,
+                    mostReadAuthor.author(),
+                    mostReadAuthor.imgPaths()
+            );
+        }
+    }
+
+    // 가장 많이 읽은 장르 (덕 칭호)
+    public String getDuckTitle(User user) {
+        List<MostReadGenreUnitDto> mostReadGenres = getMostReadGenres(user, 1);
+        return mostReadGenres.isEmpty() ? null : mostReadGenres.getFirst().genreName().name();
+    }
+
+    private List<MostReadGenreUnitDto> getMostReadGenres(User user, int limit) {
+        return userBookRepository.findTopGenresByUser(user, Pageable.ofSize(limit)).stream()
                 .map(result -> new MostReadGenreUnitDto((GenreName) result[0], (Long) result[1]))
                 .toList();
-        String duckTitle = mostReadGenres.isEmpty() ? null : mostReadGenres.getFirst().genreName().name();
-
-        // 2. 발췌 수, 감상평 수, 완독한 책 수
-        long excerptCount = excerptRepository.countByUserAndCreatedInYearAndHalf(user, currentYear, isFirstHalfOfYear);
-        long reviewCount = reviewRepository.countByUserAndCreatedInYearAndHalf(user, currentYear, isFirstHalfOfYear);
-        long finishedBookCount = userBookRepository.countByUserAndReadStatus(user, ReadStatus.FINISHED);
+    }
 
-        // 3. 올해 현재 분기(상반기/하반기) 월별 독서 수
-        // 해당 기간의 UserBook 조회 및 월별 책 권수 카운트
-        List<UserBook> userBooksForCurrentYearHalf = userBookRepository.findAllByUserAndCreatedInYearAndHalf(user, currentYear, isFirstHalfOfYear);
+    // 해당 기간의 UserBook 조회 및 월별 책 권수 카운트
+    private List<MonthlyBookCountUnitDto> getMonthlyBookCounts(User user, int year, boolean isFirstHalfOfYear) {
+        List<UserBook> userBooksForCurrentYearHalf = userBookRepository.findAllByUserAndCreatedInYearAndHalf(user, year, isFirstHalfOfYear);
         Map<Integer, Long> monthlyCounts = new HashMap<>();
         for (UserBook userBook : userBooksForCurrentYearHalf) {
             int month = userBook.getCreatedTime().getMonthValue();
             monthlyCounts.put(month, monthlyCounts.getOrDefault(month, 0L) + 1);
         }
-        List<MonthlyBookCountUnitDto> monthlyBookCounts = monthlyCounts.entrySet().stream()
+        return monthlyCounts.entrySet().stream()
                 .map(entry -> new MonthlyBookCountUnitDto(entry.getKey(), entry.getValue()))
                 .sorted(Comparator.comparingInt(MonthlyBookCountUnitDto::month))
                 .collect(Collectors.toList());
+    }
 
-        // 4. 가장 많이 읽은 작가, 책표지들
-        // 가장 많이 읽은 작가
+    private String getMostReadAuthor(User user) {
         List<Object[]> topAuthorsResults = userBookRepository.findMostReadAuthorByUser(user);
-        String mostReadAuthor = topAuthorsResults.isEmpty() ? null : (String) topAuthorsResults.get(0)[0];
-        // 해당 작가의 책표지들
+        return topAuthorsResults.isEmpty() ? null : (String) topAuthorsResults.get(0)[0];
+    }
+
+    // 가장 많이 읽은 작가와 그 작가의 책표지들
+    private MostReadAuthor getMostReadAuthorWithImgPaths(User user) {
+        String mostReadAuthor = getMostReadAuthor(user);
         List<UserBook> mostReadAuthorBooks = userBookRepository.findTop3ByBookInfo_AuthorOrderByCreatedTimeDesc(mostReadAuthor);
         List<String> imgPaths = mostReadAuthorBooks.stream()
                 .map(userBook -> userBook.getBookInfo().getImgPath())
                 .toList();
+        return new MostReadAuthor(mostReadAuthor, imgPaths);
+    }
 
-        boolean hasTopGenres = !mostReadGenres.isEmpty();
-        boolean hasMonthlyBookCounts = !monthlyBookCounts.isEmpty();
-        boolean hasMostReadAuthor = mostReadAuthor != null;
-
-        return new UserStatisticsResponseDto(
-                hasTopGenres,
-                hasMonthlyBookCounts,
-                hasMostReadAuthor,
-                user.getNickname(),
-                duckTitle,
-                excerptCount + reviewCount,
-                excerptCount,
-                reviewCount,
-                finishedBookCount,
-                isFirstHalfOfYear,
-                monthlyBookCounts,
-                mostReadGenres,
-                mostReadAuthor,
-                imgPaths
-        );
+    private record MostReadAuthor(String author, List<String> imgPaths) {
     }
 
     public List<String> analyseUserKeyword(Long userId) {
@@ -3,51 +3,45 @@ package com.mmc.bookduck.domain.user.service;
 import com.mmc.bookduck.domain.friend.service.FriendService;
 import com.mmc.bookduck.domain.item.dto.common.ItemEquippedUnitDto;
 import com.mmc.bookduck.domain.item.service.UserItemService;
+import com.mmc.bookduck.domain.user.dto.common.UserNicknameDto;
 import com.mmc.bookduck.domain.user.dto.common.UserUnitDto;
-import com.mmc.bookduck.domain.user.entity.User;
-import com.mmc.bookduck.domain.user.repository.UserRepository;
+import com.mmc.bookduck.domain.user.repository.UserNicknameIndex;
 import com.mmc.bookduck.global.common.PaginatedResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-
-import static com.mmc.bookduck.global.common.EscapeSpecialCharactersService.escapeSpecialCharacters;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class UserSearchService {
-    private final UserRepository userRepository;
+    private final UserNicknameIndex userNicknameIndex;
     private final UserItemService userItemService;
     private final FriendService friendService;
 
-    // 유저 검색
+    // 유저 검색 (닉네임 인덱스에서 페이징 후 페이지 단위로 아이템, 친구 여부 일괄 조회)
     public PaginatedResponseDto<UserUnitDto> searchUsers(String keyword, Pageable pageable) {
-        // 키워드의 이스케이프 처리
-        String escapedWord = escapeSpecialCharacters(keyword);
-        Page<User> userPage = getSearchedUserPage(escapedWord, pageable);
+        Page<UserNicknameDto> userPage = userNicknameIndex.search(keyword, pageable);
+        Set<Long> userIds = userPage.getContent().stream()
+                .map(UserNicknameDto::userId)
+                .collect(Collectors.toSet());
 
-        Page<UserUnitDto> userUnitDtoPage = userPage.map(user -> {
-            List<ItemEquippedUnitDto> userItems = userItemService.getUserItemEquippedListOfUser(user);
-            boolean isOfficial = user.isOfficial();
-            Boolean isFriend = friendService.isFriendWithCurrentUserOrNull(user);
-            return UserUnitDto.from(user, userItems, isOfficial, isFriend);
-        });
+        Map<Long, List<ItemEquippedUnitDto>> userItemsMap = userItemService.getUserItemEquippedListOfUsers(userIds);
+        Set<Long> friendIds = friendService.getFriendIdsOfCurrentUserAmong(userIds);
+        Page<UserUnitDto> userUnitDtoPage = userPage.map(user -> new UserUnitDto(
+                user.userId(),
+                user.nickname(),
+                user.isOfficial(),
+                friendIds.contains(user.userId()),
+                userItemsMap.get(user.userId())
+        ));
         return PaginatedResponseDto.from(userUnitDtoPage);
     }
-
-    public Page<User> getSearchedUserPage(String keyword, Pageable pageable) {
-        Pageable sortedByNickname = PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                Sort.by("nickname").ascending()
-        );
-        return userRepository.searchAllByNicknameStartingWith(keyword, sortedByNickname);
-    }
 }
@@ -1,25 +1,35 @@
 package com.mmc.bookduck.domain.user.service;
 
+import com.mmc.bookduck.domain.user.dto.common.UserSnapshot;
 import com.mmc.bookduck.domain.user.entity.LoginType;
 import com.mmc.bookduck.domain.user.entity.Role;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.entity.UserStatus;
 import com.mmc.bookduck.domain.user.repository.UserRepository;
+import com.mmc.bookduck.domain.user.repository.UserSnapshotCache;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
+import com.mmc.bookduck.global.security.AuthenticatedUser;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static com.mmc.bookduck.global.common.TransactionSynchronizationUtil.afterCommit;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final CurrentUserHolder currentUserHolder;
+    private final EntityManager entityManager;
 
     @Value("${official.account.email}")
     private String officialAccountEmail;
@@ -29,17 +39,99 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public User getCurrentUser() throws CustomException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_AUTHENTICATED));
+        User user = resolveCurrentUser();
+        if (user == null) {
+            throw new CustomException(ErrorCode.NOT_AUTHENTICATED);
+        }
         validateActiveUserStatus(user);
         return user;
     }
 
     @Transactional(readOnly = true)
     public User getCurrentUserOrNull() throws CustomException {
+        User user = resolveCurrentUser();
+        // 탈퇴 등 비활성 사용자는 비로그인과 같이 처리
+        if (user == null || !user.getUserStatus().equals(UserStatus.ACTIVE)) {
+            return null;
+        }
+        return user;
+    }
+
+    // 현재 로그인한 userId (엔티티 조회 없이 토큰 클레임 또는 캐시에서 확인)
+    @Transactional(readOnly = true)
+    public Long getCurrentUserId() throws CustomException {
+        Long userId = resolveCurrentUserId();
+        if (userId == null) {
+            throw new CustomException(ErrorCode.NOT_AUTHENTICATED);
+        }
+        UserSnapshot snapshot = userSnapshotCache.getById(userId);
+        if (snapshot == null) {
+            // 탈퇴, 상태 변경 시 캐시가 제거되므로 캐시에 없으면 조회해서 상태 확인 후 다시 캐싱
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            userSnapshotCache.save(user);
+            snapshot = UserSnapshot.from(user);
+        }
+        if (!snapshot.userStatus().equals(UserStatus.ACTIVE)) {
+            throw new CustomException(ErrorCode.USER_STATUS_IS_NOT_ACTIVE);
+        }
+        return userId;
+    }
+
+    // 요청 내에서 이미 조회한 User가 있으면 재사용하고, 없으면 userId로 한 번만 조회
+    private User resolveCurrentUser() {
+        boolean inRequest = RequestContextHolder.getRequestAttributes() != null;
+        if (inRequest) {
+            User heldUser = currentUserHolder.getUser();
+            if (heldUser != null && entityManager.contains(heldUser)) {
+                return heldUser;
+            }
+        }
+        Long userId = resolveCurrentUserId();
+        if (userId == null) {
+            return null;
+        }
+        // 같은 영속성 컨텍스트에 이미 있으면 쿼리 없이 반환됨
+        User user = userRepository.findById(userId).orElse(null);
+        if (user != null) {
+            userSnapshotCache.save(user);
+            if (inRequest) {
+                currentUserHolder.setUser(user);
+            }
+        }
+        return user;
+    }
+
+    private Long resolveCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(authentication.getName()).orElse(null);
+        if (authentication == null) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser
+                && authenticatedUser.getUserId() != null) {
+            return authenticatedUser.getUserId();
+        }
+        // userId 클레임이 없는 토큰은 email로 확인
+        String email = authentication.getName();
+        Long cachedUserId = userSnapshotCache.getUserIdByEmail(email);
+        if (cachedUserId != null) {
+            return cachedUserId;
+        }
+        return userRepository.findByEmail(email)
+                .map(user -> {
+                    userSnapshotCache.save(user);
+                    return user.getUserId();
+                })
+                .orElse(null);
+    }
+
+    // 닉네임, 상태, FCM 토큰 변경 시 캐시 제거
+    // 커밋 전에 다른 요청이 변경 전 상태를 다시 캐싱할 수 있으므로 커밋 후에도 한 번 더 제거 (이메일은 변경 전 값 사용)
+    public void evictUserCache(User user) {
+        Long userId = user.getUserId();
+        String email = user.getEmail();
+        userSnapshotCache.evict(userId, email);
+        afterCommit(() -> userSnapshotCache.evict(userId, email));
     }
 
     @Transactional(readOnly = true)
@@ -13,7 +13,9 @@ import com.mmc.bookduck.domain.user.dto.response.UserNicknameAvailabilityRespons
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.entity.UserSetting;
 import com.mmc.bookduck.domain.user.entity.UserStatus;
+import com.mmc.bookduck.domain.user.repository.UserNicknameIndex;
 import com.mmc.bookduck.domain.user.repository.UserSettingRepository;
+import com.mmc.bookduck.global.cache.CacheEvictor;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import com.mmc.bookduck.global.security.CookieUtil;
@@ -33,6 +35,8 @@ import java.util.function.Consumer;
 public class UserSettingService {
     private final UserService userService;
     private final UserSettingRepository userSettingRepository;
+    private final UserNicknameIndex userNicknameIndex;
+    private final CacheEvictor cacheEvictor;
 
     @Transactional(readOnly = true)
     public UserSettingInfoResponseDto getUserSettingInfo() {
@@ -69,6 +73,9 @@ public class UserSettingService {
             return;
         if (!userService.existsByNickname(nickname)) {
             user.updateNickname(nickname); // 트랜잭션 커밋 시 자동 저장
+            userService.evictUserCache(user);
+            cacheEvictor.evictUserProfile(user.getUserId());
+            userNicknameIndex.put(user);
         } else {
             throw new CustomException(ErrorCode.NICKNAME_ALREADY_EXISTS);
         }
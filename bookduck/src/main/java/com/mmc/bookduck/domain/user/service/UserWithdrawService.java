@@ -9,6 +9,8 @@ import com.mmc.bookduck.domain.friend.service.FriendService;
 import com.mmc.bookduck.domain.homecard.service.HomeCardService;
 import com.mmc.bookduck.domain.item.service.UserItemService;
 import com.mmc.bookduck.domain.user.entity.User;
+import com.mmc.bookduck.domain.user.repository.UserNicknameIndex;
+import com.mmc.bookduck.global.cache.CacheEvictor;
 import com.mmc.bookduck.global.security.CookieUtil;
 import com.mmc.bookduck.global.security.RedisService;
 import jakarta.servlet.http.HttpServletResponse;
@@ -33,6 +35,8 @@ public class UserWithdrawService {
     private final FriendRequestService friendRequestService;
     private final FriendService friendService;
     private final AlarmService alarmService;
+    private final UserNicknameIndex userNicknameIndex;
+    private final CacheEvictor cacheEvictor;
 
     public void withdrawUser(HttpServletResponse response) {
         User user = userService.getCurrentUser();
@@ -56,6 +60,9 @@ public class UserWithdrawService {
         // 글 삭제
 
         // 유저 데이터 삭제
+        userService.evictUserCache(user);
+        cacheEvictor.evictUser(user.getUserId());
+        userNicknameIndex.remove(user.getUserId());
         user.clearUserData();;
         userService.saveUser(user);
 
@@ -5,19 +5,19 @@ import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
+import com.mmc.bookduck.global.outbound.OutboundCallGuard;
 import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class S3Service {
+    private final OutboundCallGuard outboundCallGuard;
 
     @Value("${cloud.aws.s3.bucket-name}")
     private String bucketName;
@@ -30,6 +30,7 @@ public class S3Service {
 
     // 파일 업로드해서 imgUrl 반환
     public String uploadFile(MultipartFile file) {
+        outboundCallGuard.check(OutboundCallGuard.S3);
         try{
             String fileName = file.getOriginalFilename();
             InputStream inputStream = file.getInputStream();
@@ -45,6 +46,7 @@ public class S3Service {
     }
 
     public void deleteFile(String imgUrl) {
+        outboundCallGuard.check(OutboundCallGuard.S3);
         try {
             String bucketUrl = "https://" + bucketName + ".s3." + region + ".amazonaws.com/";
             String fileName = imgUrl.substring(bucketUrl.length());
@@ -0,0 +1,47 @@
+package com.mmc.bookduck.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+// 쓰기 작업에서 관련 캐시 항목 제거 (트랜잭션 안이면 커밋 후 반영)
+@Component
+@RequiredArgsConstructor
+public class CacheEvictor {
+    private final CacheManager cacheManager;
+
+    // 평점 평균 등 책 공통 정보가 바뀔 때
+    public void evictBookInfoBasic(Long bookInfoId) {
+        evict(CacheNames.BOOK_INFO_BASIC, bookInfoId);
+    }
+
+    // 닉네임, 기록 수가 바뀔 때
+    public void evictUserProfile(Long userId) {
+        evict(CacheNames.USER_PROFILE, userId);
+    }
+
+    // 경험치가 바뀔 때
+    public void evictUserLevel(Long userId) {
+        evict(CacheNames.USER_LEVEL, userId);
+    }
+
+    // 뱃지 조건이 되는 활동 수(완독, 기록, 한줄평, 레벨)나 보유 뱃지가 바뀔 때
+    public void evictUserBadges(Long userId) {
+        evict(CacheNames.USER_BADGES, userId);
+    }
+
+    // 탈퇴 등 사용자 단위 캐시 전체
+    public void evictUser(Long userId) {
+        evictUserProfile(userId);
+        evictUserLevel(userId);
+        evictUserBadges(userId);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
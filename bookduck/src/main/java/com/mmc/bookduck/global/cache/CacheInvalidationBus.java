@@ -0,0 +1,62 @@
+package com.mmc.bookduck.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Redis pub/sub으로 노드 간 로컬 캐시 무효화 전파
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+    public static final String CHANNEL = "cache:invalidation";
+    private static final String SEPARATOR = "|";
+    private static final String ALL_KEYS = "*";
+
+    // 자기가 보낸 메시지는 무시
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    // 캐시 이름별 로컬 무효화 (key가 null이면 전체)
+    private final Map<String, Consumer<String>> localInvalidators = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    void register(TwoLevelCache cache) {
+        register(cache.getName(), cache::invalidateLocal);
+    }
+
+    // TwoLevelCache가 아닌 노드별 로컬 캐시도 같은 채널로 무효화
+    public void register(String cacheName, Consumer<String> localInvalidator) {
+        localInvalidators.put(cacheName, localInvalidator);
+    }
+
+    // cacheKey가 null이면 캐시 전체 무효화
+    public void publish(String cacheName, String cacheKey) {
+        String message = nodeId + SEPARATOR + cacheName + SEPARATOR + (cacheKey != null ? cacheKey : ALL_KEYS);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드의 로컬 값은 로컬 TTL이 지나면 사라짐
+            log.warn("캐시 무효화 전파 실패 - cache: {}, key: {}", cacheName, cacheKey, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        Consumer<String> localInvalidator = localInvalidators.get(parts[1]);
+        if (localInvalidator != null) {
+            localInvalidator.accept(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.mmc.bookduck.global.cache;
+
+// 애플리케이션 캐시 이름
+public final class CacheNames {
+    public static final String BOOK_INFO_BASIC = "bookInfoBasic";
+    public static final String USER_PROFILE = "userProfile";
+    public static final String USER_LEVEL = "userLevel";
+    public static final String USER_BADGES = "userBadges";
+
+    private CacheNames() {
+    }
+}
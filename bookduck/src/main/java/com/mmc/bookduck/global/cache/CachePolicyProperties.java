@@ -0,0 +1,35 @@
+package com.mmc.bookduck.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 캐시별 정책 (cache.policies.<캐시 이름>.ttl 등으로 덮어쓸 수 있음)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CachePolicyProperties {
+    private Map<String, Policy> policies = new HashMap<>();
+
+    /**
+     * @param ttl          Redis 보관 기간
+     * @param localTtl     로컬(Caffeine) 보관 기간. 다른 노드의 무효화 메시지를 놓쳤을 때의 최대 지연이기도 함
+     * @param localMaxSize 로컬 최대 항목 수
+     */
+    public record Policy(Duration ttl, Duration localTtl, Long localMaxSize) {
+        public Policy merge(Policy override) {
+            if (override == null) {
+                return this;
+            }
+            return new Policy(
+                    override.ttl() != null ? override.ttl() : ttl,
+                    override.localTtl() != null ? override.localTtl() : localTtl,
+                    override.localMaxSize() != null ? override.localMaxSize() : localMaxSize
+            );
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.mmc.bookduck.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+// 로컬 Caffeine 앞단 + Redis 뒷단 2단계 캐시. Redis 장애 시 로컬 캐시와 원본 조회로 동작
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    private static final String KEY_PREFIX = "cache:";
+
+    private final String name;
+    private final Class<?> valueType;
+    private final Duration ttl;
+    private final Cache<String, Object> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+    private final Counter explicitEvictions;
+    private final Counter receivedInvalidations;
+
+    public TwoLevelCache(String name, Class<?> valueType, CachePolicyProperties.Policy policy,
+                         StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                         CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.valueType = valueType;
+        this.ttl = policy.ttl();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(policy.localTtl())
+                        .maximumSize(policy.localMaxSize())
+                        .recordStats()
+                        .build(),
+                name, Tags.of("level", "local"));
+
+        this.remoteHits = remoteGetCounter(meterRegistry, "hit");
+        this.remoteMisses = remoteGetCounter(meterRegistry, "miss");
+        this.remoteErrors = Counter.builder("cache.remote.errors").tag("cache", name).register(meterRegistry);
+        this.explicitEvictions = Counter.builder("cache.evictions.explicit").tag("cache", name).register(meterRegistry);
+        this.receivedInvalidations = Counter.builder("cache.invalidations.received").tag("cache", name).register(meterRegistry);
+    }
+
+    private Counter remoteGetCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.remote.gets")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = toCacheKey(key);
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        value = readRemote(cacheKey);
+        if (value != null) {
+            localCache.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    // 조회 미스를 채울 때(@Cacheable, get(key, loader))도 호출되므로 다른 노드에 무효화를 전파하지 않음.
+    // 다른 노드의 이전 값은 값을 바꾸는 쓰기에서 evict로 제거
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        String cacheKey = toCacheKey(key);
+        writeRemote(cacheKey, value);
+        localCache.put(cacheKey, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        try {
+            redisTemplate.delete(redisKey(cacheKey));
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("캐시 삭제 실패 - cache: {}, key: {}", name, cacheKey, e);
+        }
+        localCache.invalidate(cacheKey);
+        explicitEvictions.increment();
+        invalidationBus.publish(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(redisKey("*")).count(500).build())) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() >= 500) {
+                    redisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("캐시 전체 삭제 실패 - cache: {}", name, e);
+        }
+        localCache.invalidateAll();
+        invalidationBus.publish(name, null);
+    }
+
+    // 다른 노드의 무효화 메시지 처리 (Redis는 보낸 쪽에서 이미 처리)
+    void invalidateLocal(String cacheKey) {
+        receivedInvalidations.increment();
+        if (cacheKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(cacheKey);
+        }
+    }
+
+    private Object readRemote(String cacheKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(cacheKey));
+            if (json == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            return objectMapper.readValue(json, valueType);
+        } catch (JsonProcessingException e) {
+            // 클래스 구조가 바뀐 이전 값은 버리고 다시 조회
+            log.warn("캐시 역직렬화 실패 - cache: {}, key: {}", name, cacheKey, e);
+            return null;
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("캐시 조회 실패 - cache: {}, key: {}", name, cacheKey, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, Object value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 직렬화 실패 - cache: {}, key: {}", name, cacheKey, e);
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("캐시 저장 실패 - cache: {}, key: {}", name, cacheKey, e);
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        return KEY_PREFIX + name + ":" + cacheKey;
+    }
+
+    private String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,48 @@
+package com.mmc.bookduck.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 정책이 정의된 캐시만 제공 (정의되지 않은 이름은 사용 시 오류).
+// 트랜잭션 안의 put, evict는 커밋 후에 반영되어 롤백된 값이 캐시에 남지 않음
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+    private final Map<String, CacheDefinition> definitions;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCacheManager(Map<String, CacheDefinition> definitions, StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper, CacheInvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry) {
+        this.definitions = definitions;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<TwoLevelCache> caches = new ArrayList<>();
+        definitions.forEach((name, definition) -> {
+            TwoLevelCache cache = new TwoLevelCache(name, definition.valueType(), definition.policy(),
+                    redisTemplate, objectMapper, invalidationBus, meterRegistry);
+            invalidationBus.register(cache);
+            caches.add(cache);
+        });
+        return caches;
+    }
+
+    public record CacheDefinition(Class<?> valueType, CachePolicyProperties.Policy policy) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.mmc.bookduck.global.common;
 
+import com.mmc.bookduck.domain.sync.entity.SyncChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -10,7 +11,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SyncChangeListener.class})
 public abstract class BaseTimeEntity {
     @CreatedDate
     @Column(updatable = false)
@@ -0,0 +1,83 @@
+package com.mmc.bookduck.global.common;
+
+import java.util.Arrays;
+
+// 박싱 없이 long 값을 담는 읽기 전용 해시 셋 (open addressing)
+public final class LongHashSet {
+    private static final long EMPTY = 0L; // id는 1부터 시작하므로 0을 빈 슬롯으로 사용
+    private static final LongHashSet EMPTY_SET = new LongHashSet(new long[0]);
+
+    private final long[] table;
+    private final int mask;
+    private final int size;
+    private final boolean containsZero;
+
+    private LongHashSet(long[] values) {
+        int capacity = Integer.highestOneBit(Math.max(2, values.length * 2 - 1)) << 1;
+        long[] slots = new long[capacity];
+        int count = 0;
+        boolean hasZero = false;
+        for (long value : values) {
+            if (value == EMPTY) {
+                if (!hasZero) {
+                    hasZero = true;
+                    count++;
+                }
+                continue;
+            }
+            int index = indexOf(value, capacity - 1);
+            while (slots[index] != EMPTY && slots[index] != value) {
+                index = (index + 1) & (capacity - 1);
+            }
+            if (slots[index] == EMPTY) {
+                slots[index] = value;
+                count++;
+            }
+        }
+        this.table = slots;
+        this.mask = capacity - 1;
+        this.size = count;
+        this.containsZero = hasZero;
+    }
+
+    public static LongHashSet of(long[] values) {
+        return (values.length == 0) ? EMPTY_SET : new LongHashSet(values);
+    }
+
+    public static LongHashSet empty() {
+        return EMPTY_SET;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int index = indexOf(value, mask);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] toArray() {
+        long[] values = Arrays.stream(table).filter(value -> value != EMPTY).toArray();
+        if (!containsZero) {
+            return values;
+        }
+        long[] withZero = Arrays.copyOf(values, values.length + 1);
+        withZero[values.length] = EMPTY;
+        return withZero;
+    }
+
+    private static int indexOf(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
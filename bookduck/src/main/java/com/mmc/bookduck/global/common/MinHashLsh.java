@@ -0,0 +1,155 @@
+package com.mmc.bookduck.global.common;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 집합의 MinHash 서명과 밴드 단위 LSH 버킷 (자카드 유사도가 높은 집합끼리 같은 버킷에 모이도록)
+public final class MinHashLsh {
+    // 서재 간 자카드 유사도는 대체로 낮으므로(0.1~0.3) 밴드를 잘게 나눠 낮은 유사도도 후보로 잡히도록 함
+    public static final int BANDS = 32;
+    public static final int ROWS = 2;
+    public static final int NUM_HASHES = BANDS * ROWS;
+
+    private static final long[] SEEDS = new long[NUM_HASHES];
+
+    static {
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(seed);
+        }
+    }
+
+    private MinHashLsh() {
+    }
+
+    // 원소(id) 집합의 MinHash 서명
+    public static int[] signature(long[] values) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long value : values) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = (int) (mix(value ^ SEEDS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // 두 서명이 일치하는 비율 = 자카드 유사도 추정치
+    public static double estimateSimilarity(int[] signature, int[] otherSignature) {
+        int matches = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (signature[i] == otherSignature[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / NUM_HASHES;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        int[] signature = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    // 서명 목록으로 LSH 인덱스 생성 (밴드마다 "밴드 해시 << 32 | 순번"을 정렬해 두고 이진 탐색)
+    public static Index buildIndex(long[] ids, int[][] signatures) {
+        long[][] bands = new long[BANDS][ids.length];
+        for (int band = 0; band < BANDS; band++) {
+            for (int i = 0; i < ids.length; i++) {
+                bands[band][i] = ((long) bandHash(signatures[i], band) << 32) | i;
+            }
+            Arrays.sort(bands[band]);
+        }
+        return new Index(ids, signatures, bands);
+    }
+
+    private static int bandHash(int[] signature, int band) {
+        long hash = band;
+        for (int row = 0; row < ROWS; row++) {
+            hash = hash * 0x100000001B3L + signature[band * ROWS + row];
+        }
+        return (int) (mix(hash) >>> 32);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    public static final class Index {
+        private final long[] ids;
+        private final int[][] signatures;
+        private final long[][] bands;
+
+        private Index(long[] ids, int[][] signatures, long[][] bands) {
+            this.ids = ids;
+            this.signatures = signatures;
+            this.bands = bands;
+        }
+
+        public int size() {
+            return ids.length;
+        }
+
+        public long getId(int position) {
+            return ids[position];
+        }
+
+        public int[] getSignature(int position) {
+            return signatures[position];
+        }
+
+        // 한 밴드라도 같은 버킷에 속한 후보의 순번 (인기 버킷은 bucketLimit개까지만)
+        public int[] findCandidates(int[] signature, int bucketLimit) {
+            int[] candidates = new int[64];
+            int count = 0;
+            for (int band = 0; band < BANDS; band++) {
+                long bucket = (long) bandHash(signature, band) << 32;
+                int from = lowerBound(bands[band], bucket);
+                int to = Math.min(bands[band].length, from + bucketLimit);
+                for (int i = from; i < to && (bands[band][i] & 0xFFFFFFFF00000000L) == bucket; i++) {
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, count * 2);
+                    }
+                    candidates[count++] = (int) bands[band][i];
+                }
+            }
+            // 여러 밴드에서 겹친 후보 제거
+            int[] sorted = Arrays.copyOf(candidates, count);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+
+        private static int lowerBound(long[] values, long key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
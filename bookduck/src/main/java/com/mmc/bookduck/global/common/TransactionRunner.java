@@ -0,0 +1,74 @@
+package com.mmc.bookduck.global.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 외부 호출과 DB 작업을 나눠 실행할 때 DB 작업만 트랜잭션으로 묶음.
+// 외부 호출은 트랜잭션 전/후에 실행하고, 트랜잭션이 실패하면 이미 실행한 외부 작업을 보상 작업으로 되돌림
+@Slf4j
+@Component
+public class TransactionRunner {
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public TransactionRunner(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T execute(Supplier<T> unit) {
+        return execute(unit, null);
+    }
+
+    // 롤백됐을 때만 compensation 실행 후 원래 예외를 던짐.
+    // 커밋된 뒤 afterCommit 콜백에서 난 예외는 DB에 반영된 상태이므로 보상하지 않음
+    public <T> T execute(Supplier<T> unit, Runnable compensation) {
+        // 트랜잭션을 시작하지 못했으면 null
+        AtomicReference<Integer> completionStatus = new AtomicReference<>();
+        try {
+            return transactionTemplate.execute(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        completionStatus.set(status);
+                    }
+                });
+                return unit.get();
+            });
+        } catch (RuntimeException | Error e) {
+            Integer status = completionStatus.get();
+            if (status == null || status == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                compensate(compensation, e);
+            } else if (status == TransactionSynchronization.STATUS_UNKNOWN && compensation != null) {
+                // 커밋 여부를 알 수 없으면 DB가 참조할 수 있는 외부 데이터를 지우지 않음
+                log.warn("트랜잭션 결과를 알 수 없어 보상 작업을 건너뜀", e);
+            }
+            throw e;
+        }
+    }
+
+    public <T> T executeReadOnly(Supplier<T> unit) {
+        return readOnlyTransactionTemplate.execute(status -> unit.get());
+    }
+
+    private void compensate(Runnable compensation, Throwable cause) {
+        if (compensation == null) {
+            return;
+        }
+        try {
+            compensation.run();
+        } catch (RuntimeException e) {
+            // 원래 예외를 가리지 않도록 로그만 남김
+            cause.addSuppressed(e);
+            log.error("보상 작업 실패", e);
+        }
+    }
+}
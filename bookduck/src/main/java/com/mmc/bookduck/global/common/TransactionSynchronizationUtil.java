@@ -0,0 +1,32 @@
+package com.mmc.bookduck.global.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class TransactionSynchronizationUtil {
+    private static final ExecutorService AFTER_COMMIT_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("after-commit-", 0).factory());
+
+    // 트랜잭션 커밋 후 실행 (트랜잭션이 없으면 바로 실행)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 트랜잭션 커밋 후 가상 스레드에서 실행 (외부 호출이 커넥션을 반납하기 전의 요청 스레드를 붙잡지 않도록).
+    // 실패해도 요청에 영향이 없는 작업(푸시 전송, 파일 정리 등)에만 사용
+    public static void afterCommitAsync(Runnable action) {
+        afterCommit(() -> AFTER_COMMIT_EXECUTOR.execute(action));
+    }
+}
@@ -0,0 +1,44 @@
+package com.mmc.bookduck.global.concurrent;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+
+// 서로 독립적인 조회를 가상 스레드로 동시에 실행하는 FanOutScope 생성
+@Component
+public class FanOutExecutor {
+    private final ThreadFactory threadFactory = Thread.ofVirtual().name("fan-out-", 0).factory();
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 스코프 하나(요청 하나)가 하위 작업을 기다리는 최대 시간
+    @Value("${fan-out.deadline-ms:3000}")
+    private long deadlineMillis;
+
+    // 스코프 하나에서 동시에 실행하는 하위 작업 수. 0이면 커넥션 풀 크기의 1/4 (최소 1)
+    @Value("${fan-out.max-concurrency-per-scope:0}")
+    private int maxConcurrencyPerScope;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    public FanOutExecutor(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public FanOutScope openScope() {
+        return openScope(Duration.ofMillis(deadlineMillis));
+    }
+
+    public FanOutScope openScope(Duration deadline) {
+        return new FanOutScope(threadFactory, readOnlyTransaction, System.nanoTime() + deadline.toNanos(), maxConcurrency());
+    }
+
+    private int maxConcurrency() {
+        return maxConcurrencyPerScope > 0 ? maxConcurrencyPerScope : Math.max(1, connectionPoolSize / 4);
+    }
+}
@@ -0,0 +1,191 @@
+package com.mmc.bookduck.global.concurrent;
+
+import com.mmc.bookduck.global.exception.CustomException;
+import com.mmc.bookduck.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 하위 작업을 가상 스레드로 실행하고, 스코프를 닫기 전에 모두 끝나도록 묶는다 (StructuredTaskScope.ShutdownOnFailure와 같은 방식).
+ * - 하나라도 실패하면 나머지를 인터럽트로 취소하고 첫 번째 예외를 그대로 던진다.
+ * - 마감 시간이 지나면 나머지를 취소하고 REQUEST_DEADLINE_EXCEEDED를 던진다.
+ * - 호출한 스레드의 SecurityContext를 하위 작업에 전달한다.
+ * - 동시에 실행되는 하위 작업 수를 maxConcurrency로 제한해 요청 하나가 커넥션 풀을 모두 차지하지 않도록 한다.
+ * 하위 작업은 호출한 쪽의 트랜잭션, 영속성 컨텍스트를 공유하지 않으므로 엔티티 대신 값이나 DTO를 반환해야 한다.
+ *
+ * try (FanOutScope scope = fanOutExecutor.openScope()) {
+ *     FanOutScope.Subtask<Long> count = scope.forkReadOnly(() -> repository.countBy...(user));
+ *     scope.join();
+ *     return count.get();
+ * }
+ */
+@Slf4j
+public class FanOutScope implements AutoCloseable {
+    // 닫을 때 취소된 작업이 끝나기를 기다리는 최대 시간
+    private static final long CLOSE_GRACE_MILLIS = 500;
+
+    private final ThreadFactory threadFactory;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long deadlineNanos;
+    // 나머지 하위 작업은 스레드만 만들어 두고 허가를 얻을 때까지 대기
+    private final Semaphore permits;
+    // 실패한 하위 작업 스레드에서도 취소를 위해 읽으므로 스레드 안전한 목록 사용
+    private final List<Subtask<?>> subtasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final Thread owner = Thread.currentThread();
+    private boolean joined;
+
+    FanOutScope(ThreadFactory threadFactory, TransactionTemplate readOnlyTransaction, long deadlineNanos, int maxConcurrency) {
+        this.threadFactory = threadFactory;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.deadlineNanos = deadlineNanos;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    // 트랜잭션 없이 실행 (외부 API 호출, 계산 등)
+    public <T> Subtask<T> fork(Supplier<T> task) {
+        checkOwner();
+        Subtask<T> subtask = new Subtask<>(this);
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Thread thread = threadFactory.newThread(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            boolean acquired = false;
+            try {
+                permits.acquire();
+                acquired = true;
+                subtask.result.complete(task.get());
+            } catch (Throwable e) {
+                subtask.result.completeExceptionally(e);
+                onFailure(e);
+            } finally {
+                if (acquired) {
+                    permits.release();
+                }
+                SecurityContextHolder.clearContext();
+            }
+        });
+        subtask.thread = thread;
+        subtasks.add(subtask);
+        thread.start();
+        return subtask;
+    }
+
+    // 별도의 읽기 전용 트랜잭션에서 실행 (지연 로딩이 필요한 여러 단계의 조회)
+    public <T> Subtask<T> forkReadOnly(Supplier<T> task) {
+        return fork(() -> readOnlyTransaction.execute(status -> task.get()));
+    }
+
+    // 모든 하위 작업이 끝날 때까지 대기
+    public void join() {
+        checkOwner();
+        for (Subtask<?> subtask : subtasks) {
+            await(subtask);
+        }
+        joined = true;
+    }
+
+    @Override
+    public void close() {
+        checkOwner();
+        cancelUnfinished();
+        long graceDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_GRACE_MILLIS);
+        for (Subtask<?> subtask : subtasks) {
+            long remaining = graceDeadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            try {
+                subtask.thread.join(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void await(Subtask<?> subtask) {
+        long remaining = deadlineNanos - System.nanoTime();
+        try {
+            subtask.result.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(firstFailure.get() != null ? firstFailure.get() : e.getCause());
+        } catch (TimeoutException e) {
+            cancelUnfinished();
+            log.warn("fan-out deadline exceeded thread={}", subtask.thread.getName());
+            throw new CustomException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        } catch (InterruptedException e) {
+            cancelUnfinished();
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        }
+    }
+
+    // 첫 번째 실패만 기록하고, 아직 실행 중인 작업 취소
+    private void onFailure(Throwable failure) {
+        if (firstFailure.compareAndSet(null, failure)) {
+            cancelUnfinished();
+        }
+    }
+
+    private void cancelUnfinished() {
+        for (Subtask<?> subtask : subtasks) {
+            if (!subtask.result.isDone() && subtask.thread != Thread.currentThread()) {
+                subtask.thread.interrupt();
+            }
+        }
+    }
+
+    private RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("FanOutScope must be used by the thread that opened it");
+        }
+    }
+
+    public static final class Subtask<T> {
+        private final FanOutScope scope;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private Thread thread;
+
+        private Subtask(FanOutScope scope) {
+            this.scope = scope;
+        }
+
+        // 이 작업만 기다림 (나머지는 계속 실행)
+        public T join() {
+            scope.checkOwner();
+            scope.await(this);
+            return result.join();
+        }
+
+        // scope.join() 이후에 결과 조회
+        public T get() {
+            if (!scope.joined && !result.isDone()) {
+                throw new IllegalStateException("Subtask has not completed; call join() first");
+            }
+            return result.join();
+        }
+    }
+}
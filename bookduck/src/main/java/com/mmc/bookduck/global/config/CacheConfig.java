@@ -0,0 +1,73 @@
+package com.mmc.bookduck.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mmc.bookduck.domain.badge.dto.response.UserBadgeListResponseDto;
+import com.mmc.bookduck.domain.book.dto.common.BookInfoBasicCacheDto;
+import com.mmc.bookduck.domain.user.dto.common.UserProfileSummaryDto;
+import com.mmc.bookduck.domain.user.dto.response.UserGrowthInfoResponseDto;
+import com.mmc.bookduck.global.cache.CacheInvalidationBus;
+import com.mmc.bookduck.global.cache.CacheNames;
+import com.mmc.bookduck.global.cache.CachePolicyProperties;
+import com.mmc.bookduck.global.cache.CachePolicyProperties.Policy;
+import com.mmc.bookduck.global.cache.TwoLevelCacheManager;
+import com.mmc.bookduck.global.cache.TwoLevelCacheManager.CacheDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 로컬(Caffeine) + Redis 2단계 애플리케이션 캐시
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
+public class CacheConfig {
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationBus(stringRedisTemplate);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public CacheManager cacheManager(CachePolicyProperties properties, StringRedisTemplate stringRedisTemplate,
+                                     ObjectMapper objectMapper, CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry) {
+        Map<String, CacheDefinition> definitions = new LinkedHashMap<>();
+        // 책 공통 정보 (평점 평균, 상세) - 평점 등록/삭제 시 제거
+        define(definitions, properties, CacheNames.BOOK_INFO_BASIC, BookInfoBasicCacheDto.class,
+                new Policy(Duration.ofMinutes(10), Duration.ofMinutes(1), 10_000L));
+        // 프로필 (닉네임, 기록 수) - 관계 상태는 요청마다 계산
+        define(definitions, properties, CacheNames.USER_PROFILE, UserProfileSummaryDto.class,
+                new Policy(Duration.ofMinutes(10), Duration.ofSeconds(30), 10_000L));
+        // 레벨 - 경험치 획득 시 제거
+        define(definitions, properties, CacheNames.USER_LEVEL, UserGrowthInfoResponseDto.class,
+                new Policy(Duration.ofMinutes(30), Duration.ofMinutes(1), 10_000L));
+        // 뱃지 목록 - 활동 수가 바뀌는 쓰기에서 제거
+        define(definitions, properties, CacheNames.USER_BADGES, UserBadgeListResponseDto.class,
+                new Policy(Duration.ofMinutes(10), Duration.ofSeconds(30), 5_000L));
+        return new TwoLevelCacheManager(definitions, stringRedisTemplate, objectMapper, cacheInvalidationBus, meterRegistry);
+    }
+
+    private void define(Map<String, CacheDefinition> definitions, CachePolicyProperties properties,
+                        String name, Class<?> valueType, Policy defaultPolicy) {
+        Policy policy = defaultPolicy.merge(properties.getPolicies().get(name));
+        definitions.put(name, new CacheDefinition(valueType, policy));
+    }
+}
@@ -0,0 +1,84 @@
+package com.mmc.bookduck.global.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.mmc.bookduck.global.datasource.DataSourceRoutingProperties;
+import com.mmc.bookduck.global.datasource.DataSourceRoutingProperties.Replica;
+import com.mmc.bookduck.global.datasource.MySqlReplicaLagProbe;
+import com.mmc.bookduck.global.datasource.ReadYourWritesTracker;
+import com.mmc.bookduck.global.datasource.ReplicaHealthMonitor;
+import com.mmc.bookduck.global.datasource.ReplicaLagProbe;
+import com.mmc.bookduck.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// datasource.routing.enabled=true이면 primary(spring.datasource)와 복제본(datasource.routing.replicas)을 묶은 DataSource를 등록.
+// 풀은 빈으로 따로 등록하지 않아 SQL 집계 프록시가 최종 DataSource 한 번만 감쌈
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+    @Bean
+    @ConditionalOnMissingBean
+    public ReplicaLagProbe replicaLagProbe() {
+        return new MySqlReplicaLagProbe();
+    }
+
+    // 트랜잭션 매니저에 실행 리스너로 등록됨
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), Ticker.systemTicker());
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(DataSourceRoutingProperties properties, DataSourceProperties dataSourceProperties,
+                                                     ReplicaLagProbe replicaLagProbe, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<Replica> replicaProperties = properties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, createReplicaPool(name, replicaProperties.get(i), dataSourceProperties, meterRegistry));
+        }
+        return new ReplicaHealthMonitor(replicas, replicaLagProbe, properties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment,
+                                 ReplicaHealthMonitor replicaHealthMonitor, ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        return new ReplicationRoutingDataSource(primary, replicaHealthMonitor, readYourWritesTracker, meterRegistry);
+    }
+
+    // 복제본 풀은 빈이 아니므로 hikaricp.* 메트릭을 직접 연결
+    private HikariDataSource createReplicaPool(String name, Replica replica, DataSourceProperties dataSourceProperties,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(replica.url());
+        pool.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+        pool.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+        pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        pool.setReadOnly(true);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        if (replica.maximumPoolSize() != null) {
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+        }
+        return pool;
+    }
+}
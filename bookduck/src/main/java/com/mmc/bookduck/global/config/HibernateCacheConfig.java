@@ -0,0 +1,73 @@
+package com.mmc.bookduck.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.mmc.bookduck.domain.alarm.entity.Announcement;
+import com.mmc.bookduck.domain.badge.entity.Badge;
+import com.mmc.bookduck.domain.book.entity.Genre;
+import com.mmc.bookduck.domain.item.entity.Item;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+@Configuration
+public class HibernateCacheConfig {
+    // Hibernate 기본 쿼리 캐시 영역 이름
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // 2차 캐시 영역별 크기, 만료 설정 (Caffeine JCache)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("bookduck-hibernate"), getClass().getClassLoader());
+
+        // 시드 후 변하지 않는 참조 데이터
+        createRegion(cacheManager, Genre.class.getName(), 200, null);
+        createRegion(cacheManager, Badge.class.getName(), 500, null);
+        createRegion(cacheManager, Item.class.getName(), 500, null);
+        // 공지 엔티티 (수정되지 않음). 목록 쿼리는 서버 간 반영을 위해 캐시하지 않음
+        createRegion(cacheManager, Announcement.class.getName(), 1_000, Duration.ofHours(6));
+
+        createRegion(cacheManager, QUERY_RESULTS_REGION, 5_000, Duration.ofMinutes(30));
+        // 테이블 변경 시각 영역은 만료되거나 밀려나면 오래된 쿼리 결과가 보일 수 있으므로 제한 없음
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, null, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.cache.use_second_level_cache", true);
+            properties.putIfAbsent("hibernate.cache.use_query_cache", true);
+            properties.putIfAbsent("hibernate.cache.region.factory_class", "jcache");
+            properties.putIfAbsent("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.putIfAbsent("hibernate.javax.cache.missing_cache_strategy", "create");
+            // 캐시 적중률 등 통계를 메트릭(hibernate.*)으로 노출
+            properties.putIfAbsent("hibernate.generate_statistics", true);
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String regionName, Integer maximumSize, Duration expireAfterWrite) {
+        if (cacheManager.getCache(regionName) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // JCache 기본값(store-by-value)은 get/put마다 직렬화 복사. Hibernate 캐시 엔트리는 분해된 불변 값이라 참조로 저장
+        configuration.setStoreByValue(false);
+        if (maximumSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(regionName, configuration);
+    }
+}
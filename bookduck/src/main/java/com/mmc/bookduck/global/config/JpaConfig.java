@@ -0,0 +1,26 @@
+package com.mmc.bookduck.global.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+    // JDBC 배치 기본값 (application.yml에 설정이 있으면 그 값을 사용)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", 100);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+
+    // 트랜잭션이 끝나면 커넥션 반납. 기본값(HOLD)은 open-in-view에서 요청이 끝날 때까지 커넥션을 잡고 있어
+    // 트랜잭션 밖으로 옮긴 외부 호출 중에도 풀을 차지함
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.putIfAbsent("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
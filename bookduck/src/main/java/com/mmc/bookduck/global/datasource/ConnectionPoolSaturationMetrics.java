@@ -0,0 +1,51 @@
+package com.mmc.bookduck.global.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// 커넥션 풀 포화도 (사용 중 커넥션 / 최대 커넥션). 1에 가까워지면 hikaricp.connections.pending(대기 스레드)이 늘기 시작함
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolSaturationMetrics implements MeterBinder {
+    private final DataSource dataSource;
+    private final ObjectProvider<ReplicaHealthMonitor> replicaHealthMonitor;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        HikariDataSource primary = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (primary != null) {
+            bind(registry, "primary", primary);
+        }
+        // 복제본 라우팅을 사용하면 복제본 풀도
+        replicaHealthMonitor.ifAvailable(monitor -> monitor.getReplicaDataSources().forEach((name, replica) -> {
+            if (replica instanceof HikariDataSource pool) {
+                bind(registry, name, pool);
+            }
+        }));
+    }
+
+    private void bind(MeterRegistry registry, String name, HikariDataSource pool) {
+        Gauge.builder("datasource.pool.saturation", pool, ConnectionPoolSaturationMetrics::saturation)
+                .tag("pool", name)
+                .register(registry);
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean poolMXBean = pool.getHikariPoolMXBean();
+        // 첫 커넥션 요청 전에는 풀이 시작되지 않음
+        if (poolMXBean == null) {
+            return 0;
+        }
+        return (double) poolMXBean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,31 @@
+package com.mmc.bookduck.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기 전용 트랜잭션을 복제본으로 보내는 설정 (datasource.routing.enabled=true일 때만 사용)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    // 복제 지연이 이 값을 넘는 복제본은 사용하지 않음
+    private Duration maxLag = Duration.ofSeconds(3);
+    // 사용자가 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안은 그 사용자의 읽기도 primary에서 실행
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * @param url             JDBC URL
+     * @param username        비어 있으면 spring.datasource.username 사용
+     * @param password        비어 있으면 spring.datasource.password 사용
+     * @param maximumPoolSize 비어 있으면 spring.datasource.hikari 설정과 같은 기본값 사용
+     */
+    public record Replica(String url, String username, String password, Integer maximumPoolSize) {
+    }
+}
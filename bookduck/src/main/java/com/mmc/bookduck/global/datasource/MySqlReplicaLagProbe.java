@@ -0,0 +1,26 @@
+package com.mmc.bookduck.global.datasource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// MySQL 8.0.22+ 복제본의 Seconds_Behind_Source (REPLICATION CLIENT 권한 필요)
+public class MySqlReplicaLagProbe implements ReplicaLagProbe {
+    @Override
+    public Duration measure(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            // 복제가 설정되지 않은 서버
+            if (!resultSet.next()) {
+                return null;
+            }
+            long seconds = resultSet.getLong("Seconds_Behind_Source");
+            // SQL 스레드가 멈춘 경우 NULL
+            return resultSet.wasNull() ? null : Duration.ofSeconds(seconds);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.mmc.bookduck.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 복제본별 복제 지연을 주기적으로 측정하고, 지연이 허용치 이하인 복제본을 돌아가며 고름.
+// 측정 전이거나 측정에 실패한 복제본은 사용하지 않음 (읽기는 primary로)
+@Slf4j
+public class ReplicaHealthMonitor implements AutoCloseable {
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicaLagProbe lagProbe;
+    private final long maxLagMillis;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    public ReplicaHealthMonitor(Map<String, DataSource> replicaDataSources, ReplicaLagProbe lagProbe,
+                                Duration maxLag, MeterRegistry meterRegistry) {
+        this.lagProbe = lagProbe;
+        this.maxLagMillis = maxLag.toMillis();
+        replicaDataSources.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, Replica::lagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void refresh() {
+        for (Replica replica : replicas) {
+            long lagMillis;
+            try {
+                Duration lag = lagProbe.measure(replica.dataSource);
+                lagMillis = lag == null ? UNKNOWN_LAG : lag.toMillis();
+            } catch (Exception e) {
+                log.debug("replica lag check failed replica={}", replica.name, e);
+                lagMillis = UNKNOWN_LAG;
+            }
+            boolean wasHealthy = replica.isHealthy(maxLagMillis);
+            replica.lagMillis = lagMillis;
+            boolean isHealthy = replica.isHealthy(maxLagMillis);
+            // 상태가 바뀔 때만 로그
+            if (wasHealthy != isHealthy) {
+                log.warn("replica.{} replica={} lagMs={} maxLagMs={}", isHealthy ? "recovered" : "excluded",
+                        replica.name, lagMillis == UNKNOWN_LAG ? "unknown" : lagMillis, maxLagMillis);
+            }
+        }
+    }
+
+    // 지연이 허용치 이하인 복제본 이름 (없으면 null)
+    public String nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextIndex.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy(maxLagMillis)) {
+                return replica.name;
+            }
+        }
+        return null;
+    }
+
+    public Map<String, DataSource> getReplicaDataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long lagMillis = UNKNOWN_LAG;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isHealthy(long maxLagMillis) {
+            return lagMillis <= maxLagMillis;
+        }
+
+        private double lagSeconds() {
+            return lagMillis == UNKNOWN_LAG ? Double.NaN : lagMillis / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.mmc.bookduck.global.datasource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// 복제본의 복제 지연 측정
+public interface ReplicaLagProbe {
+    // 복제가 멈췄거나 지연을 알 수 없으면 null
+    Duration measure(DataSource replica) throws SQLException;
+}
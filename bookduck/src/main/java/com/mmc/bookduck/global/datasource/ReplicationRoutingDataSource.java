@@ -0,0 +1,88 @@
+package com.mmc.bookduck.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션은 복제본, 나머지는 primary로 연결.
+// 종료 시 primary 풀을 닫음 (복제본 풀은 ReplicaHealthMonitor가 닫음).
+// 트랜잭션 매니저는 읽기 전용 여부가 정해지기 전에 커넥션을 요청하므로, 첫 쿼리 시점까지 실제 커넥션 획득을 미룬 뒤 라우팅함
+public class ReplicationRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+
+    public ReplicationRoutingDataSource(DataSource primary, ReplicaHealthMonitor replicaHealthMonitor,
+                                        ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        Router router = new Router(replicaHealthMonitor, readYourWritesTracker, meterRegistry);
+        Map<Object, Object> targets = new HashMap<>(replicaHealthMonitor.getReplicaDataSources());
+        targets.put(PRIMARY, primary);
+        router.setTargetDataSources(targets);
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+        private final ReplicaHealthMonitor replicaHealthMonitor;
+        private final ReadYourWritesTracker readYourWritesTracker;
+        private final Counter writeCounter;
+        private final Counter readYourWritesCounter;
+        private final Counter replicaLagCounter;
+        private final Counter replicaCounter;
+
+        private Router(ReplicaHealthMonitor replicaHealthMonitor, ReadYourWritesTracker readYourWritesTracker,
+                       MeterRegistry meterRegistry) {
+            this.replicaHealthMonitor = replicaHealthMonitor;
+            this.readYourWritesTracker = readYourWritesTracker;
+            this.writeCounter = routeCounter(meterRegistry, PRIMARY, "write");
+            this.readYourWritesCounter = routeCounter(meterRegistry, PRIMARY, "read-your-writes");
+            this.replicaLagCounter = routeCounter(meterRegistry, PRIMARY, "replica-lag");
+            this.replicaCounter = routeCounter(meterRegistry, "replica", "read-only");
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            // 트랜잭션 밖의 쿼리도 primary (읽기 전용이 명시된 경우만 복제본으로)
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                writeCounter.increment();
+                return PRIMARY;
+            }
+            if (readYourWritesTracker.hasRecentWrite()) {
+                readYourWritesCounter.increment();
+                return PRIMARY;
+            }
+            String replica = replicaHealthMonitor.nextHealthyReplica();
+            if (replica == null) {
+                replicaLagCounter.increment();
+                return PRIMARY;
+            }
+            replicaCounter.increment();
+            return replica;
+        }
+
+        private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+            return Counter.builder("datasource.routing")
+                    .tag("target", target)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -95,6 +95,9 @@ public enum ErrorCode {
     ITEM_ALREADY_EXISTS(409, "이미 존재하는 아이템입니다."),
     ITEM_ALREADY_EQUIPPED(409, "이미 장착한 아이템입니다."),
 
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     // 500 Internal Server Error
     // 외부 API 사용 도중 에러
     REDIS_CONNECTION_ERROR(500, "서버에서 Redis 연결 중 문제가 발생했습니다."),
@@ -111,6 +114,9 @@ public enum ErrorCode {
     // FCM
     FIREBASE_SDK_ERROR(500, "Firebase Admin SDK 비공개 키를 찾을 수 없습니다."),
 
+    // 503 Service Unavailable
+    REQUEST_DEADLINE_EXCEEDED(503, "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
     ;
 
     private final int status;
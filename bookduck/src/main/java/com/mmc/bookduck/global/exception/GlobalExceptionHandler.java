@@ -2,6 +2,7 @@ package com.mmc.bookduck.global.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -30,6 +31,21 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDto, HttpStatusCode.valueOf(e.getErrorCode().getStatus()));
     }
 
+    @ExceptionHandler({RateLimitExceededException.class})
+    protected ResponseEntity<ErrorDto> handleRateLimitExceededException(RateLimitExceededException e, HttpServletRequest request) {
+        ErrorCode errorCode = e.getErrorCode();
+        ErrorDto errorDto = new ErrorDto(
+                LocalDateTime.now().toString(),
+                errorCode.getStatus(),
+                errorCode.name(),
+                errorCode.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorDto);
+    }
+
     @ExceptionHandler(OAuth2AuthenticationException.class)
     public ResponseEntity<ErrorDto> handleOAuth2AuthenticationException(OAuth2AuthenticationException e, HttpServletRequest request) {
         ErrorCode errorCode = ErrorCode.OAUTH2_LOGIN_FAILED;
@@ -0,0 +1,13 @@
+package com.mmc.bookduck.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -6,6 +6,7 @@ import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.service.UserService;
+import com.mmc.bookduck.global.outbound.OutboundCallGuard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,17 +20,20 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class FCMService {
     private final UserService userService;
+    private final OutboundCallGuard outboundCallGuard;
 
     @Transactional
     public void setFcmToken(Long userId, String fcmToken) {
         // 해당 아이디 가진 유저가 존재하는지 검사
         User user = userService.getActiveUserByUserId(userId);
         user.setFcmToken(fcmToken);
+        userService.evictUserCache(user);
         log.info("User " + userId + "의 FCM 토큰이 성공적으로 저장되었습니다");
     }
 
     // 토큰 기반 전송
     public void sendPushMessage(String token, String alarmMessage) {
+        outboundCallGuard.check(OutboundCallGuard.FCM);
         // Data 페이로드 구성
         Map<String, String> data = new HashMap<>();
         data.put("title", alarmMessage);
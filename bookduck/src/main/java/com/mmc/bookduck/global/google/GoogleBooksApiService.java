@@ -2,27 +2,32 @@ package com.mmc.bookduck.global.google;
 
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
+import com.mmc.bookduck.global.outbound.OutboundCallGuard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class GoogleBooksApiService {
+    private final OutboundCallGuard outboundCallGuard;
 
     RestTemplate restTemplate = new RestTemplate();
 
     @Value("${google.books.api.key}")
     private String apiKey;
 
+    @Value("${google.books.api.base-url:https://www.googleapis.com/books/v1}")
+    private String baseUrl;
+
     // 목록 검색
     public String searchBookList(String keyword, Long page, Long size) {
+        outboundCallGuard.check(OutboundCallGuard.GOOGLE_BOOKS);
         try {
-            String url = "https://www.googleapis.com/books/v1/volumes?q=" + keyword + "&startIndex=" + (page * size)
+            String url = baseUrl + "/volumes?q=" + keyword + "&startIndex=" + (page * size)
                     + "&maxResults=" + size + "&key=" + apiKey;
 
             // API GET 요청
@@ -35,8 +40,9 @@ public class GoogleBooksApiService {
 
     // 책 상세 검색
     public String searchOneBook(String providerId){
+        outboundCallGuard.check(OutboundCallGuard.GOOGLE_BOOKS);
         try {
-            String url = "https://www.googleapis.com/books/v1/volumes/" + providerId + "?key=" + apiKey;
+            String url = baseUrl + "/volumes/" + providerId + "?key=" + apiKey;
             // API GET 요청
             ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.GET, null, String.class);
 
@@ -16,6 +16,7 @@ import java.util.UUID;
 
 import com.mmc.bookduck.global.exception.CustomException;
 import com.mmc.bookduck.global.exception.ErrorCode;
+import com.mmc.bookduck.global.outbound.OutboundCallGuard;
 
 
 @Service
@@ -26,8 +27,10 @@ public class GoogleCloudUploadService {
     private String bucketName;
 
     private final Storage storage;
+    private final OutboundCallGuard outboundCallGuard;
 
     public String upload(MultipartFile file) {
+        outboundCallGuard.check(OutboundCallGuard.GCS);
         try {
             // 파일 이름에 UUID를 추가 (중복방지), 한글 및 특수문자 제거
             String sanitizedFileName = UUID.randomUUID() + "_" + file.getOriginalFilename().replaceAll("[^a-zA-Z0-9.]", "");
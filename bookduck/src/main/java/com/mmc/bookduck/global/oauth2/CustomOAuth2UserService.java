@@ -1,11 +1,14 @@
 package com.mmc.bookduck.global.oauth2;
 
+import com.mmc.bookduck.domain.alarm.service.AnnouncementSequenceService;
 import com.mmc.bookduck.domain.friend.entity.Friend;
+import com.mmc.bookduck.domain.friend.repository.FriendGraphCache;
 import com.mmc.bookduck.domain.friend.repository.FriendRepository;
 import com.mmc.bookduck.domain.user.entity.User;
 import com.mmc.bookduck.domain.user.entity.UserGrowth;
 import com.mmc.bookduck.domain.user.entity.UserSetting;
 import com.mmc.bookduck.domain.user.repository.UserGrowthRepository;
+import com.mmc.bookduck.domain.user.repository.UserNicknameIndex;
 import com.mmc.bookduck.domain.user.repository.UserRepository;
 import com.mmc.bookduck.domain.user.repository.UserSettingRepository;
 import com.mmc.bookduck.global.exception.CustomException;
@@ -32,6 +35,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final UserSettingRepository userSettingRepository;
     private final UserGrowthRepository userGrowthRepository;
     private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
+    private final AnnouncementSequenceService announcementSequenceService;
+    private final UserNicknameIndex userNicknameIndex;
 
     @Value("${official.account.email}")
     private String officialAccountEmail;
@@ -79,9 +85,12 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
             // 새로운 User 생성
             User newUser = oAuth2Attributes.toEntity(nickname);
+            // 가입 이전의 공지는 읽은 것으로 처리
+            newUser.updateLastSeenAnnouncementId(announcementSequenceService.getLatestSequence());
 
             // 새로운 User를 먼저 저장
             newUser = userRepository.save(newUser);
+            userNicknameIndex.put(newUser);
 
             // 공식계정 친구 추가
             User officialAccount = userRepository.findByEmail(officialAccountEmail)
@@ -91,6 +100,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                     .user2(newUser)
                     .build();
             friendRepository.save(friend);
+            friendGraphCache.invalidate(officialAccount.getUserId(), newUser.getUserId());
 
             // 새로운 User의 UserSetting, UserGrowth 생성
             UserSetting userSetting = UserSetting.builder().user(newUser).build();
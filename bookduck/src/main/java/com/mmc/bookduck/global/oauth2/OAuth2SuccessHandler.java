@@ -41,17 +41,17 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                     .orElse(DEPLOYED_REDIRECT_URL);
             String redirectUrl = baseRedirectUrl + OAUTH_PATH;
 
-            // 액세스 토큰 및 리프레시 토큰 발급, 리프레시 토큰을 쿠키에 저장
-            String accessToken = jwtUtil.generateAccessToken(authentication);
-            int expiresIn = jwtUtil.getAccessTokenMaxAge();
-            String refreshToken = jwtUtil.generateRefreshToken(authentication);
-            cookieUtil.addCookie(response, "refreshToken", refreshToken, jwtUtil.getRefreshTokenMaxAge());
-
             // OAuth2UserDetails으로부터 신규 유저 여부와 userId 확인
             OAuth2UserDetails userDetails = (OAuth2UserDetails) authentication.getPrincipal();
             boolean isNewUser = userDetails.isNewUser();
             Long userId = userDetails.userId();
 
+            // 액세스 토큰 및 리프레시 토큰 발급, 리프레시 토큰을 쿠키에 저장
+            String accessToken = jwtUtil.generateAccessToken(authentication, userId);
+            int expiresIn = jwtUtil.getAccessTokenMaxAge();
+            String refreshToken = jwtUtil.generateRefreshToken(authentication, userId);
+            cookieUtil.addCookie(response, "refreshToken", refreshToken, jwtUtil.getRefreshTokenMaxAge());
+
             log.info("소셜 로그인 {}에 성공하였습니다. 발급된 accessToken: {}", isNewUser ? "회원 가입" : "로그인", accessToken);
 
             // 액세스 토큰을 쿼리 파라미터로 전달하여 리디렉션
@@ -0,0 +1,72 @@
+package com.mmc.bookduck.global.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+// 트랜잭션 안에서 일어난 외부 호출(구글 API, S3, FCM, Vision 등)을 기록.
+// 외부 호출이 느려지면 그동안 커넥션을 잡고 있어 풀이 고갈되므로, 기록된 호출은 트랜잭션 전/후로 옮겨야 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundCallGuard {
+    public static final String GOOGLE_BOOKS = "google-books";
+    public static final String S3 = "s3";
+    public static final String FCM = "fcm";
+    public static final String GCS = "gcs";
+    public static final String VISION = "vision";
+
+    private static final String APPLICATION_PACKAGE = "com.mmc.bookduck.";
+    private static final Set<String> OUTBOUND_SERVICES = Set.of(
+            OutboundCallGuard.class.getName(),
+            "com.mmc.bookduck.global.google.GoogleBooksApiService",
+            "com.mmc.bookduck.global.S3.S3Service",
+            "com.mmc.bookduck.global.fcm.FCMService",
+            "com.mmc.bookduck.global.google.GoogleCloudUploadService",
+            "com.mmc.bookduck.domain.archive.service.OcrService");
+
+    private final MeterRegistry meterRegistry;
+
+    // 위반 시 예외를 던짐 (개발/테스트 환경에서 바로 찾기 위해)
+    @Value("${outbound.guard.fail-on-violation:false}")
+    private boolean failOnViolation;
+
+    public void check(String target) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        // TransactionTemplate으로 연 트랜잭션은 이름이 없으므로 호출한 메소드로 구분
+        String caller = findCaller();
+        Counter.builder("outbound.calls.in.transaction")
+                .tag("target", target)
+                .tag("caller", caller)
+                .register(meterRegistry)
+                .increment();
+        log.warn("outbound.in-transaction target={} caller={} readOnly={}",
+                target, caller, TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        if (failOnViolation) {
+            throw new IllegalStateException("Outbound call to " + target + " inside a transaction from " + caller);
+        }
+    }
+
+    // 외부 호출 서비스를 부른 애플리케이션 메소드 (프록시, 외부 호출 서비스 자신은 건너뜀)
+    private String findCaller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(frame -> !OUTBOUND_SERVICES.contains(frame.getClassName()))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mmc.bookduck.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 서버 인스턴스 단위의 인메모리 토큰 버킷
+@Component
+public class LocalRateLimiter {
+    private static final int MAXIMUM_BUCKETS = 100_000;
+
+    // 일정 시간 요청이 없던 버킷은 가득 찬 상태와 같으므로 제거
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_BUCKETS)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    // 허용되면 0, 거부되면 재시도까지 남은 시간(ms) 반환
+    public long tryAcquire(String key, int capacity, int periodSeconds) {
+        TokenBucket bucket = buckets.get(key,
+                k -> new TokenBucket(capacity, TimeUnit.SECONDS.toNanos(periodSeconds)));
+        long waitNanos = bucket.tryConsume();
+        return (waitNanos == 0L) ? 0L : Math.max(1L, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+}
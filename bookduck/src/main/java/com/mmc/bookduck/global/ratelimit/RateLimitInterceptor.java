@@ -0,0 +1,64 @@
+package com.mmc.bookduck.global.ratelimit;
+
+import com.mmc.bookduck.global.exception.RateLimitExceededException;
+import com.mmc.bookduck.global.security.AuthenticatedUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final LocalRateLimiter localRateLimiter;
+    private final ObjectProvider<RedisRateLimiter> redisRateLimiterProvider;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+        String userKey = rateLimited.type().name() + ":" + resolveClientKey(request);
+        String globalKey = rateLimited.type().name() + ":global";
+
+        // 사용자별 제한 → 전체 제한 순으로 확인
+        check(userKey, rateLimited.capacity(), rateLimited.periodSeconds());
+        if (rateLimited.globalCapacity() != RateLimited.UNLIMITED) {
+            check(globalKey, rateLimited.globalCapacity(), rateLimited.periodSeconds());
+        }
+        return true;
+    }
+
+    private void check(String key, int capacity, int periodSeconds) {
+        long retryAfterMillis = localRateLimiter.tryAcquire(key, capacity, periodSeconds);
+        if (retryAfterMillis == 0L) {
+            RedisRateLimiter redisRateLimiter = redisRateLimiterProvider.getIfAvailable();
+            if (redisRateLimiter != null) {
+                retryAfterMillis = redisRateLimiter.tryAcquire(key, capacity, periodSeconds);
+            }
+        }
+        if (retryAfterMillis > 0L) {
+            throw new RateLimitExceededException((retryAfterMillis + 999) / 1000);
+        }
+    }
+
+    // 로그인 사용자는 userId(또는 email), 비로그인 요청은 IP 기준
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return (authenticatedUser.getUserId() != null)
+                    ? "user:" + authenticatedUser.getUserId()
+                    : "user:" + authenticatedUser.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,10 @@
+package com.mmc.bookduck.global.ratelimit;
+
+// 요청 제한을 공유하는 엔드포인트 묶음 (같은 타입끼리 같은 버킷을 사용)
+public enum RateLimitType {
+    BOOK_SEARCH, // 구글 API 할당량 사용
+    OCR, // Vision API 사용
+    EXPORT, // Komoran 키워드 분석
+    USER_SEARCH,
+    ;
+}
@@ -0,0 +1,22 @@
+package com.mmc.bookduck.global.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 메서드에 요청 제한 적용
+// 사용자별로 periodSeconds 동안 capacity번, 전체 사용자 합산 globalCapacity번까지 허용
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    RateLimitType type();
+
+    int capacity();
+
+    int periodSeconds() default 60;
+
+    int globalCapacity() default UNLIMITED;
+
+    int UNLIMITED = -1;
+}
@@ -0,0 +1,53 @@
+package com.mmc.bookduck.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+// 여러 서버 인스턴스에 걸쳐 적용되는 Redis 슬라이딩 윈도우 (ratelimit.redis.enabled=true일 때만 사용)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ratelimit.redis.enabled", havingValue = "true")
+public class RedisRateLimiter {
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // 윈도우 밖의 요청을 지우고, 남은 요청 수가 한도 미만이면 기록 후 0, 아니면 재시도까지 남은 시간(ms) 반환
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            if redis.call('ZCARD', KEYS[1]) < limit then
+                redis.call('ZADD', KEYS[1], now, ARGV[4])
+                redis.call('PEXPIRE', KEYS[1], window)
+                return 0
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return math.max(1, tonumber(oldest[2]) + window - now)
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long tryAcquire(String key, int capacity, int periodSeconds) {
+        try {
+            Long retryAfterMillis = stringRedisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(periodSeconds * 1000L),
+                    String.valueOf(capacity),
+                    UUID.randomUUID().toString());
+            return (retryAfterMillis != null) ? retryAfterMillis : 0L;
+        } catch (Exception e) {
+            // Redis 장애 시에는 로컬 제한만 적용
+            log.warn("Redis 요청 제한 확인 실패: {}", e.getMessage());
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.mmc.bookduck.global.ratelimit;
+
+// 일정한 속도로 토큰이 채워지는 버킷
+public class TokenBucket {
+    private final long capacity;
+    private final double refillTokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, long periodNanos) {
+        this.capacity = capacity;
+        this.refillTokensPerNano = (double) capacity / periodNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 토큰을 소비하면 0, 부족하면 다음 토큰까지 기다려야 하는 시간(ns) 반환
+    public synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillTokensPerNano);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0L;
+        }
+        return (long) Math.ceil((1 - tokens) / refillTokensPerNano);
+    }
+}
@@ -0,0 +1,21 @@
+package com.mmc.bookduck.global.schedule;
+
+import com.mmc.bookduck.domain.sync.repository.ChangeLogWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ChangeLogCleanupTask {
+
+    @Autowired
+    private ChangeLogWriter changeLogWriter;
+
+    // 30일 지난 툼스톤 정리 (그 이전 버전으로 동기화하는 클라이언트는 전체 재조회)
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void purgeOldTombstones() {
+        changeLogWriter.purgeTombstonesBefore(LocalDateTime.now().minusDays(30));
+    }
+}
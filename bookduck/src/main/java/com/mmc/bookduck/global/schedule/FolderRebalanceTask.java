@@ -0,0 +1,25 @@
+package com.mmc.bookduck.global.schedule;
+
+import com.mmc.bookduck.domain.folder.repository.FolderRebalanceQueue;
+import com.mmc.bookduck.domain.folder.service.FolderBookService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FolderRebalanceTask {
+
+    @Autowired
+    private FolderRebalanceQueue folderRebalanceQueue;
+
+    @Autowired
+    private FolderBookService folderBookService;
+
+    // 정렬 키 간격이 좁아진 폴더를 주기적으로 재배치
+    @Scheduled(fixedDelayString = "${folder.rebalance-interval-ms:60000}")
+    public void rebalanceFolders() {
+        for (Long folderId : folderRebalanceQueue.drain()) {
+            folderBookService.rebalanceFolder(folderId);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.mmc.bookduck.global.schedule;
+
+import com.mmc.bookduck.domain.alarm.service.AlarmByTypeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OneLineLikeAlarmFlushTask {
+
+    @Autowired
+    private AlarmByTypeService alarmByTypeService;
+
+    // 버퍼에 모인 한줄평 좋아요 알림을 주기적으로 발송
+    @Scheduled(fixedDelayString = "${alarm.oneline-like.flush-interval-ms:30000}")
+    public void flushOneLineLikeAlarms() {
+        alarmByTypeService.flushOneLineLikeAlarms();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mmc.bookduck.global.schedule;
+
+import com.mmc.bookduck.domain.friend.service.SimilarReaderRefreshService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SimilarReaderRefreshTask {
+
+    @Autowired
+    private SimilarReaderRefreshService similarReaderRefreshService;
+
+    // 서재가 바뀐 유저만 주기적으로 갱신
+    @Scheduled(fixedDelayString = "${similar-reader.refresh-interval-ms:3600000}")
+    public void refreshChangedReaders() {
+        similarReaderRefreshService.refreshChangedReaders();
+    }
+
+    // 매일 새벽 전체 갱신
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void refreshAllReaders() {
+        similarReaderRefreshService.refreshAllReaders();
+    }
+}
@@ -0,0 +1,20 @@
+package com.mmc.bookduck.global.schedule;
+
+import com.mmc.bookduck.domain.user.repository.UserNicknameIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserNicknameIndexRebuildTask {
+
+    @Autowired
+    private UserNicknameIndex userNicknameIndex;
+
+    // 다른 서버에서 일어난 가입, 닉네임 변경, 탈퇴를 반영하기 위해 주기적으로 재구성
+    @Scheduled(fixedDelayString = "${user.nickname-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${user.nickname-index.rebuild-interval-ms:600000}")
+    public void rebuildUserNicknameIndex() {
+        userNicknameIndex.rebuild();
+    }
+}
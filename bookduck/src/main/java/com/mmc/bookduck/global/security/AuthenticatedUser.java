@@ -0,0 +1,18 @@
+package com.mmc.bookduck.global.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// 액세스 토큰에서 복원한 인증 정보 (서비스 로직의 User 엔티티와 다른 클래스)
+@Getter
+public class AuthenticatedUser extends User {
+    private final Long userId; // userId 클레임이 없는 이전 토큰의 경우 null
+
+    public AuthenticatedUser(String email, Long userId, Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities);
+        this.userId = userId;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,8 +28,8 @@ public class JwtFilter extends OncePerRequestFilter {
         if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
             String accessToken = authorizationHeader.substring(BEARER_PREFIX.length());
             try {
-                jwtUtil.validateAccessToken(accessToken); // 엑세스 토큰 유효성을 검증
-                Authentication authentication = jwtUtil.getAuthentication(accessToken);
+                Claims claims = jwtUtil.parseAccessToken(accessToken); // 엑세스 토큰 유효성을 검증 (한 번만 파싱)
+                Authentication authentication = jwtUtil.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication); // 인증된 사용자 정보를 SecurityContext에 저장
             } catch (CustomTokenException e) {
                 SecurityContextHolder.clearContext();
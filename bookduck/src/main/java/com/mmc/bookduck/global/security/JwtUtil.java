@@ -1,5 +1,7 @@
 package com.mmc.bookduck.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mmc.bookduck.global.exception.ErrorCode;
 import com.mmc.bookduck.global.exception.CustomTokenException;
 import io.jsonwebtoken.*;
@@ -10,11 +12,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -23,9 +28,27 @@ import java.util.List;
 public class JwtUtil {
     private final Key accessKey;
     private final Key refreshKey;
+    // 요청마다 새로 만들지 않도록 미리 생성해 둔 파서 (thread-safe)
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
     private final RedisService redisService;
     private static final Duration ACCESS_TOKEN_EXPIRE_TIME = Duration.ofHours(6); //6시간
     private static final Duration REFRESH_TOKEN_EXPIRE_TIME = Duration.ofDays(7); //7일
+    private static final String USER_ID_CLAIM = "userId";
+
+    // 검증된 액세스 토큰의 digest -> claims 캐시 (서명 검증 생략용)
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    private final Cache<String, Claims> verifiedAccessTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfterWrite(ACCESS_TOKEN_EXPIRE_TIME)
+            .build();
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
 
     public JwtUtil(@Value("${jwt.secret.access}") String accessSecret, @Value("${jwt.secret.refresh}") String refreshSecret,
                    RedisService redisService){
@@ -33,24 +56,37 @@ public class JwtUtil {
         this.accessKey = Keys.hmacShaKeyFor(keyBytes);
         keyBytes = Decoders.BASE64.decode(refreshSecret);
         this.refreshKey = Keys.hmacShaKeyFor(keyBytes);
+        this.accessParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
         this.redisService = redisService;
     }
 
     public String generateAccessToken(Authentication authentication){
-        return generateToken(authentication, accessKey, ACCESS_TOKEN_EXPIRE_TIME);
+        return generateAccessToken(authentication, null);
+    }
+
+    public String generateAccessToken(Authentication authentication, Long userId){
+        return generateToken(authentication, userId, accessKey, ACCESS_TOKEN_EXPIRE_TIME);
     }
 
     public String generateRefreshToken(Authentication authentication){
-        String refreshToken = generateToken(authentication, refreshKey, REFRESH_TOKEN_EXPIRE_TIME);
+        return generateRefreshToken(authentication, null);
+    }
+
+    public String generateRefreshToken(Authentication authentication, Long userId){
+        String refreshToken = generateToken(authentication, userId, refreshKey, REFRESH_TOKEN_EXPIRE_TIME);
 
         // 리프레시 토큰을 redis에 저장
         redisService.setValuesWithTimeout(authentication.getName(), refreshToken, REFRESH_TOKEN_EXPIRE_TIME);
         return refreshToken;
     }
 
-    private String generateToken(Authentication authentication, Key key, Duration expiredTime){
+    private String generateToken(Authentication authentication, Long userId, Key key, Duration expiredTime){
         Claims claims = Jwts.claims();
         claims.setSubject(authentication.getName());
+        if (userId != null) {
+            claims.put(USER_ID_CLAIM, userId); // 요청마다 email로 User를 조회하지 않도록 userId 포함
+        }
 
         // Authentication 객체에서 role 추출
         String role = authentication.getAuthorities().stream()
@@ -73,8 +109,27 @@ public class JwtUtil {
 
     // 액세스 토큰이 유효한 경우에만 에러를 던지지 않음
     public void validateAccessToken(String accessToken){
+        parseAccessToken(accessToken);
+    }
+
+    // 액세스 토큰을 한 번만 파싱하여 검증하고 claims 반환 (검증된 토큰은 만료 전까지 캐싱)
+    public Claims parseAccessToken(String accessToken){
+        if (accessToken == null || accessToken.isBlank()) {
+            throw new CustomTokenException(ErrorCode.INVALID_TOKEN);
+        }
+        String digest = digest(accessToken);
+        Claims cachedClaims = verifiedAccessTokens.getIfPresent(digest);
+        if (cachedClaims != null) {
+            if (cachedClaims.getExpiration().before(new Date())) {
+                verifiedAccessTokens.invalidate(digest);
+                throw new CustomTokenException(ErrorCode.EXPIRED_ACCESS_TOKEN);
+            }
+            return cachedClaims;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(accessKey).build().parseClaimsJws(accessToken);
+            Claims claims = accessParser.parseClaimsJws(accessToken).getBody();
+            verifiedAccessTokens.put(digest, claims);
+            return claims;
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException | SignatureException e){
             throw new CustomTokenException(ErrorCode.INVALID_TOKEN);
         } catch (ExpiredJwtException e) {
@@ -85,7 +140,7 @@ public class JwtUtil {
     // 리프레시 토큰이 유효한 경우에만 에러를 던지지 않음
     public void validateRefreshToken(String refreshToken){
         try{
-            Jwts.parserBuilder().setSigningKey(refreshKey).build().parseClaimsJws(refreshToken);
+            refreshParser.parseClaimsJws(refreshToken);
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException | SignatureException e){
             throw new CustomTokenException(ErrorCode.INVALID_TOKEN);
         } catch (ExpiredJwtException e) {
@@ -94,18 +149,25 @@ public class JwtUtil {
     }
 
     public Authentication getAuthentication(String token){
-        Claims claims = parseClaims(token, accessKey);
+        return getAuthentication(parseClaims(token, accessParser));
+    }
+
+    // 이미 검증된 claims로 Authentication 생성
+    public Authentication getAuthentication(Claims claims){
         List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(claims.get("role").toString()));
-        User principal = new User(claims.getSubject(), "", authorities); // 서비스 로직의 User 엔티티와 다른 클래스
+        AuthenticatedUser principal = new AuthenticatedUser(claims.getSubject(), getUserId(claims), authorities);
         return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
-    private Claims parseClaims(String token, Key key) {
+    // userId 클레임이 없는 이전 토큰의 경우 null
+    public Long getUserId(Claims claims){
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return (userId != null) ? userId.longValue() : null;
+    }
+
+    private Claims parseClaims(String token, JwtParser parser) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         } catch (JwtException e) {
@@ -115,7 +177,7 @@ public class JwtUtil {
 
     public boolean isAccessTokenExpired(String accessToken) {
         try {
-            Claims claims = Jwts.parserBuilder().setSigningKey(accessKey).build().parseClaimsJws(accessToken).getBody();
+            Claims claims = accessParser.parseClaimsJws(accessToken).getBody();
             return claims.getExpiration().before(new Date());
         } catch (ExpiredJwtException e){
             return true;
@@ -124,9 +186,14 @@ public class JwtUtil {
         }
     }
 
+    private String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
     public Claims getRefreshTokenClaims(String refreshToken) {
         validateRefreshToken(refreshToken);
-        return parseClaims(refreshToken, refreshKey);
+        return parseClaims(refreshToken, refreshParser);
     }
 
     public int getAccessTokenMaxAge() {
@@ -0,0 +1,36 @@
+package com.mmc.bookduck.global.sqlmonitor;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// DataSource를 감싸 실행된 쿼리와 조회 행 수를 집계 (프로필별 설정에서 켬)
+@Component
+public class SqlMonitoringDataSourcePostProcessor implements BeanPostProcessor {
+    @Value("${sql.monitoring.enabled:false}")
+    private boolean enabled;
+
+    // 행 수 집계는 ResultSet의 모든 호출을 프록시로 감싸므로 따로 켬
+    @Value("${sql.monitoring.row-count.enabled:false}")
+    private boolean rowCountEnabled;
+
+    private final SqlStatementListener listener = new SqlStatementListener();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(listener);
+        if (rowCountEnabled) {
+            builder.methodListener(listener).proxyResultSet();
+        }
+        return builder.build();
+    }
+}
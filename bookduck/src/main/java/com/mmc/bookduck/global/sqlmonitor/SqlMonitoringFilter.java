@@ -0,0 +1,118 @@
+package com.mmc.bookduck.global.sqlmonitor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+// 요청별 SQL 실행 수, 조회 행 수, DB 시간을 핸들러 단위로 기록하고 N+1 의심 요청을 로그로 남김.
+// 보안 필터에서 실행되는 사용자 조회도 포함하도록 가장 먼저 실행됨
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_HANDLER = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.monitoring.enabled:false}")
+    private boolean enabled;
+
+    @Value("${sql.monitoring.row-count.enabled:false}")
+    private boolean rowCountEnabled;
+
+    // 요청 하나에서 허용하는 SQL 실행 수
+    @Value("${sql.monitoring.statement-budget:30}")
+    private int statementBudget;
+
+    // 같은 형태의 쿼리가 이 횟수를 넘으면 N+1로 판단
+    @Value("${sql.monitoring.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats stats = SqlRequestContext.end();
+            if (stats != null && stats.getStatementCount() > 0) {
+                report(request, stats);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlRequestStats stats) {
+        String handler = resolveHandler(request);
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        if (rowCountEnabled) {
+            DistributionSummary.builder("http.server.requests.sql.rows")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .record(stats.getRowCount());
+        }
+        Timer.builder("http.server.requests.sql.time")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(stats.getDbTimeMillis()));
+
+        Map.Entry<String, Integer> mostRepeated = stats.getMostRepeatedShape();
+        boolean isOverBudget = stats.getStatementCount() > statementBudget;
+        boolean isRepeated = mostRepeated != null && mostRepeated.getValue() > repeatThreshold;
+        if (isOverBudget) {
+            flaggedCounter(handler, "budget").increment();
+        }
+        if (isRepeated) {
+            flaggedCounter(handler, "repeated").increment();
+        }
+        if (isOverBudget || isRepeated) {
+            log.warn("sql.flagged handler={} method={} uri={} statements={} budget={} rows={} dbTimeMs={} repeatCount={} repeatThreshold={} shape=\"{}\"",
+                    handler, request.getMethod(), request.getRequestURI(),
+                    stats.getStatementCount(), statementBudget, stats.getRowCount(), stats.getDbTimeMillis(),
+                    mostRepeated.getValue(), repeatThreshold, mostRepeated.getKey());
+        }
+    }
+
+    private Counter flaggedCounter(String handler, String reason) {
+        return Counter.builder("http.server.requests.sql.flagged")
+                .tag("handler", handler)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // 컨트롤러 메소드 이름 (매핑되지 않은 요청은 none)
+    private String resolveHandler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return UNKNOWN_HANDLER;
+    }
+}
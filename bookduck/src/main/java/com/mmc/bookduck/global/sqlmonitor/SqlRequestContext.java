@@ -0,0 +1,24 @@
+package com.mmc.bookduck.global.sqlmonitor;
+
+// 요청 스레드에 SQL 집계를 묶어둠 (다른 스레드에서 실행된 쿼리는 집계되지 않음)
+public final class SqlRequestContext {
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private SqlRequestContext() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new SqlRequestStats());
+    }
+
+    // 집계 중이 아니면 null
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+}
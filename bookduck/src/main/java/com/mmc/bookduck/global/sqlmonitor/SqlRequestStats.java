@@ -0,0 +1,37 @@
+package com.mmc.bookduck.global.sqlmonitor;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청 하나 동안 실행된 SQL 집계
+@Getter
+public class SqlRequestStats {
+    private int statementCount;
+    private long rowCount;
+    private long dbTimeMillis;
+    // 쿼리 형태별 실행 횟수
+    private final Map<String, Integer> shapeCounts = new HashMap<>();
+
+    void recordStatement(String shape, long elapsedMillis) {
+        statementCount++;
+        dbTimeMillis += elapsedMillis;
+        shapeCounts.merge(shape, 1, Integer::sum);
+    }
+
+    void recordRow() {
+        rowCount++;
+    }
+
+    // 가장 많이 반복된 쿼리 형태 (실행된 쿼리가 없으면 null)
+    public Map.Entry<String, Integer> getMostRepeatedShape() {
+        Map.Entry<String, Integer> mostRepeated = null;
+        for (Map.Entry<String, Integer> entry : shapeCounts.entrySet()) {
+            if (mostRepeated == null || entry.getValue() > mostRepeated.getValue()) {
+                mostRepeated = entry;
+            }
+        }
+        return mostRepeated;
+    }
+}
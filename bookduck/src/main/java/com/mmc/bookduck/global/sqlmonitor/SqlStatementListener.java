@@ -0,0 +1,46 @@
+package com.mmc.bookduck.global.sqlmonitor;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+// JDBC 실행을 현재 요청의 집계에 반영
+public class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestContext.current();
+        if (stats == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        // 배치는 한 번의 실행으로 세고 첫 쿼리의 형태로 기록
+        String shape = SqlShapeNormalizer.normalize(queryInfoList.get(0).getQuery());
+        stats.recordStatement(shape, execInfo.getElapsedTime());
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    // ResultSet.next()가 true를 반환할 때마다 한 행으로 셈
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof ResultSet)
+                || !"next".equals(executionContext.getMethod().getName())
+                || !Boolean.TRUE.equals(executionContext.getResult())) {
+            return;
+        }
+        SqlRequestStats stats = SqlRequestContext.current();
+        if (stats != null) {
+            stats.recordRow();
+        }
+    }
+}
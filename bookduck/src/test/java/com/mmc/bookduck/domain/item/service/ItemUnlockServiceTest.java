@@ -0,0 +1,39 @@
+package com.mmc.bookduck.domain.item.service;
+
+import com.mmc.bookduck.domain.book.entity.GenreName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 아이템 언락 조건("장르+장르%필요 기록 수")을 장르별 기록 수로 판단하는지 확인한다.
+ */
+class ItemUnlockServiceTest {
+    private static final Map<GenreName, Integer> RECORD_COUNT_BY_GENRE = Map.of(
+            GenreName.FICTION, 3,
+            GenreName.LITERARY, 2
+    );
+
+    @Test
+    void matchingGenresAreSummed() {
+        assertTrue(ItemUnlockService.isUnlockConditionMet("FICTION+LITERARY%5", RECORD_COUNT_BY_GENRE));
+        assertTrue(ItemUnlockService.isUnlockConditionMet("FICTION%3", RECORD_COUNT_BY_GENRE));
+        assertFalse(ItemUnlockService.isUnlockConditionMet("FICTION%4", RECORD_COUNT_BY_GENRE));
+    }
+
+    @Test
+    void nonMatchingGenreCountsAsZero() {
+        assertFalse(ItemUnlockService.isUnlockConditionMet("SCIENCE%1", RECORD_COUNT_BY_GENRE));
+        assertTrue(ItemUnlockService.isUnlockConditionMet("SCIENCE%0", RECORD_COUNT_BY_GENRE));
+    }
+
+    @Test
+    void unknownGenreIsSkippedWithoutFailing() {
+        assertFalse(ItemUnlockService.isUnlockConditionMet("NOT_A_GENRE%1", RECORD_COUNT_BY_GENRE));
+        // 알 수 없는 장르가 섞여 있어도 나머지 장르는 그대로 셈
+        assertTrue(ItemUnlockService.isUnlockConditionMet("NOT_A_GENRE+FICTION%3", RECORD_COUNT_BY_GENRE));
+    }
+}
@@ -0,0 +1,80 @@
+package com.mmc.bookduck.domain.sync.service;
+
+import com.mmc.bookduck.domain.archive.repository.ExcerptRepository;
+import com.mmc.bookduck.domain.archive.repository.ReviewRepository;
+import com.mmc.bookduck.domain.book.repository.UserBookRepository;
+import com.mmc.bookduck.domain.folder.repository.FolderBookRepository;
+import com.mmc.bookduck.domain.folder.repository.FolderRepository;
+import com.mmc.bookduck.domain.oneline.repository.OneLineRepository;
+import com.mmc.bookduck.domain.sync.dto.response.SyncResponseDto;
+import com.mmc.bookduck.domain.sync.repository.ChangeLogRepository;
+import com.mmc.bookduck.domain.sync.repository.UserSyncVersionRepository;
+import com.mmc.bookduck.domain.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기록된 쓰기가 없어 user_sync_version 행이 없는 사용자(버전 0)의 동기화를 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private UserService userService;
+    @Mock
+    private UserSyncVersionRepository userSyncVersionRepository;
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+    @Mock
+    private UserBookRepository userBookRepository;
+    @Mock
+    private FolderRepository folderRepository;
+    @Mock
+    private FolderBookRepository folderBookRepository;
+    @Mock
+    private ExcerptRepository excerptRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private OneLineRepository oneLineRepository;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        when(userService.getCurrentUserId()).thenReturn(USER_ID);
+        when(userSyncVersionRepository.findById(USER_ID)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void userWithoutVersionRowIsResetOnlyOnFirstSync() {
+        SyncResponseDto first = syncService.getChanges(null, 100);
+        assertTrue(first.resetRequired());
+        assertEquals(0L, first.nextVersion());
+
+        SyncResponseDto second = syncService.getChanges(first.nextVersion(), 100);
+        assertFalse(second.resetRequired());
+        assertFalse(second.hasMore());
+        assertEquals(0L, second.nextVersion());
+        assertTrue(second.userBooks().isEmpty());
+        assertTrue(second.deleted().isEmpty());
+        verify(changeLogRepository, never()).findByUserIdAndVersionGreaterThanOrderByVersionAsc(anyLong(), anyLong(), any());
+    }
+}
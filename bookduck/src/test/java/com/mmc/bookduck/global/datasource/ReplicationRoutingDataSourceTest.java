@@ -0,0 +1,180 @@
+package com.mmc.bookduck.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 임베디드 DB를 primary와 복제본으로 두고, 트랜잭션 종류와 복제 지연, 최근 쓰기 여부에 따라 어느 DB에서 쿼리가 실행되는지 확인한다.
+ * 각 DB의 db_role 테이블에 자기 이름을 넣어 두고 조회 결과로 구분한다.
+ */
+class ReplicationRoutingDataSourceTest {
+    private static final Duration MAX_LAG = Duration.ofSeconds(3);
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(5);
+
+    private final Map<String, EmbeddedDatabase> databases = new LinkedHashMap<>();
+    // 복제본별 측정 지연 (값이 없으면 측정 실패)
+    private final Map<DataSource, Duration> replicaLags = new ConcurrentHashMap<>();
+    private final AtomicLong tickerNanos = new AtomicLong();
+
+    private ReplicaHealthMonitor replicaHealthMonitor;
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedDatabase primary = embeddedDatabase("primary");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : List.of("replica-0", "replica-1")) {
+            EmbeddedDatabase replica = embeddedDatabase(name);
+            replicas.put(name, replica);
+            replicaLags.put(replica, Duration.ZERO);
+        }
+
+        ReplicaLagProbe lagProbe = replica -> {
+            Duration lag = replicaLags.get(replica);
+            if (lag == null) {
+                throw new SQLException("replica unreachable");
+            }
+            return lag;
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        replicaHealthMonitor = new ReplicaHealthMonitor(replicas, lagProbe, MAX_LAG, meterRegistry);
+        ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(READ_YOUR_WRITES_WINDOW, tickerNanos::get);
+        routingDataSource = new ReplicationRoutingDataSource(primary, replicaHealthMonitor, readYourWritesTracker, meterRegistry);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        transactionManager.addListener(readYourWritesTracker);
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        replicaHealthMonitor.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        databases.values().forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertEquals(Set.of("replica-0", "replica-1"), Set.of(readOnlyRole(), readOnlyRole()));
+    }
+
+    @Test
+    void readWriteTransactionAndNonTransactionalQueryUsePrimary() {
+        assertEquals("primary", readWriteTransaction.execute(status -> currentRole()));
+        assertEquals("primary", currentRole());
+    }
+
+    @Test
+    void laggingReplicaIsSkippedUntilItCatchesUp() {
+        replicaLags.put(databases.get("replica-0"), MAX_LAG.plusSeconds(1));
+        replicaHealthMonitor.refresh();
+        assertEquals(Set.of("replica-1"), readOnlyRoles(4));
+
+        replicaLags.put(databases.get("replica-0"), Duration.ZERO);
+        replicaHealthMonitor.refresh();
+        assertEquals(Set.of("replica-0", "replica-1"), readOnlyRoles(4));
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicaIsHealthy() {
+        replicaLags.put(databases.get("replica-0"), MAX_LAG.plusSeconds(1));
+        replicaLags.remove(databases.get("replica-1"));
+        replicaHealthMonitor.refresh();
+
+        assertEquals(Set.of("primary"), readOnlyRoles(4));
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryWithinWindow() {
+        authenticate("writer@bookduck.com");
+        readWriteTransaction.executeWithoutResult(status -> jdbcTemplate.update("update db_role set name = name"));
+
+        assertEquals(Set.of("primary"), readOnlyRoles(4));
+
+        // 다른 사용자는 영향 없음
+        authenticate("reader@bookduck.com");
+        assertEquals(Set.of("replica-0", "replica-1"), readOnlyRoles(4));
+
+        // 창이 지나면 다시 복제본
+        authenticate("writer@bookduck.com");
+        tickerNanos.addAndGet(READ_YOUR_WRITES_WINDOW.plusMillis(1).toNanos());
+        assertEquals(Set.of("replica-0", "replica-1"), readOnlyRoles(4));
+    }
+
+    @Test
+    void rolledBackOrReadOnlyTransactionDoesNotPinUserToPrimary() {
+        authenticate("writer@bookduck.com");
+        readWriteTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("update db_role set name = name");
+            status.setRollbackOnly();
+        });
+        readOnlyTransaction.executeWithoutResult(status -> currentRole());
+
+        assertEquals(Set.of("replica-0", "replica-1"), readOnlyRoles(4));
+    }
+
+    private String readOnlyRole() {
+        return readOnlyTransaction.execute(status -> currentRole());
+    }
+
+    private Set<String> readOnlyRoles(int count) {
+        Set<String> roles = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            roles.add(readOnlyRole());
+        }
+        return roles;
+    }
+
+    private String currentRole() {
+        return jdbcTemplate.queryForObject("select name from db_role", String.class);
+    }
+
+    private void authenticate(String email) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, "", authorities));
+    }
+
+    private EmbeddedDatabase embeddedDatabase(String role) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("create table db_role (name varchar(20))");
+        template.update("insert into db_role (name) values (?)", role);
+        databases.put(role, database);
+        return database;
+    }
+}
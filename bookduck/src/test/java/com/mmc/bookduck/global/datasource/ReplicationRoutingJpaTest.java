@@ -0,0 +1,228 @@
+package com.mmc.bookduck.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 애플리케이션과 같은 구성(JpaTransactionManager, Hibernate, Spring Data 리포지토리)으로 라우팅을 확인한다.
+ * Hibernate는 트랜잭션을 시작할 때 커넥션을 요청하지만 읽기 전용 여부는 그 뒤에 정해지므로,
+ * 실제 커넥션은 첫 쿼리에서 얻어 라우팅되어야 한다. 각 DB의 routing_note(id = 1)에 자기 이름을 넣어 두고 조회 결과로 구분한다.
+ */
+class ReplicationRoutingJpaTest {
+    private static final Duration MAX_LAG = Duration.ofSeconds(3);
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(5);
+    private static final Set<String> REPLICAS = Set.of("replica-0", "replica-1");
+
+    private final Map<String, EmbeddedDatabase> databases = new LinkedHashMap<>();
+    private final AtomicLong tickerNanos = new AtomicLong();
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private RoutingNoteRepository routingNoteRepository;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedDatabase primary = embeddedDatabase("primary");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : List.of("replica-0", "replica-1")) {
+            replicas.put(name, embeddedDatabase(name));
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReplicaHealthMonitor replicaHealthMonitor = new ReplicaHealthMonitor(replicas, replica -> Duration.ZERO, MAX_LAG, meterRegistry);
+        ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(READ_YOUR_WRITES_WINDOW, tickerNanos::get);
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(primary, replicaHealthMonitor, readYourWritesTracker, meterRegistry);
+        replicaHealthMonitor.refresh();
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(routingDataSource);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setManagedTypes(() -> List.of(RoutingNote.class.getName()));
+        // JpaConfig와 같은 커넥션 반납 방식
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION",
+                "hibernate.hbm2ddl.auto", "none"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.addListener(readYourWritesTracker);
+        transactionManager.afterPropertiesSet();
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        EntityManager sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        routingNoteRepository = new JpaRepositoryFactory(sharedEntityManager).getRepository(RoutingNoteRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        entityManagerFactoryBean.destroy();
+        databases.values().forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    void readOnlyTransactionReadsFromReplica() {
+        assertEquals(REPLICAS, readOnlyRoles(4));
+    }
+
+    @Test
+    void readWriteTransactionReadsAndWritesOnPrimary() {
+        String role = readWriteTransaction.execute(status -> {
+            routingNoteRepository.save(new RoutingNote(2L, "written"));
+            return routingNoteRepository.findById(1L).orElseThrow().getContent();
+        });
+
+        assertEquals("primary", role);
+        assertEquals(2, noteCount("primary"));
+        assertEquals(1, noteCount("replica-0"));
+        assertEquals(1, noteCount("replica-1"));
+    }
+
+    @Test
+    void readOnlyTransactionAfterWriteReadsOwnWriteFromPrimary() {
+        authenticate("writer@bookduck.com");
+        readWriteTransaction.executeWithoutResult(status -> routingNoteRepository.save(new RoutingNote(2L, "written")));
+
+        assertEquals(Set.of("primary"), readOnlyRoles(4));
+        assertTrue(readOnlyTransaction.execute(status -> routingNoteRepository.existsById(2L)));
+
+        // 다른 사용자는 계속 복제본
+        authenticate("reader@bookduck.com");
+        assertEquals(REPLICAS, readOnlyRoles(4));
+    }
+
+    @Test
+    void sameEntityManagerReadsFromReplicaThenWritesOnPrimary() {
+        // open-in-view처럼 요청 하나가 같은 EntityManager로 여러 트랜잭션을 실행
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            authenticate("writer@bookduck.com");
+            String readRole = readOnlyTransaction.execute(status -> routingNoteRepository.findById(1L).orElseThrow().getContent());
+            assertTrue(REPLICAS.contains(readRole));
+
+            // 읽기 전용 트랜잭션이 끝나면 커넥션을 반납하므로 다음 트랜잭션은 primary 커넥션을 새로 얻음
+            long countInWrite = readWriteTransaction.execute(status -> {
+                routingNoteRepository.save(new RoutingNote(2L, "written"));
+                return routingNoteRepository.countNotes();
+            });
+            assertEquals(2, countInWrite);
+            assertEquals(2, noteCount("primary"));
+
+            String readAfterWrite = readOnlyTransaction.execute(status -> routingNoteRepository.findContentById(1L));
+            assertEquals("primary", readAfterWrite);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void writeInsideReadOnlyTransactionIsNotFlushed() {
+        readOnlyTransaction.executeWithoutResult(status -> routingNoteRepository.save(new RoutingNote(2L, "written")));
+
+        databases.keySet().forEach(role -> assertEquals(1, noteCount(role)));
+    }
+
+    private Set<String> readOnlyRoles(int count) {
+        Set<String> roles = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            // 영속성 컨텍스트의 캐시가 아닌 DB 조회 결과를 보도록 스칼라로 조회
+            roles.add(readOnlyTransaction.execute(status -> routingNoteRepository.findContentById(1L)));
+        }
+        return roles;
+    }
+
+    private int noteCount(String role) {
+        return new JdbcTemplate(databases.get(role)).queryForObject("select count(*) from routing_note", Integer.class);
+    }
+
+    private void authenticate(String email) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, "", authorities));
+    }
+
+    private EmbeddedDatabase embeddedDatabase(String role) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("create table routing_note (id bigint primary key, content varchar(20))");
+        template.update("insert into routing_note (id, content) values (1, ?)", role);
+        databases.put(role, database);
+        return database;
+    }
+
+    @Entity(name = "RoutingNote")
+    @Table(name = "routing_note")
+    static class RoutingNote {
+        @Id
+        private Long id;
+        private String content;
+
+        protected RoutingNote() {
+        }
+
+        RoutingNote(Long id, String content) {
+            this.id = id;
+            this.content = content;
+        }
+
+        String getContent() {
+            return content;
+        }
+    }
+
+    interface RoutingNoteRepository extends JpaRepository<RoutingNote, Long> {
+        @Query("SELECT n.content FROM RoutingNote n WHERE n.id = :id")
+        String findContentById(@Param("id") Long id);
+
+        @Query("SELECT COUNT(n) FROM RoutingNote n")
+        long countNotes();
+    }
+}